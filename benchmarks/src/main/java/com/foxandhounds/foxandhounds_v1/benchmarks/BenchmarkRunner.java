@@ -0,0 +1,39 @@
+package com.foxandhounds.foxandhounds_v1.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar: JMH's command line, with JSON results and
+ * the GC (allocation) profiler on unless the command line says otherwise.
+ */
+public final class BenchmarkRunner {
+    // Default result file, in the working directory
+    public static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+        if (commandLine.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,163 @@
+package com.foxandhounds.foxandhounds_v1.benchmarks;
+
+import com.foxandhounds.foxandhounds_v1.controller.ai.PositionEvaluator;
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Microbenchmarks for Board operations and move generation. Every benchmark
+ * walks over all positions of the {@link PositionCorpus}, so the reported time
+ * is per corpus pass.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+
+    private List<PositionCorpus.Position> positions;
+    private final int[] moves = new int[PackedMove.MAX_HOUND_MOVES];
+    private final int[] scores = new int[PackedMove.MAX_HOUND_MOVES];
+    private final long[] foxTargets = new long[PackedMove.MAX_HOUND_MOVES];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        positions = PositionCorpus.create();
+    }
+
+    @Benchmark
+    public int generateHoundMoves() {
+        int total = 0;
+        for (PositionCorpus.Position position : positions) {
+            total += position.board.generateHoundMoves(moves, 0);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int generateFoxMoves() {
+        int total = 0;
+        for (PositionCorpus.Position position : positions) {
+            total += position.board.generateFoxMoves(moves, 0);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public void houndPossibleMoves(Blackhole blackhole) {
+        for (PositionCorpus.Position position : positions) {
+            for (Hound hound : position.hounds) {
+                blackhole.consume(hound.getPossibleMoves(position.board));
+            }
+        }
+    }
+
+    @Benchmark
+    public void foxPossibleMoves(Blackhole blackhole) {
+        for (PositionCorpus.Position position : positions) {
+            blackhole.consume(position.fox.getPossibleMoves(position.board));
+        }
+    }
+
+    @Benchmark
+    public int isValidMove() {
+        int valid = 0;
+        for (PositionCorpus.Position position : positions) {
+            Fox fox = position.fox;
+            for (int dr = -1; dr <= 1; dr += 2) {
+                for (int dc = -1; dc <= 1; dc += 2) {
+                    if (position.board.isValidMove(fox.getRow(), fox.getCol(), fox.getRow() + dr, fox.getCol() + dc, true)) {
+                        valid++;
+                    }
+                }
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public long moveAndUndo() {
+        long keys = 0;
+        for (PositionCorpus.Position position : positions) {
+            Board board = position.board;
+            int count = board.generateHoundMoves(moves, 0);
+            for (int m = 0; m < count; m++) {
+                int from = PackedMove.from(moves[m]);
+                int to = PackedMove.to(moves[m]);
+                board.movePiece(Bitboards.row(from), Bitboards.col(from), Bitboards.row(to), Bitboards.col(to));
+                keys ^= board.getZobristKey();
+                board.movePiece(Bitboards.row(to), Bitboards.col(to), Bitboards.row(from), Bitboards.col(from));
+            }
+        }
+        return keys;
+    }
+
+    @Benchmark
+    public long makeAndUnmake() {
+        long keys = 0;
+        for (PositionCorpus.Position position : positions) {
+            Board board = position.board;
+            int count = board.generateHoundMoves(moves, 0);
+            for (int m = 0; m < count; m++) {
+                board.makeMove(moves[m]);
+                keys ^= board.getZobristKey();
+                board.unmakeMove();
+            }
+        }
+        return keys;
+    }
+
+    @Benchmark
+    public int evaluateChildren() {
+        int total = 0;
+        for (PositionCorpus.Position position : positions) {
+            Board board = position.board;
+            int count = board.generateHoundMoves(moves, 0);
+            for (int m = 0; m < count; m++) {
+                board.makeMove(moves[m]);
+                total += PositionEvaluator.evaluate(board)
+                        + Long.bitCount(Bitboards.foxSteps(board.getFoxSquare()) & ~board.getOccupiedMask());
+                board.unmakeMove();
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int evaluateChildrenBatch() {
+        int total = 0;
+        for (PositionCorpus.Position position : positions) {
+            Board board = position.board;
+            int count = board.generateHoundMoves(moves, 0);
+            PositionEvaluator.evaluateHoundMoves(board.getFoxSquare(), board.getHoundMask(), moves, count,
+                    scores, foxTargets);
+            for (int m = 0; m < count; m++) {
+                total += scores[m] + Long.bitCount(foxTargets[m]);
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int isFoxBlocked() {
+        int blocked = 0;
+        for (PositionCorpus.Position position : positions) {
+            if (position.board.isFoxBlocked(position.fox.getRow(), position.fox.getCol())) {
+                blocked++;
+            }
+        }
+        return blocked;
+    }
+
+    @Benchmark
+    public void copyBoard(Blackhole blackhole) {
+        for (PositionCorpus.Position position : positions) {
+            blackhole.consume(new Board(position.board));
+        }
+    }
+}
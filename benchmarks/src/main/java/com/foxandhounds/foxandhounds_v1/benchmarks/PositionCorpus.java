@@ -0,0 +1,84 @@
+package com.foxandhounds.foxandhounds_v1.benchmarks;
+
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.util.*;
+
+/**
+ * Fixed set of mid-game positions with the hounds to move.
+ *
+ * Positions are taken from games of random moves played with a fixed seed, so
+ * every run (and every machine) benchmarks exactly the same positions.
+ */
+public final class PositionCorpus {
+    // Seed and size of the default corpus
+    public static final long SEED = 20240601L;
+    public static final int SIZE = 64;
+
+    // Only positions between these plies are kept (the opening and the very end are skipped)
+    private static final int MIN_PLY = 4;
+    private static final int MAX_PLY = 24;
+
+    /**
+     * A position with the pieces the strategies expect alongside the board
+     */
+    public static final class Position {
+        public final Board board;
+        public final Fox fox;
+        public final List<Hound> hounds;
+
+        Position(Board board) {
+            this.board = board;
+            this.fox = new Fox(Bitboards.row(board.getFoxSquare()), Bitboards.col(board.getFoxSquare()));
+            this.hounds = new ArrayList<>(board.getHoundCount());
+            for (int i = 0; i < board.getHoundCount(); i++) {
+                int square = board.getHoundSquare(i);
+                hounds.add(new Hound(Bitboards.row(square), Bitboards.col(square)));
+            }
+        }
+    }
+
+    private PositionCorpus() {
+    }
+
+    /**
+     * Builds the default corpus.
+     *
+     * @return SIZE positions with the hounds to move
+     */
+    public static List<Position> create() {
+        return create(SEED, SIZE);
+    }
+
+    /**
+     * Builds a corpus of positions from seeded random games.
+     *
+     * @param seed Random seed
+     * @param size Number of positions
+     * @return Positions with the hounds to move
+     */
+    public static List<Position> create(long seed, int size) {
+        Random random = new Random(seed);
+        List<Position> positions = new ArrayList<>(size);
+        int[] moves = new int[PackedMove.MAX_HOUND_MOVES];
+
+        while (positions.size() < size) {
+            Board board = new Board();
+            boolean foxToMove = true;
+            for (int ply = 0; ply < MAX_PLY && positions.size() < size; ply++) {
+                int count = foxToMove ? board.generateFoxMoves(moves, 0) : board.generateHoundMoves(moves, 0);
+                if (count == 0 || Bitboards.row(board.getFoxSquare()) == 0) {
+                    break; // Game over
+                }
+                if (!foxToMove && ply >= MIN_PLY) {
+                    positions.add(new Position(new Board(board)));
+                }
+                int move = moves[random.nextInt(count)];
+                int from = PackedMove.from(move);
+                int to = PackedMove.to(move);
+                board.movePiece(Bitboards.row(from), Bitboards.col(from), Bitboards.row(to), Bitboards.col(to));
+                foxToMove = !foxToMove;
+            }
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,83 @@
+package com.foxandhounds.foxandhounds_v1.benchmarks;
+
+import com.foxandhounds.foxandhounds_v1.controller.ai.*;
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Per-move latency (sampled, with percentiles) and throughput of each AI strategy
+ * over the {@link PositionCorpus}. Each invocation asks for the move in the next
+ * corpus position.
+ *
+ * The Expert strategy runs single-threaded to a fixed depth with no effective
+ * time limit, so its numbers measure search speed rather than the clock. It gets
+ * a small transposition table, cleared before each iteration: every search
+ * overwrites most of it, so by the time a corpus position comes round again its
+ * entries are gone and Expert measures searching rather than table hits. The
+ * other strategies keep nothing between moves that would skew the results, and
+ * are not reset (a per-invocation setup would distort their microsecond moves).
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StrategyBenchmark {
+
+    // Fixed search depth for the Expert strategy
+    private static final int EXPERT_DEPTH = 8;
+
+    // Expert's table: 2^12 entries (64 KB), far fewer than one search stores
+    private static final int EXPERT_TABLE_BITS = 12;
+
+    @Param({"EASY", "MEDIUM", "HARD", "EXPERT", "PERFECT"})
+    public String strategy;
+
+    private AIStrategy ai;
+    private AlphaBetaAIStrategy expert;
+    private List<PositionCorpus.Position> positions;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        positions = PositionCorpus.create();
+        switch (strategy) {
+            case "EASY":
+                ai = new EasyAIStrategy();
+                break;
+            case "MEDIUM":
+                ai = new MediumAIStrategy();
+                break;
+            case "HARD":
+                ai = new HardAIStrategy();
+                break;
+            case "EXPERT":
+                expert = new AlphaBetaAIStrategy(EXPERT_DEPTH, TimeUnit.MINUTES.toMillis(1), 1,
+                        new TranspositionTable(EXPERT_TABLE_BITS));
+                ai = expert;
+                break;
+            case "PERFECT":
+                ai = new PerfectPlayAIStrategy(EndgameSolver.solveInMemory(), new HardAIStrategy());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void clearExpertTable() {
+        if (expert != null) {
+            expert.newGame();
+        }
+    }
+
+    @Benchmark
+    public Move bestMove() {
+        PositionCorpus.Position position = positions.get(next);
+        next = (next + 1) % positions.size();
+        return ai.getBestMove(position.hounds, position.fox, position.board);
+    }
+}
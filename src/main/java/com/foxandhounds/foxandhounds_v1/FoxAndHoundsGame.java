@@ -1,10 +1,14 @@
 package com.foxandhounds.foxandhounds_v1;
 
+import com.foxandhounds.foxandhounds_v1.metrics.AIMetrics;
+import com.foxandhounds.foxandhounds_v1.metrics.AIMoveEvent;
+import com.foxandhounds.foxandhounds_v1.metrics.AIPhaseEvent;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
+import jdk.jfr.FlightRecorder;
 
 /**
  * Main application class for the Fox and Hounds game.
@@ -37,6 +41,16 @@ public class FoxAndHoundsGame extends Application {
      * @param args Command line arguments
      */
     public static void main(String[] args) {
+        // Publish the AI metrics over JMX and set up the Flight Recorder events
+        // (both take a few hundred milliseconds) without holding up the window
+        Thread metrics = new Thread(() -> {
+            AIMetrics.registerMBean();
+            FlightRecorder.register(AIMoveEvent.class);
+            FlightRecorder.register(AIPhaseEvent.class);
+        }, "metrics-startup");
+        metrics.setDaemon(true);
+        metrics.start();
+
         launch(args);
     }
 }
\ No newline at end of file
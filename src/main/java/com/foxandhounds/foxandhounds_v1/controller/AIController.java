@@ -1,5 +1,10 @@
 package com.foxandhounds.foxandhounds_v1.controller;
 
+import com.foxandhounds.foxandhounds_v1.logging.GameLog;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Category;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Level;
+import com.foxandhounds.foxandhounds_v1.metrics.AIMetrics;
+import com.foxandhounds.foxandhounds_v1.metrics.AIMoveEvent;
 import com.foxandhounds.foxandhounds_v1.controller.ai.*;
 import com.foxandhounds.foxandhounds_v1.model.*;
 import java.util.*;
@@ -15,19 +20,24 @@ public class AIController {
     public enum Difficulty {
         EASY,   // Beatable with basic strategy
         MEDIUM, // Challenging but possible to beat
-        HARD    // Nearly impossible to beat
+        HARD,   // Nearly impossible to beat
+        EXPERT  // Alpha-beta search over hound and fox replies
     }
 
-    // Current difficulty level
-    private Difficulty currentDifficulty;
+    // System property with the number of Expert search threads (defaults to all cores)
+    public static final String SEARCH_THREADS_PROPERTY = "foxandhounds.ai.threads";
+
+    // Current difficulty level (volatile: moves may be computed on a background thread)
+    private volatile Difficulty currentDifficulty;
 
     // Strategy implementations for each difficulty level
     private AIStrategy easyStrategy;
     private AIStrategy mediumStrategy;
     private AIStrategy hardStrategy;
+    private AIStrategy expertStrategy;
 
     // Currently active strategy
-    private AIStrategy currentStrategy;
+    private volatile AIStrategy currentStrategy;
 
     // Static counter to track strategy switches
     private static int strategyChangeCount = 0;
@@ -38,17 +48,53 @@ public class AIController {
      * @param difficulty Initial difficulty level
      */
     public AIController(Difficulty difficulty) {
+        this(difficulty, searchThreads());
+    }
+
+    /**
+     * Constructor with a given number of Expert search threads. Code that already
+     * runs many controllers in parallel can use 1 here.
+     *
+     * @param difficulty Initial difficulty level
+     * @param searchThreads Number of threads each Expert search uses
+     */
+    public AIController(Difficulty difficulty, int searchThreads) {
         // Initialize strategies
         this.easyStrategy = new EasyAIStrategy();
         this.mediumStrategy = new MediumAIStrategy();
-        this.hardStrategy = new HardAIStrategy();
+        this.hardStrategy = withOpeningBook(createHardStrategy());
+        this.expertStrategy = withOpeningBook(new AlphaBetaAIStrategy(AlphaBetaAIStrategy.DEFAULT_MAX_DEPTH,
+                AlphaBetaAIStrategy.DEFAULT_TIME_LIMIT_MILLIS, searchThreads));
 
         // Set initial difficulty
         setDifficulty(difficulty);
 
-        System.out.println("==================================================");
-        System.out.println("✅ AIController initialized with difficulty: " + difficulty);
-        System.out.println("==================================================");
+        if (GameLog.isEnabled(Category.AI, Level.INFO)) {
+            GameLog.log(Category.AI, Level.INFO, "✅ AIController initialized with difficulty: " + difficulty);
+        }
+    }
+
+    /**
+     * Hard plays perfectly from the endgame database when one is installed,
+     * and falls back to the heuristic strategy otherwise.
+     */
+    private static AIStrategy createHardStrategy() {
+        AIStrategy heuristic = new HardAIStrategy();
+        EndgameDatabase database = EndgameDatabase.openDefault();
+        return database != null ? new PerfectPlayAIStrategy(database, heuristic) : heuristic;
+    }
+
+    /**
+     * Plays the opening from the book when one is installed.
+     */
+    private static AIStrategy withOpeningBook(AIStrategy strategy) {
+        OpeningBook book = OpeningBook.openDefault();
+        return book != null ? new OpeningBookAIStrategy(book, strategy) : strategy;
+    }
+
+    private static int searchThreads() {
+        int threads = Integer.getInteger(SEARCH_THREADS_PROPERTY, Runtime.getRuntime().availableProcessors());
+        return Math.max(1, threads);
     }
 
     /**
@@ -64,28 +110,41 @@ public class AIController {
         this.currentDifficulty = difficulty;
 
         // Select appropriate strategy
+        currentStrategy = strategyFor(difficulty);
+
+        if (isChanging) {
+            strategyChangeCount++;
+            if (GameLog.isEnabled(Category.AI, Level.INFO)) {
+                GameLog.log(Category.AI, Level.INFO, "🔄 DIFFICULTY CHANGED: " + oldDifficulty + " -> " + difficulty);
+                GameLog.log(Category.AI, Level.INFO, "🔄 Strategy Change #" + strategyChangeCount);
+                GameLog.log(Category.AI, Level.INFO, "🔄 New Strategy Class: " + currentStrategy.getClass().getSimpleName());
+            }
+        }
+    }
+
+    private AIStrategy strategyFor(Difficulty difficulty) {
         switch (difficulty) {
             case EASY:
-                currentStrategy = easyStrategy;
-                break;
+                return easyStrategy;
             case MEDIUM:
-                currentStrategy = mediumStrategy;
-                break;
+                return mediumStrategy;
             case HARD:
-                currentStrategy = hardStrategy;
-                break;
+                return hardStrategy;
+            case EXPERT:
+                return expertStrategy;
             default:
-                currentStrategy = easyStrategy;
+                return easyStrategy;
         }
+    }
 
-        if (isChanging) {
-            strategyChangeCount++;
-            System.out.println("==================================================");
-            System.out.println("🔄 DIFFICULTY CHANGED: " + oldDifficulty + " -> " + difficulty);
-            System.out.println("🔄 Strategy Change #" + strategyChangeCount);
-            System.out.println("🔄 New Strategy Class: " + currentStrategy.getClass().getSimpleName());
-            System.out.println("==================================================");
-        }
+    /**
+     * Tells every strategy that a new game is starting.
+     */
+    public void newGame() {
+        easyStrategy.newGame();
+        mediumStrategy.newGame();
+        hardStrategy.newGame();
+        expertStrategy.newGame();
     }
 
     /**
@@ -97,23 +156,79 @@ public class AIController {
      * @return The best move for the AI
      */
     public Move getBestMove(List<Hound> hounds, Fox fox, Board board) {
-        System.out.println("==================================================");
-        System.out.println("🎮 AI MAKING MOVE with difficulty: " + currentDifficulty);
-        System.out.println("🎮 Using Strategy: " + currentStrategy.getClass().getSimpleName());
-        System.out.println("==================================================");
+        Difficulty difficulty = currentDifficulty;
+        return getBestMove(difficulty, currentStrategy, hounds, fox, board);
+    }
+
+    /**
+     * Gets the best move at a given difficulty, leaving the current difficulty
+     * unchanged (for a controller shared by games at different levels).
+     *
+     * @param difficulty Difficulty to play at
+     * @param hounds List of hounds
+     * @param fox The fox
+     * @param board The game board
+     * @return The best move for the AI
+     */
+    public Move getBestMove(Difficulty difficulty, List<Hound> hounds, Fox fox, Board board) {
+        return getBestMove(difficulty, strategyFor(difficulty), hounds, fox, board);
+    }
+
+    private Move getBestMove(Difficulty difficulty, AIStrategy strategy, List<Hound> hounds, Fox fox, Board board) {
+        long start = System.nanoTime();
+        Move move = findMove(difficulty, strategy, false, hounds, fox, board);
+        recordMove(difficulty, System.nanoTime() - start);
+        return move;
+    }
+
+    /**
+     * Computes a move without recording it in the AI metrics, for moves that may
+     * never be played: pondered replies, and background moves that can still be
+     * cancelled. Whoever plays the move records it with {@link #recordMove}.
+     *
+     * @param difficulty Difficulty to play at
+     * @param speculative true for a reply to a fox move not made yet (pondering)
+     * @param hounds List of hounds
+     * @param fox The fox
+     * @param board The game board
+     * @return The best move for the AI
+     */
+    public Move computeMove(Difficulty difficulty, boolean speculative, List<Hound> hounds, Fox fox, Board board) {
+        return findMove(difficulty, strategyFor(difficulty), speculative, hounds, fox, board);
+    }
+
+    /**
+     * Records the latency of a move that was played, for moves computed with
+     * {@link #computeMove}.
+     *
+     * @param difficulty Difficulty the move was computed for
+     * @param nanos Time taken to compute it
+     */
+    public static void recordMove(Difficulty difficulty, long nanos) {
+        AIMetrics.getInstance().recordMove(difficulty.name(), nanos);
+    }
+
+    private Move findMove(Difficulty difficulty, AIStrategy strategy, boolean speculative, List<Hound> hounds,
+                          Fox fox, Board board) {
+        AIMoveEvent event = AIMoveEvent.start(difficulty.name(), strategy.getClass().getSimpleName(), speculative);
+        if (GameLog.isEnabled(Category.AI, Level.DEBUG)) {
+            GameLog.log(Category.AI, Level.DEBUG, "🎮 AI MAKING MOVE with difficulty: " + difficulty);
+            GameLog.log(Category.AI, Level.DEBUG, "🎮 Using Strategy: " + strategy.getClass().getSimpleName());
+        }
 
         // Delegate to the appropriate strategy
-        Move move = currentStrategy.getBestMove(hounds, fox, board);
+        Move move = strategy.getBestMove(hounds, fox, board);
+        event.finish(move);
 
         if (move != null) {
-            Hound hound = hounds.get(move.getHoundIndex());
-            System.out.println("==================================================");
-            System.out.println("✅ AI chose move: Hound " + move.getHoundIndex() +
-                    " from (" + hound.getRow() + "," + hound.getCol() + ") to (" +
-                    move.getToRow() + "," + move.getToCol() + ")");
-            System.out.println("==================================================");
+            if (GameLog.isEnabled(Category.AI, Level.DEBUG)) {
+                Hound hound = hounds.get(move.getHoundIndex());
+                GameLog.log(Category.AI, Level.DEBUG, "✅ AI chose move: Hound " + move.getHoundIndex() +
+                        " from (" + hound.getRow() + "," + hound.getCol() + ") to (" +
+                        move.getToRow() + "," + move.getToCol() + ")");
+            }
         } else {
-            System.out.println("❌ AI could not find a valid move!");
+            GameLog.log(Category.AI, Level.WARN, "❌ AI could not find a valid move!");
         }
 
         return move;
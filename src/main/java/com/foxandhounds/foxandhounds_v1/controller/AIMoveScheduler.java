@@ -0,0 +1,275 @@
+package com.foxandhounds.foxandhounds_v1.controller;
+
+import com.foxandhounds.foxandhounds_v1.logging.GameLog;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Category;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Level;
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Computes AI moves on a dedicated background thread.
+ *
+ * Only one computation is pending at a time: requesting a new move or calling
+ * {@link #cancel()} interrupts the previous one (search strategies check the
+ * interrupt flag and return early) and cancels its future. The search works on
+ * a snapshot of the game (see {@link GameManager#prepareAIMove()}), so the
+ * caller's thread is free to keep using the GameManager meanwhile.
+ *
+ * While the fox is thinking, {@link #ponder(GameManager)} queues the AI's reply
+ * to each legal fox move. When the fox commits, {@link #requestMove(GameManager)}
+ * serves the matching reply (often already finished) and cancels the others.
+ *
+ * Only served moves are recorded in the AI metrics, with the time their
+ * computation took; pondered replies that are never requested and cancelled
+ * computations are not.
+ */
+public class AIMoveScheduler {
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "fox-and-hounds-ai");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Computation in progress for the current position (if any)
+    private Computation pending;
+
+    // Speculative replies for the fox's candidate moves, and the position version they were started at
+    private final List<PonderedMove> pondered = new ArrayList<>();
+    private long ponderVersion = -1;
+    private boolean ponderingEnabled = true;
+
+    // How often a requested move was (not) found among the pondered replies
+    private long ponderHits;
+    private long ponderMisses;
+
+    // Whether the last requested move was served from pondering
+    private boolean lastMovePondered;
+
+    /**
+     * Starts computing the AI move for the current position, cancelling any earlier
+     * request. If the reply to this fox move was pondered, that computation is reused.
+     *
+     * @param gameManager Game to move in (read on the calling thread only)
+     * @return Future completed with the chosen move (null if the AI has no move)
+     */
+    public synchronized CompletableFuture<Move> requestMove(GameManager gameManager) {
+        Computation reply = takePondered(gameManager);
+        // cancel() clears the pondering state, so note whether pondering ran first
+        boolean pondering = ponderVersion >= 0;
+        cancel();
+
+        lastMovePondered = reply != null;
+        if (reply != null) {
+            ponderHits++;
+            GameLog.log(Category.AI, Level.DEBUG, reply.move.isDone() ? "Ponder hit (ready)" : "Ponder hit (running)");
+        } else {
+            if (pondering) {
+                ponderMisses++;
+            }
+            reply = submit(gameManager.prepareAIMove(), gameManager.getAIDifficulty());
+        }
+        pending = reply;
+        Computation served = reply;
+        reply.move.thenAccept(move -> AIController.recordMove(served.difficulty, served.nanos));
+        return reply.move;
+    }
+
+    /**
+     * Starts computing the AI's reply to every legal fox move while the fox is to
+     * move. Does nothing if pondering is off, it is not the fox's turn, or this
+     * position is already being pondered.
+     *
+     * @param gameManager Game in which the fox is to move
+     */
+    public synchronized void ponder(GameManager gameManager) {
+        GameState gameState = gameManager.getGameState();
+        if (!ponderingEnabled || gameState.isGameOver() || !gameState.isFoxTurn()
+                || ponderVersion == gameManager.getPositionVersion()) {
+            return;
+        }
+        cancelPondering();
+        ponderVersion = gameManager.getPositionVersion();
+        Position position = gameManager.getPosition();
+
+        for (int[] move : gameManager.getFox().getPossibleMoves(gameManager.getBoard())) {
+            if (move[0] == 0) {
+                continue; // The fox escapes: there is no reply to compute
+            }
+            int foxMove = PackedMove.pack(PackedMove.FOX, position.getFoxSquare(), Bitboards.square(move[0], move[1]));
+            pondered.add(new PonderedMove(position.play(foxMove), submit(gameManager.prepareAIMove(move[0], move[1]),
+                    gameManager.getAIDifficulty())));
+        }
+        if (GameLog.isEnabled(Category.AI, Level.DEBUG)) {
+            GameLog.log(Category.AI, Level.DEBUG, "Pondering " + pondered.size() + " fox moves");
+        }
+    }
+
+    /**
+     * Resets the controller's strategies for a new game on the background thread,
+     * after whatever is running or queued there. Searches keep their tables in the
+     * strategies, so they must not be cleared while a (cancelled) search may still
+     * be using them.
+     *
+     * @param controller Controller whose moves this scheduler computes
+     */
+    public synchronized void newGame(AIController controller) {
+        if (!executor.isShutdown()) {
+            executor.execute(controller::newGame);
+        }
+    }
+
+    /**
+     * Turns pondering on or off (on by default).
+     *
+     * @param enabled true to ponder during the fox's turn
+     */
+    public synchronized void setPondering(boolean enabled) {
+        ponderingEnabled = enabled;
+        if (!enabled) {
+            cancelPondering();
+        }
+    }
+
+    /**
+     * Checks whether the move last requested with {@link #requestMove(GameManager)}
+     * was served from pondering, in which case it is usually ready already.
+     *
+     * @return true for a ponder hit
+     */
+    public synchronized boolean isLastMovePondered() {
+        return lastMovePondered;
+    }
+
+    /**
+     * Gets how many requested moves were served from pondering.
+     *
+     * @return Number of ponder hits
+     */
+    public synchronized long getPonderHits() {
+        return ponderHits;
+    }
+
+    /**
+     * Gets how many requested moves had to be computed although pondering ran.
+     *
+     * @return Number of ponder misses
+     */
+    public synchronized long getPonderMisses() {
+        return ponderMisses;
+    }
+
+    /**
+     * Cancels the pending computation and any pondering. Cancelled futures complete
+     * with a CancellationException and their results are never delivered.
+     */
+    public synchronized void cancel() {
+        if (pending != null) {
+            if (pending.cancel()) {
+                GameLog.log(Category.AI, Level.DEBUG, "Cancelled pending AI move");
+            }
+            pending = null;
+        }
+        cancelPondering();
+    }
+
+    /**
+     * Cancels any pending computation and stops the background thread.
+     */
+    public synchronized void shutdown() {
+        cancel();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Remove and return the pondered reply for the fox move just made, if the
+     * game is exactly one fox move past the pondered position
+     */
+    private Computation takePondered(GameManager gameManager) {
+        if (gameManager.getPositionVersion() != ponderVersion + 1) {
+            return null;
+        }
+        Position position = gameManager.getPosition();
+        for (int i = 0; i < pondered.size(); i++) {
+            PonderedMove candidate = pondered.get(i);
+            if (candidate.position.equals(position)) {
+                pondered.remove(i);
+                return candidate.computation;
+            }
+        }
+        return null;
+    }
+
+    private void cancelPondering() {
+        for (PonderedMove candidate : pondered) {
+            candidate.computation.cancel();
+        }
+        pondered.clear();
+        ponderVersion = -1;
+    }
+
+    private Computation submit(Callable<Move> task, AIController.Difficulty difficulty) {
+        Computation computation = new Computation(difficulty);
+        CompletableFuture<Move> move = computation.move;
+        computation.task = executor.submit(() -> {
+            if (move.isDone()) {
+                return; // Cancelled before it started
+            }
+            try {
+                long start = System.nanoTime();
+                Move result = task.call();
+                computation.nanos = System.nanoTime() - start;
+                move.complete(result);
+            } catch (Throwable t) {
+                move.completeExceptionally(t);
+            }
+        });
+        return computation;
+    }
+
+    /**
+     * A submitted AI computation: the executor task, the future of its result and
+     * what to record if it is served
+     */
+    private static final class Computation {
+        final CompletableFuture<Move> move = new CompletableFuture<>();
+        final AIController.Difficulty difficulty;
+        Future<?> task;
+
+        // Time the computation took, set before the move completes
+        long nanos;
+
+        Computation(AIController.Difficulty difficulty) {
+            this.difficulty = difficulty;
+        }
+
+        /**
+         * Cancel the result and interrupt the task if it is running
+         *
+         * @return true if the result had not been delivered yet
+         */
+        boolean cancel() {
+            boolean cancelled = move.cancel(false);
+            task.cancel(true);
+            return cancelled;
+        }
+    }
+
+    /**
+     * AI reply computed speculatively for the position after one fox move
+     */
+    private static final class PonderedMove {
+        final Position position;
+        final Computation computation;
+
+        PonderedMove(Position position, Computation computation) {
+            this.position = position;
+            this.computation = computation;
+        }
+    }
+}
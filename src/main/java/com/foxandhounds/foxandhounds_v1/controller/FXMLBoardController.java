@@ -1,7 +1,6 @@
 package com.foxandhounds.foxandhounds_v1.controller;
 
 import com.foxandhounds.foxandhounds_v1.model.*;
-import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.layout.GridPane;
@@ -149,16 +148,8 @@ public class FXMLBoardController implements Initializable {
                     gameState.setStatusMessage("Hounds' turn. AI is thinking...");
                     mainController.updateUI();
 
-                    // Let AI make its move after a short delay
-                    Platform.runLater(() -> {
-                        try {
-                            // Add a short delay for better user experience
-                            Thread.sleep(500);
-                            mainController.makeAIMove();
-                        } catch (InterruptedException e) {
-                            e.printStackTrace();
-                        }
-                    });
+                    // Let AI compute its move in the background (shown after a short delay)
+                    mainController.makeAIMove();
                 }
             } else {
                 // Invalid move, clear selection if clicked on non-valid cell
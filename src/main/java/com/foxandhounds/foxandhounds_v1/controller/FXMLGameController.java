@@ -1,6 +1,10 @@
 package com.foxandhounds.foxandhounds_v1.controller;
 
+import com.foxandhounds.foxandhounds_v1.logging.GameLog;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Category;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Level;
 import com.foxandhounds.foxandhounds_v1.model.GameState;
+import com.foxandhounds.foxandhounds_v1.model.Move;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
@@ -10,6 +14,9 @@ import javafx.scene.control.Label;
 
 import java.net.URL;
 import java.util.ResourceBundle;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * FXML Controller for the main game UI
@@ -19,6 +26,10 @@ import java.util.ResourceBundle;
  */
 public class FXMLGameController implements Initializable {
 
+    // Minimum time the "AI is thinking" status is shown, for better user experience
+    // (not applied to pondered replies, which are shown as soon as they are ready)
+    private static final long MIN_AI_DISPLAY_MILLIS = 500;
+
     @FXML
     private ComboBox<String> difficultyComboBox;
 
@@ -37,15 +48,20 @@ public class FXMLGameController implements Initializable {
     // The game manager
     private GameManager gameManager;
 
+    // Computes AI moves off the JavaFX application thread
+    private final AIMoveScheduler aiScheduler = new AIMoveScheduler();
+
     @Override
     public void initialize(URL url, ResourceBundle rb) {
         // Initialize the game manager
-        gameManager = new GameManager();
+        gameManager = new GameManager(aiScheduler);
 
         // Set up the difficulty combo box
-        difficultyComboBox.getItems().addAll("Easy", "Medium", "Hard");
+        difficultyComboBox.getItems().addAll("Easy", "Medium", "Hard", "Expert");
         difficultyComboBox.setValue("Easy");
         difficultyComboBox.setOnAction(e -> {
+            // A move being computed at the old difficulty is dropped
+            aiScheduler.cancel();
             switch (difficultyComboBox.getValue()) {
                 case "Easy":
                     gameManager.setAIDifficulty(AIController.Difficulty.EASY);
@@ -56,6 +72,15 @@ public class FXMLGameController implements Initializable {
                 case "Hard":
                     gameManager.setAIDifficulty(AIController.Difficulty.HARD);
                     break;
+                case "Expert":
+                    gameManager.setAIDifficulty(AIController.Difficulty.EXPERT);
+                    break;
+            }
+            GameState gameState = gameManager.getGameState();
+            if (!gameState.isGameOver() && !gameState.isFoxTurn()) {
+                makeAIMove();
+            } else {
+                aiScheduler.ponder(gameManager);
             }
         });
 
@@ -83,6 +108,9 @@ public class FXMLGameController implements Initializable {
         statusLabel.setText(gameState.getStatusMessage());
         turnLabel.setText(gameState.isFoxTurn() ? "Fox's Turn" : "Hounds' Turn");
 
+        // Work out the AI's replies while the fox is thinking
+        aiScheduler.ponder(gameManager);
+
         // Update the board UI
         if (boardPaneController != null) {
             boardPaneController.updateBoard();
@@ -94,6 +122,7 @@ public class FXMLGameController implements Initializable {
      */
     @FXML
     private void handleNewGame() {
+        aiScheduler.cancel();
         gameManager.initializeGame();
         if (boardPaneController != null) {
             boardPaneController.clearSelection();
@@ -102,18 +131,33 @@ public class FXMLGameController implements Initializable {
     }
 
     /**
-     * Called when AI makes a move
+     * Starts computing the AI's move in the background. The move is applied on the
+     * JavaFX thread once it is ready and, unless it was pondered, the minimum
+     * display time has passed, provided the game has not changed in the meantime.
      */
     public void makeAIMove() {
-        if (gameManager.makeAIMove()) {
-            // Update UI
-            Platform.runLater(() -> updateUI());
-        } else {
-            // If AI couldn't make a move, make sure we update the UI
-            Platform.runLater(() -> {
-                updateUI();
-                System.out.println("AI couldn't make a move!");
-            });
+        long version = gameManager.getPositionVersion();
+        CompletableFuture<Move> reply = aiScheduler.requestMove(gameManager);
+        if (!aiScheduler.isLastMovePondered()) {
+            CompletableFuture<Void> minimumDisplay = CompletableFuture.runAsync(() -> { },
+                    CompletableFuture.delayedExecutor(MIN_AI_DISPLAY_MILLIS, TimeUnit.MILLISECONDS));
+            reply = reply.thenCombine(minimumDisplay, (move, ignored) -> move);
         }
+
+        reply.whenCompleteAsync((move, error) -> {
+            if (error != null) {
+                if (!(error instanceof CancellationException || error.getCause() instanceof CancellationException)) {
+                    GameLog.log(Category.UI, Level.ERROR, "AI move failed", error);
+                }
+                return;
+            }
+            if (version != gameManager.getPositionVersion()) {
+                return; // New game or difficulty change while thinking
+            }
+            if (!gameManager.applyAIMove(move, version)) {
+                GameLog.log(Category.UI, Level.WARN, "AI couldn't make a move!");
+            }
+            updateUI();
+        }, Platform::runLater);
     }
-}
\ No newline at end of file
+}
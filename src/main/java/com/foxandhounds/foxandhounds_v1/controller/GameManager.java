@@ -1,8 +1,14 @@
 package com.foxandhounds.foxandhounds_v1.controller;
 
+import com.foxandhounds.foxandhounds_v1.logging.GameLog;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Category;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Level;
 import com.foxandhounds.foxandhounds_v1.model.*;
+import com.foxandhounds.foxandhounds_v1.recording.GameRecordWriter;
+import com.foxandhounds.foxandhounds_v1.recording.GameRecorder;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 /**
  * GameManager is the main controller class for the Fox and Hounds game.
@@ -19,9 +25,18 @@ public class GameManager {
     private GameState gameState;
     private AIController aiController;
 
+    // Runs AI moves in the background (null when moves are computed on the calling thread)
+    private final AIMoveScheduler aiScheduler;
+
     // Current difficulty level - added for tracking
     private AIController.Difficulty currentDifficulty = AIController.Difficulty.EASY;
 
+    // Incremented whenever the position changes, to detect stale AI results
+    private long positionVersion;
+
+    // Records finished games when a recording file is configured
+    private final GameRecorder recorder = new GameRecorder(GameRecordWriter.openDefault());
+
     // Interface for game state change listeners
     public interface GameStateListener {
         void onGameStateChanged();
@@ -34,6 +49,18 @@ public class GameManager {
      * Constructor initializes the game manager.
      */
     public GameManager() {
+        this(null);
+    }
+
+    /**
+     * Constructor for a game whose AI moves are computed by a scheduler. Strategy
+     * state is then only reset on the scheduler's thread, after any computation
+     * still running there.
+     *
+     * @param aiScheduler Scheduler computing this game's AI moves
+     */
+    public GameManager(AIMoveScheduler aiScheduler) {
+        this.aiScheduler = aiScheduler;
         board = new Board();
         hounds = new ArrayList<>();
         gameState = new GameState();
@@ -48,32 +75,56 @@ public class GameManager {
         // Initialize the board
         board.initializeBoard();
         // Print board for debugging
-        board.printBoard();
+        if (GameLog.isEnabled(Category.BOARD, Level.DEBUG)) {
+            board.printBoard();
+        }
 
         // Create hounds (clear the list first to avoid duplications)
         hounds.clear();
         for (int col = 1; col < Board.BOARD_SIZE; col += 2) {
             Hound hound = new Hound(0, col);
             hounds.add(hound);
-            System.out.println("Added hound at: 0," + col);
+            if (GameLog.isEnabled(Category.GAME, Level.DEBUG)) {
+                GameLog.log(Category.GAME, Level.DEBUG, "Added hound at: 0," + col);
+            }
         }
 
         // Create fox at the bottom left corner (7,0)
         fox = new Fox(Board.BOARD_SIZE - 1, 0);
-        System.out.println("Set fox at: " + (Board.BOARD_SIZE - 1) + ",0");
+        if (GameLog.isEnabled(Category.GAME, Level.DEBUG)) {
+            GameLog.log(Category.GAME, Level.DEBUG, "Set fox at: " + (Board.BOARD_SIZE - 1) + ",0");
+        }
 
         // Reset game state (fox goes first)
         gameState.reset();
+        positionVersion++;
+        recorder.start(currentDifficulty, Position.START);
 
         // Make sure we're using the current difficulty level
         aiController.setDifficulty(currentDifficulty);
+        resetAI();
 
-        System.out.println("Game initialized with difficulty: " + currentDifficulty);
+        if (GameLog.isEnabled(Category.GAME, Level.INFO)) {
+            GameLog.log(Category.GAME, Level.INFO, "Game initialized with difficulty: " + currentDifficulty);
+        }
 
         // Notify listeners of game state change
         notifyGameStateListeners();
     }
 
+    /**
+     * Tells the AI strategies a new game is starting. A cancelled search may still be
+     * running on the scheduler's thread with the same strategies, so the reset is
+     * queued behind it there.
+     */
+    private void resetAI() {
+        if (aiScheduler != null) {
+            aiScheduler.newGame(aiController);
+        } else {
+            aiController.newGame();
+        }
+    }
+
     /**
      * Adds a listener for game state changes.
      *
@@ -136,7 +187,18 @@ public class GameManager {
     public void setAIDifficulty(AIController.Difficulty difficulty) {
         this.currentDifficulty = difficulty;
         aiController.setDifficulty(difficulty);
-        System.out.println("Difficulty changed to: " + difficulty);
+        if (GameLog.isEnabled(Category.GAME, Level.INFO)) {
+            GameLog.log(Category.GAME, Level.INFO, "Difficulty changed to: " + difficulty);
+        }
+    }
+
+    /**
+     * Gets the AI difficulty level.
+     *
+     * @return Current difficulty
+     */
+    public AIController.Difficulty getAIDifficulty() {
+        return currentDifficulty;
     }
 
     /**
@@ -149,26 +211,35 @@ public class GameManager {
     public boolean moveFox(int toRow, int toCol) {
         // Check if it's the fox's turn and the game is not over
         if (gameState.isGameOver() || !gameState.isFoxTurn()) {
-            System.out.println("Cannot move fox: Game over or not fox's turn");
+            GameLog.log(Category.GAME, Level.DEBUG, "Cannot move fox: Game over or not fox's turn");
             return false;
         }
 
-        System.out.println("Attempting fox move to: " + toRow + "," + toCol);
-        System.out.println("Current fox position: " + fox.getRow() + "," + fox.getCol());
+        if (GameLog.isEnabled(Category.GAME, Level.DEBUG)) {
+            GameLog.log(Category.GAME, Level.DEBUG, "Attempting fox move to: " + toRow + "," + toCol);
+        }
+        if (GameLog.isEnabled(Category.GAME, Level.DEBUG)) {
+            GameLog.log(Category.GAME, Level.DEBUG, "Current fox position: " + fox.getRow() + "," + fox.getCol());
+        }
 
         // Check if the move is valid
         if (board.isValidMove(fox.getRow(), fox.getCol(), toRow, toCol, true)) {
             // Update the board
+            recorder.record(Bitboards.square(fox.getRow(), fox.getCol()), Bitboards.square(toRow, toCol));
             board.movePiece(fox.getRow(), fox.getCol(), toRow, toCol);
 
             // Update the fox position
             fox.move(toRow, toCol);
-            System.out.println("Fox moved to: " + toRow + "," + toCol);
+            positionVersion++;
+            if (GameLog.isEnabled(Category.GAME, Level.DEBUG)) {
+                GameLog.log(Category.GAME, Level.DEBUG, "Fox moved to: " + toRow + "," + toCol);
+            }
 
             // Check if fox has escaped
             if (board.hasFoxEscaped(fox.getRow())) {
                 gameState.setGameOver(GameState.Winner.FOX);
-                System.out.println("Fox has escaped! Game over.");
+                recorder.finish(GameState.Winner.FOX);
+                GameLog.log(Category.GAME, Level.INFO, "Fox has escaped! Game over.");
                 notifyGameStateListeners();
                 return true;
             }
@@ -178,11 +249,64 @@ public class GameManager {
             notifyGameStateListeners();
             return true;
         } else {
-            System.out.println("Invalid fox move!");
+            GameLog.log(Category.GAME, Level.DEBUG, "Invalid fox move!");
             return false;
         }
     }
 
+    /**
+     * Gets the position version, which changes on every move and new game.
+     *
+     * @return Current position version
+     */
+    public long getPositionVersion() {
+        return positionVersion;
+    }
+
+    /**
+     * Gets an immutable snapshot of the current position.
+     *
+     * @return Position with the side to move
+     */
+    public Position getPosition() {
+        return Position.of(board, !gameState.isFoxTurn());
+    }
+
+    /**
+     * Sets up the board with a position and continues the game from there.
+     * The hound list is rebuilt in ascending square order.
+     *
+     * @param position Position to load
+     */
+    public void loadPosition(Position position) {
+        position.copyTo(board);
+
+        hounds.clear();
+        for (int i = 0; i < board.getHoundCount(); i++) {
+            int square = board.getHoundSquare(i);
+            hounds.add(new Hound(Bitboards.row(square), Bitboards.col(square)));
+        }
+        fox = new Fox(Bitboards.row(position.getFoxSquare()), Bitboards.col(position.getFoxSquare()));
+
+        gameState.reset();
+        gameState.setFoxTurn(!position.isHoundsToMove());
+        positionVersion++;
+        recorder.start(currentDifficulty, position);
+        resetAI();
+
+        // A loaded position can already be decided
+        if (board.hasFoxEscaped(fox.getRow())) {
+            gameState.setGameOver(GameState.Winner.FOX);
+        } else if (!position.isHoundsToMove() && board.isFoxBlocked(fox.getRow(), fox.getCol())) {
+            gameState.setGameOver(GameState.Winner.HOUNDS);
+        }
+
+        if (GameLog.isEnabled(Category.GAME, Level.INFO)) {
+            GameLog.log(Category.GAME, Level.INFO, "Loaded " + position);
+        }
+        notifyGameStateListeners();
+    }
+
     /**
      * Makes an AI move for the hounds.
      *
@@ -191,35 +315,101 @@ public class GameManager {
     public boolean makeAIMove() {
         // Check if it's the hounds' turn and the game is not over
         if (gameState.isGameOver() || gameState.isFoxTurn()) {
-            System.out.println("Cannot make AI move: Game over or fox's turn");
+            GameLog.log(Category.GAME, Level.DEBUG, "Cannot make AI move: Game over or fox's turn");
             return false;
         }
 
-        System.out.println("AI making move with difficulty: " + currentDifficulty);
+        if (GameLog.isEnabled(Category.GAME, Level.DEBUG)) {
+            GameLog.log(Category.GAME, Level.DEBUG, "AI making move with difficulty: " + currentDifficulty);
+        }
 
         // Let AI choose the best move
-        Move move = aiController.getBestMove(hounds, fox, board);
+        return applyAIMove(aiController.getBestMove(hounds, fox, board));
+    }
+
+    /**
+     * Captures the current position for computing the AI's move on another thread.
+     * The returned task works on copies of the board and pieces, so this game can
+     * keep changing (or be reset) while it runs. Pass its result to
+     * {@link #applyAIMove(Move, long)} together with the version it was prepared at.
+     *
+     * The task does not record the move in the AI metrics, since it may be cancelled;
+     * the caller records the moves it serves with {@link AIController#recordMove}.
+     *
+     * @return Task computing the AI move for the position as it is now
+     */
+    public Callable<Move> prepareAIMove() {
+        return prepareAIMove(fox.getRow(), fox.getCol(), false);
+    }
+
+    /**
+     * Like {@link #prepareAIMove()}, but for the position after the fox moves to the
+     * given square (used to ponder the AI's replies while the fox is thinking).
+     *
+     * @param foxRow Row the fox is assumed to be on
+     * @param foxCol Column the fox is assumed to be on
+     * @return Task computing the AI move for that position
+     */
+    public Callable<Move> prepareAIMove(int foxRow, int foxCol) {
+        return prepareAIMove(foxRow, foxCol, true);
+    }
 
+    private Callable<Move> prepareAIMove(int foxRow, int foxCol, boolean speculative) {
+        Board boardCopy = new Board(board);
+        if (foxRow != fox.getRow() || foxCol != fox.getCol()) {
+            boardCopy.movePiece(fox.getRow(), fox.getCol(), foxRow, foxCol);
+        }
+        Fox foxCopy = new Fox(foxRow, foxCol);
+        List<Hound> houndCopies = new ArrayList<>(hounds.size());
+        for (Hound hound : hounds) {
+            houndCopies.add(new Hound(hound.getRow(), hound.getCol()));
+        }
+        AIController controller = aiController;
+        AIController.Difficulty difficulty = currentDifficulty;
+        return () -> controller.computeMove(difficulty, speculative, houndCopies, foxCopy, boardCopy);
+    }
+
+    /**
+     * Applies an AI move computed from {@link #prepareAIMove()}.
+     *
+     * @param move Move computed by the AI (null if it found none)
+     * @param expectedVersion Position version the move was computed for
+     * @return true if the move was made, false if it is stale or the AI could not move
+     */
+    public boolean applyAIMove(Move move, long expectedVersion) {
+        if (expectedVersion != positionVersion || gameState.isGameOver() || gameState.isFoxTurn()) {
+            GameLog.log(Category.GAME, Level.DEBUG, "Discarding stale AI move");
+            return false;
+        }
+        return applyAIMove(move);
+    }
+
+    private boolean applyAIMove(Move move) {
         if (move != null) {
             int houndIndex = move.getHoundIndex();
             int toRow = move.getToRow();
             int toCol = move.getToCol();
 
-            System.out.println("AI chose to move hound " + houndIndex +
-                    " to position (" + toRow + "," + toCol + ")");
+            if (GameLog.isEnabled(Category.GAME, Level.DEBUG)) {
+                GameLog.log(Category.GAME, Level.DEBUG, "AI chose to move hound " + houndIndex +
+                        " to position (" + toRow + "," + toCol + ")");
+            }
 
             Hound hound = hounds.get(houndIndex);
 
             // Update the board
+            recorder.record(Bitboards.square(hound.getRow(), hound.getCol()), Bitboards.square(toRow, toCol));
             board.movePiece(hound.getRow(), hound.getCol(), toRow, toCol);
 
             // Update the hound position
             hound.move(toRow, toCol);
+            positionVersion++;
 
             // Check if fox is blocked
             if (board.isFoxBlocked(fox.getRow(), fox.getCol())) {
                 gameState.setGameOver(GameState.Winner.HOUNDS);
-                System.out.println("Fox is blocked! Hounds win.");
+                recorder.finish(GameState.Winner.HOUNDS);
+                GameLog.log(Category.GAME, Level.INFO, "Fox is blocked! Hounds win.");
                 notifyGameStateListeners();
                 return true;
             }
@@ -229,11 +419,12 @@ public class GameManager {
             notifyGameStateListeners();
             return true;
         } else {
-            System.out.println("AI couldn't find a valid move!");
+            GameLog.log(Category.GAME, Level.WARN, "AI couldn't find a valid move!");
         }
 
         // If no move is possible, hounds lose
         gameState.setGameOver(GameState.Winner.FOX);
+        recorder.finish(GameState.Winner.FOX);
         gameState.setStatusMessage("Hounds can't move! Fox wins!");
         notifyGameStateListeners();
         return false;
@@ -16,4 +16,11 @@ public interface AIStrategy {
      * @return The best move for the AI to make
      */
     Move getBestMove(List<Hound> hounds, Fox fox, Board board);
+
+    /**
+     * Called when a new game starts, so strategies can drop state kept between moves
+     * (for example search tables)
+     */
+    default void newGame() {
+    }
 }
\ No newline at end of file
@@ -12,13 +12,16 @@ public class AIUtils {
      * Find any valid move (fallback option for all strategies)
      */
     public static Move findAnyValidMove(List<Hound> hounds, Board board) {
-        for (int i = 0; i < hounds.size(); i++) {
-            Hound hound = hounds.get(i);
-            List<int[]> possibleMoves = hound.getPossibleMoves(board);
+        return findAnyValidMove(hounds, board, new int[PackedMove.MAX_HOUND_MOVES]);
+    }
 
-            if (!possibleMoves.isEmpty()) {
-                int[] move = possibleMoves.get(0);
-                return new Move(i, hound.getRow(), hound.getCol(), move[0], move[1]);
+    /**
+     * Find any valid move, generating moves into a reusable buffer
+     */
+    public static Move findAnyValidMove(List<Hound> hounds, Board board, int[] moveBuffer) {
+        for (int i = 0; i < hounds.size(); i++) {
+            if (hounds.get(i).generateMoves(board, i, moveBuffer, 0) > 0) {
+                return PackedMove.toMove(moveBuffer[0]);
             }
         }
         return null;
@@ -28,51 +31,86 @@ public class AIUtils {
      * Get all possible moves for all hounds
      */
     public static List<Move> getAllPossibleMoves(List<Hound> hounds, Board board) {
-        List<Move> allMoves = new ArrayList<>();
+        int[] moveBuffer = new int[PackedMove.MAX_HOUND_MOVES];
+        int moveCount = generateAllMoves(hounds, board, moveBuffer);
+        List<Move> allMoves = new ArrayList<>(moveCount);
 
-        for (int i = 0; i < hounds.size(); i++) {
-            Hound hound = hounds.get(i);
-            List<int[]> possibleMoves = hound.getPossibleMoves(board);
-
-            for (int[] move : possibleMoves) {
-                allMoves.add(new Move(i, hound.getRow(), hound.getCol(), move[0], move[1]));
-            }
+        for (int m = 0; m < moveCount; m++) {
+            allMoves.add(PackedMove.toMove(moveBuffer[m]));
         }
 
         return allMoves;
     }
 
+    /**
+     * Write all possible moves for all hounds into a reusable buffer as packed moves.
+     * Moves are ordered by hound index, the same order as getAllPossibleMoves.
+     *
+     * @return Number of moves written
+     */
+    public static int generateAllMoves(List<Hound> hounds, Board board, int[] moveBuffer) {
+        int moveCount = 0;
+        for (int i = 0; i < hounds.size(); i++) {
+            moveCount += hounds.get(i).generateMoves(board, i, moveBuffer, moveCount);
+        }
+        return moveCount;
+    }
+
     /**
      * Find a move that completely traps the fox
      * This is a winning move for any AI level if available
      */
     public static Move findFoxTrappingMove(List<Hound> hounds, Fox fox, Board board) {
-        for (int i = 0; i < hounds.size(); i++) {
-            Hound hound = hounds.get(i);
-            List<int[]> possibleMoves = hound.getPossibleMoves(board);
-
-            for (int[] move : possibleMoves) {
-                // Temporarily make the move
-                int originalRow = hound.getRow();
-                int originalCol = hound.getCol();
-
-                // Simulate the move
-                board.movePiece(originalRow, originalCol, move[0], move[1]);
-                hound.move(move[0], move[1]);
+        return findFoxTrappingMove(hounds, fox, board, new int[PackedMove.MAX_HOUND_MOVES]);
+    }
 
-                // Check if fox is now blocked
-                boolean foxBlocked = board.isFoxBlocked(fox.getRow(), fox.getCol());
+    /**
+     * Find a move that completely traps the fox, generating moves into a reusable buffer
+     */
+    public static Move findFoxTrappingMove(List<Hound> hounds, Fox fox, Board board, int[] moveBuffer) {
+        int moveCount = board.generateHoundMoves(moveBuffer, 0);
+        int trap = findTrappingMoveIndex(board, moveBuffer, moveCount);
+        return trap == -1 ? null : toHoundMove(moveBuffer[trap], hounds);
+    }
 
-                // Undo the move
-                hound.move(originalRow, originalCol);
-                board.movePiece(move[0], move[1], originalRow, originalCol);
+    /**
+     * Find the first of the board's hound moves after which the fox cannot move.
+     * Moves are simulated in buffer order up to the trapping one, or all of them
+     * if none traps the fox.
+     *
+     * @param board Board to simulate the moves on (left unchanged)
+     * @param moveBuffer Hound moves from {@link Board#generateHoundMoves}
+     * @param moveCount Number of moves in the buffer
+     * @return Index of the trapping move in the buffer, or -1 if there is none
+     */
+    public static int findTrappingMoveIndex(Board board, int[] moveBuffer, int moveCount) {
+        for (int m = 0; m < moveCount; m++) {
+            board.makeMove(moveBuffer[m]);
+            boolean foxBlocked = board.getFoxMoveTargets() == 0;
+            board.unmakeMove();
+
+            if (foxBlocked) {
+                return m;
+            }
+        }
+        return -1;
+    }
 
-                if (foxBlocked) {
-                    return new Move(i, originalRow, originalCol, move[0], move[1]);
-                }
+    /**
+     * Turns a packed hound move into a Move whose hound index is the position of
+     * the moving hound in the caller's list (which need not be in the board's
+     * hound order)
+     */
+    public static Move toHoundMove(int move, List<Hound> hounds) {
+        int from = PackedMove.from(move);
+        int to = PackedMove.to(move);
+        for (int i = 0; i < hounds.size(); i++) {
+            Hound hound = hounds.get(i);
+            if (Bitboards.square(hound.getRow(), hound.getCol()) == from) {
+                return new Move(i, hound.getRow(), hound.getCol(), Bitboards.row(to), Bitboards.col(to));
             }
         }
-        return null;
+        return PackedMove.toMove(move);
     }
 
     /**
@@ -142,6 +180,39 @@ public class AIUtils {
         return pathsToTopByColumn;
     }
 
+    /**
+     * Fox distance to the top row with the hounds standing still (the same
+     * reachability findPathsToTopRow computes), by flood fill over bitboards
+     *
+     * @return Fewest fox moves to reach the top row, or -1 if it is cut off
+     */
+    public static int foxDistanceToTopRow(int foxSquare, long houndMask) {
+        long frontier = Bitboards.bit(foxSquare);
+        long seen = frontier;
+        for (int distance = 0; frontier != 0; distance++) {
+            if ((frontier & Bitboards.TOP_ROW) != 0) {
+                return distance;
+            }
+            frontier = Bitboards.foxStepsOf(frontier) & ~houndMask & ~seen;
+            seen |= frontier;
+        }
+        return -1;
+    }
+
+    /**
+     * Top-row squares the fox can reach with the hounds standing still
+     * (the key set of findPathsToTopRow, as a bitboard)
+     */
+    public static long foxReachableTopRow(int foxSquare, long houndMask) {
+        long reached = Bitboards.bit(foxSquare);
+        long frontier = reached;
+        while (frontier != 0) {
+            frontier = Bitboards.foxStepsOf(frontier) & ~houndMask & ~reached;
+            reached |= frontier;
+        }
+        return reached & Bitboards.TOP_ROW;
+    }
+
     /**
      * Count total number of paths from a path map
      */
@@ -157,27 +228,47 @@ public class AIUtils {
      * Find a move that directly blocks a fox that's trying to reach the top row
      */
     public static Move findDirectBlockingMove(List<Hound> hounds, Fox fox, Board board) {
+        return findDirectBlockingMove(hounds, fox, board,
+                new int[PackedMove.MAX_FOX_MOVES], new int[PackedMove.MAX_HOUND_MOVES]);
+    }
+
+    /**
+     * Find a move that directly blocks the fox, generating moves into reusable buffers
+     */
+    public static Move findDirectBlockingMove(List<Hound> hounds, Fox fox, Board board,
+                                              int[] foxMoveBuffer, int[] houndMoveBuffer) {
         // Get fox's possible moves
-        List<int[]> foxMoves = fox.getPossibleMoves(board);
+        int foxMoveCount = fox.generateMoves(board, foxMoveBuffer, 0);
 
         // Check if any move gets the fox to the top row
-        for (int[] foxMove : foxMoves) {
-            if (foxMove[0] == 0) {
+        for (int f = 0; f < foxMoveCount; f++) {
+            int foxTarget = PackedMove.to(foxMoveBuffer[f]);
+            if (Bitboards.row(foxTarget) == 0) {
                 // Fox can reach top row! Try to block
-                for (int i = 0; i < hounds.size(); i++) {
-                    Hound hound = hounds.get(i);
-                    List<int[]> possibleMoves = hound.getPossibleMoves(board);
-
-                    // See if any hound can move to this position
-                    for (int[] move : possibleMoves) {
-                        if (move[0] == foxMove[0] && move[1] == foxMove[1]) {
-                            return new Move(i, hound.getRow(), hound.getCol(), move[0], move[1]);
-                        }
-                    }
+                Move block = findMoveToSquare(hounds, board, foxTarget, houndMoveBuffer);
+                if (block != null) {
+                    return block;
                 }
             }
         }
 
         return null;
     }
-}
\ No newline at end of file
+
+    /**
+     * Find a hound move onto the given square (the first hound that can reach it)
+     */
+    public static Move findMoveToSquare(List<Hound> hounds, Board board, int square, int[] moveBuffer) {
+        for (int i = 0; i < hounds.size(); i++) {
+            int moveCount = hounds.get(i).generateMoves(board, i, moveBuffer, 0);
+
+            // See if this hound can move to the square
+            for (int m = 0; m < moveCount; m++) {
+                if (PackedMove.to(moveBuffer[m]) == square) {
+                    return PackedMove.toMove(moveBuffer[m]);
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,510 @@
+package com.foxandhounds.foxandhounds_v1.controller.ai;
+
+import com.foxandhounds.foxandhounds_v1.logging.GameLog;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Category;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Level;
+import com.foxandhounds.foxandhounds_v1.metrics.AIMetrics;
+import com.foxandhounds.foxandhounds_v1.metrics.AIPhaseEvent;
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Expert AI Strategy - two-sided alpha-beta search with iterative deepening.
+ *
+ * Searches hound moves and fox replies on a private copy of the board, deepening
+ * one ply at a time until the depth or time limit is reached. Leaves are scored
+ * with {@link PositionEvaluator}, all children of a depth 1 node in one batch
+ * rather than one visit each; positions where no hound is left above the fox
+ * are scored as exact fox wins, since hounds can never move back up to block it.
+ * Results are kept in a {@link TranspositionTable} keyed by the board's Zobrist
+ * key, which gives cutoffs on transposed positions and the move to try first;
+ * the other moves are ordered by killer moves and history (see {@link MoveOrdering}).
+ * The search can run on several threads sharing that table (Lazy SMP).
+ */
+public class AlphaBetaAIStrategy implements AIStrategy {
+
+    // Default limits: deep enough to see the end of most games, well under 100 ms per move
+    public static final int DEFAULT_MAX_DEPTH = 64;
+    public static final long DEFAULT_TIME_LIMIT_MILLIS = 50;
+
+    // Score of a won position (minus the plies needed to reach it)
+    static final int WIN_SCORE = 100_000;
+
+    // Deepest ply the search can reach
+    static final int MAX_PLY = 128;
+
+    // How many nodes to search between clock checks
+    private static final int TIME_CHECK_INTERVAL = 1024;
+
+    private final int maxDepth;
+    private final long timeLimitNanos;
+    private final TranspositionTable table;
+
+    // Search threads: workers[0] runs on the calling thread, the rest are Lazy-SMP helpers
+    private final Worker[] workers;
+    private ForkJoinPool helperPool;
+
+    // Set when the main worker finishes, to stop the helpers
+    private volatile boolean stopped;
+    private long deadline;
+
+    /**
+     * Creates an alpha-beta strategy with the default depth and time limits.
+     */
+    public AlphaBetaAIStrategy() {
+        this(DEFAULT_MAX_DEPTH, DEFAULT_TIME_LIMIT_MILLIS);
+    }
+
+    /**
+     * Creates a single-threaded alpha-beta strategy.
+     *
+     * @param maxDepth Maximum search depth in plies
+     * @param timeLimitMillis Time budget per move in milliseconds
+     */
+    public AlphaBetaAIStrategy(int maxDepth, long timeLimitMillis) {
+        this(maxDepth, timeLimitMillis, 1);
+    }
+
+    /**
+     * Creates an alpha-beta strategy searching on several threads.
+     *
+     * @param maxDepth Maximum search depth in plies
+     * @param timeLimitMillis Time budget per move in milliseconds
+     * @param threads Number of search threads (1 for a single-threaded search)
+     */
+    public AlphaBetaAIStrategy(int maxDepth, long timeLimitMillis, int threads) {
+        this(maxDepth, timeLimitMillis, threads, new TranspositionTable());
+    }
+
+    /**
+     * Creates an alpha-beta strategy that uses the given transposition table.
+     *
+     * With more than one thread the search is Lazy SMP: helper threads run the
+     * same iterative deepening search on their own board copies, starting at
+     * staggered depths, and share the table with the main thread. The main
+     * thread's result is played; the helpers' contribution is the table entries
+     * they leave behind.
+     *
+     * @param maxDepth Maximum search depth in plies
+     * @param timeLimitMillis Time budget per move in milliseconds
+     * @param threads Number of search threads (1 for a single-threaded search)
+     * @param table Transposition table to read and fill
+     */
+    public AlphaBetaAIStrategy(int maxDepth, long timeLimitMillis, int threads, TranspositionTable table) {
+        if (maxDepth < 1 || maxDepth >= MAX_PLY) {
+            throw new IllegalArgumentException("maxDepth must be between 1 and " + (MAX_PLY - 1));
+        }
+        if (timeLimitMillis <= 0) {
+            throw new IllegalArgumentException("timeLimitMillis must be positive");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1");
+        }
+        this.maxDepth = maxDepth;
+        this.timeLimitNanos = timeLimitMillis * 1_000_000L;
+        this.table = table;
+        this.workers = new Worker[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Worker(i);
+        }
+    }
+
+    @Override
+    public void newGame() {
+        table.clear();
+        for (Worker worker : workers) {
+            worker.ordering.clear();
+        }
+    }
+
+    @Override
+    public Move getBestMove(List<Hound> hounds, Fox fox, Board board) {
+        AIPhaseEvent phase = AIPhaseEvent.start("alphaBeta.search");
+        int packed = findBestMove(board, true);
+        Move move = packed == -1 ? null : AIUtils.toHoundMove(packed, hounds);
+        phase.finish(move, getNodeCount());
+        AIMetrics.getInstance().recordPhase("alphaBeta.search");
+        return move;
+    }
+
+    /**
+     * Search the position for the side to move (hounds or fox)
+     *
+     * @return Best packed move, or -1 if the side to move has no move
+     */
+    int findBestMove(Board board, boolean houndsToMove) {
+        long start = System.nanoTime();
+        deadline = start + timeLimitNanos;
+        stopped = false;
+        table.newSearch();
+
+        for (Worker worker : workers) {
+            worker.reset(board, houndsToMove);
+        }
+        Worker main = workers[0];
+        if (main.rootCount == 0) {
+            return -1;
+        }
+
+        List<ForkJoinTask<?>> helpers = startHelpers();
+        try {
+            main.run();
+        } finally {
+            stopped = true;
+            for (ForkJoinTask<?> helper : helpers) {
+                helper.join();
+            }
+        }
+
+        long tableProbes = 0;
+        long tableHits = 0;
+        for (Worker worker : workers) {
+            tableProbes += worker.tableProbes;
+            tableHits += worker.tableHits;
+        }
+        AIMetrics metrics = AIMetrics.getInstance();
+        metrics.recordSearch(getNodeCount(), System.nanoTime() - start);
+        metrics.recordCacheLookups("transpositionTable", tableHits, tableProbes - tableHits);
+
+        if (GameLog.isEnabled(Category.AI, Level.DEBUG)) {
+            GameLog.log(Category.AI, Level.DEBUG, (houndsToMove ? "EXPERT" : "SEARCH FOX") + ": depth " +
+                    main.completedDepth + ", score " + main.bestScore + ", " + getNodeCount() + " nodes on " +
+                    workers.length + " thread(s) in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        }
+
+        for (Worker worker : workers) {
+            worker.board = null;
+        }
+        return main.bestMove;
+    }
+
+    /**
+     * Start the helper workers on the helper pool (created on first use)
+     */
+    private List<ForkJoinTask<?>> startHelpers() {
+        if (workers.length == 1) {
+            return Collections.emptyList();
+        }
+        if (helperPool == null) {
+            helperPool = new ForkJoinPool(workers.length - 1);
+        }
+        List<ForkJoinTask<?>> helpers = new ArrayList<>(workers.length - 1);
+        for (int i = 1; i < workers.length; i++) {
+            helpers.add(helperPool.submit(workers[i]));
+        }
+        return helpers;
+    }
+
+    /**
+     * One search thread: its own board copy, move buffers and counters
+     */
+    private final class Worker implements Runnable {
+        private final int id;
+
+        // Per-ply move buffers so the search allocates nothing
+        private final int[][] moveStack = new int[MAX_PLY][PackedMove.MAX_HOUND_MOVES];
+
+        // Killer moves and history, kept for the whole game
+        private final MoveOrdering ordering = new MoveOrdering(MAX_PLY);
+
+        // Scores of the leaves below a depth 1 node, and the fox's squares in each
+        private final int[] leafScores = new int[PackedMove.MAX_HOUND_MOVES];
+        private final long[] leafFoxTargets = new long[PackedMove.MAX_HOUND_MOVES];
+
+        private Board board;
+        private boolean rootHoundsToMove;
+        private int rootCount;
+        private long nodes;
+        private long nextTimeCheck;
+        private long tableProbes;
+        private long tableHits;
+        private boolean aborted;
+        private int rootBestMove;
+
+        // Result of the deepest completed iteration
+        private int bestMove;
+        private int bestScore;
+        private int completedDepth;
+
+        Worker(int id) {
+            this.id = id;
+        }
+
+        void reset(Board source, boolean houndsToMove) {
+            board = new Board(source);
+            rootHoundsToMove = houndsToMove;
+            rootCount = houndsToMove ? board.generateHoundMoves(moveStack[0], 0) : board.generateFoxMoves(moveStack[0], 0);
+            nodes = 0;
+            nextTimeCheck = TIME_CHECK_INTERVAL;
+            tableProbes = 0;
+            tableHits = 0;
+            aborted = false;
+            bestMove = rootCount > 0 ? moveStack[0][0] : 0;
+            bestScore = 0;
+            completedDepth = 0;
+        }
+
+        @Override
+        public void run() {
+            // Helpers start one ply deeper on odd ids so threads do not all search the same tree
+            int firstDepth = 1 + (id & 1);
+            for (int depth = firstDepth; depth <= maxDepth; depth++) {
+                int score = searchRoot(depth);
+                if (aborted) {
+                    break;
+                }
+                bestMove = rootBestMove;
+                bestScore = score;
+                completedDepth = depth;
+
+                // A forced result has been found; deeper search cannot change it
+                if (Math.abs(score) >= WIN_SCORE - MAX_PLY) {
+                    break;
+                }
+            }
+        }
+
+        /**
+         * Search the root moves, trying the previous iteration's best move first
+         */
+        private int searchRoot(int depth) {
+            int[] rootMoves = moveStack[0];
+            for (int m = 0; m < rootCount; m++) {
+                if (rootMoves[m] == bestMove) {
+                    rootMoves[m] = rootMoves[0];
+                    rootMoves[0] = bestMove;
+                    break;
+                }
+            }
+
+            int alpha = -WIN_SCORE - 1;
+            int beta = WIN_SCORE + 1;
+            rootBestMove = rootMoves[0];
+
+            for (int m = 0; m < rootCount; m++) {
+                int move = rootMoves[m];
+                board.makeMove(move);
+                int score = -search(depth - 1, -beta, -alpha, 1, !rootHoundsToMove);
+                board.unmakeMove();
+
+                if (aborted) {
+                    return 0;
+                }
+                if (score > alpha) {
+                    alpha = score;
+                    rootBestMove = move;
+                }
+            }
+            return alpha;
+        }
+
+        /**
+         * Negamax alpha-beta search
+         *
+         * @param depth Remaining depth in plies
+         * @param alpha Lower bound for the side to move
+         * @param beta Upper bound for the side to move
+         * @param ply Distance from the root
+         * @param houndsToMove true if the hounds are to move
+         * @return Score from the point of view of the side to move
+         */
+        private int search(int depth, int alpha, int beta, int ply, boolean houndsToMove) {
+            if (++nodes >= nextTimeCheck) {
+                nextTimeCheck = nodes + TIME_CHECK_INTERVAL;
+                aborted = shouldStop();
+            }
+            if (aborted) {
+                return 0;
+            }
+
+            // No hound left above the fox: it walks to the top row unopposed
+            int foxRow = Bitboards.row(board.getFoxSquare());
+            if ((board.getHoundMask() & rowsAbove(foxRow)) == 0) {
+                int endPly = ply + 2 * foxRow - (houndsToMove ? 0 : 1);
+                int houndScore = -(WIN_SCORE - endPly);
+                return houndsToMove ? houndScore : -houndScore;
+            }
+
+            int[] moves = moveStack[ply];
+            int count = houndsToMove ? board.generateHoundMoves(moves, 0) : board.generateFoxMoves(moves, 0);
+
+            // A side that cannot move loses (trapped fox, or hounds with no moves left)
+            if (count == 0) {
+                return -(WIN_SCORE - ply);
+            }
+
+            if (depth <= 0 || ply >= MAX_PLY - 1) {
+                int houndScore = PositionEvaluator.evaluate(board);
+                return houndsToMove ? houndScore : -houndScore;
+            }
+
+            // Transposition table: cut off if this position was already searched deep enough
+            long key = board.getZobristKey() ^ (houndsToMove ? Zobrist.HOUNDS_TO_MOVE : 0L);
+            long entry = table.probe(key);
+            int tableMove = 0;
+            tableProbes++;
+            if (entry != 0) {
+                tableHits++;
+                if (TranspositionTable.depth(entry) >= depth) {
+                    int ttScore = scoreFromTable(TranspositionTable.score(entry), ply);
+                    int bound = TranspositionTable.bound(entry);
+                    if (bound == TranspositionTable.BOUND_EXACT
+                            || (bound == TranspositionTable.BOUND_LOWER && ttScore >= beta)
+                            || (bound == TranspositionTable.BOUND_UPPER && ttScore <= alpha)) {
+                        return ttScore;
+                    }
+                }
+                tableMove = TranspositionTable.move(entry);
+            }
+            ordering.order(moves, count, tableMove, ply, houndsToMove);
+
+            // The children are leaves: score them all at once instead of visiting each
+            boolean frontier = depth == 1;
+            if (frontier) {
+                scoreLeaves(moves, count, ply + 1, houndsToMove);
+            }
+
+            int originalAlpha = alpha;
+            int best = -WIN_SCORE - 1;
+            int bestMove = 0;
+            for (int m = 0; m < count; m++) {
+                int move = moves[m];
+                int score;
+                if (frontier) {
+                    score = -leafScores[m];
+                } else {
+                    board.makeMove(move);
+                    score = -search(depth - 1, -beta, -alpha, ply + 1, !houndsToMove);
+                    board.unmakeMove();
+                }
+
+                if (aborted) {
+                    return 0;
+                }
+                if (score > best) {
+                    best = score;
+                    bestMove = move;
+                    if (score > alpha) {
+                        alpha = score;
+                        if (alpha >= beta) {
+                            ordering.recordCutoff(moves, m, depth, ply, houndsToMove);
+                            break;
+                        }
+                    }
+                }
+            }
+
+            int bound = best <= originalAlpha ? TranspositionTable.BOUND_UPPER
+                    : best >= beta ? TranspositionTable.BOUND_LOWER : TranspositionTable.BOUND_EXACT;
+            table.store(key, bestMove, scoreToTable(best, ply), depth, bound);
+            return best;
+        }
+
+        /**
+         * Score the children of a depth 1 node exactly as a leaf visit would, but in
+         * one batch: the leaf rules (fox escape, side unable to move) are checked on
+         * masks and the evaluations come from {@link PositionEvaluator}'s batch API.
+         * Scores are from the point of view of the side to move in the child.
+         *
+         * @param moves Moves of the node
+         * @param count Number of moves
+         * @param leafPly Ply of the children
+         * @param houndMoves true if the moves are hound moves
+         */
+        private void scoreLeaves(int[] moves, int count, int leafPly, boolean houndMoves) {
+            int foxSquare = board.getFoxSquare();
+            long houndMask = board.getHoundMask();
+            nodes += count;
+
+            if (houndMoves) {
+                // The fox moves next in each child
+                PositionEvaluator.evaluateHoundMoves(foxSquare, houndMask, moves, count, leafScores, leafFoxTargets);
+                int foxRow = Bitboards.row(foxSquare);
+                for (int m = 0; m < count; m++) {
+                    long childHounds = houndMask ^ Bitboards.bit(PackedMove.from(moves[m]))
+                            ^ Bitboards.bit(PackedMove.to(moves[m]));
+                    if ((childHounds & rowsAbove(foxRow)) == 0) {
+                        leafScores[m] = WIN_SCORE - (leafPly + 2 * foxRow - 1);
+                    } else if (leafFoxTargets[m] == 0) {
+                        leafScores[m] = -(WIN_SCORE - leafPly);
+                    } else {
+                        leafScores[m] = -leafScores[m];
+                    }
+                }
+            } else {
+                // The hounds move next in each child
+                PositionEvaluator.evaluateFoxMoves(foxSquare, houndMask, moves, count, leafScores);
+                for (int m = 0; m < count; m++) {
+                    int to = PackedMove.to(moves[m]);
+                    if ((houndMask & rowsAbove(Bitboards.row(to))) == 0) {
+                        leafScores[m] = -(WIN_SCORE - (leafPly + 2 * Bitboards.row(to)));
+                    } else if ((Bitboards.houndStepsOf(houndMask) & ~(houndMask | Bitboards.bit(to))) == 0) {
+                        leafScores[m] = -(WIN_SCORE - leafPly);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Out of time, stopped by the main worker, or the calling thread was interrupted (move cancelled)
+         */
+        private boolean shouldStop() {
+            return stopped || System.nanoTime() > deadline || (id == 0 && Thread.currentThread().isInterrupted());
+        }
+
+    }
+
+    /**
+     * Win scores are stored relative to the stored position rather than the root
+     */
+    static int scoreToTable(int score, int ply) {
+        if (score >= WIN_SCORE - MAX_PLY) {
+            return score + ply;
+        }
+        if (score <= -WIN_SCORE + MAX_PLY) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    static int scoreFromTable(int score, int ply) {
+        if (score >= WIN_SCORE - MAX_PLY) {
+            return score - ply;
+        }
+        if (score <= -WIN_SCORE + MAX_PLY) {
+            return score + ply;
+        }
+        return score;
+    }
+
+    /**
+     * Mask of all rows above (closer to the fox's goal than) the given row
+     */
+    static long rowsAbove(int row) {
+        return (1L << (row * Board.BOARD_SIZE)) - 1;
+    }
+
+    /**
+     * Gets the number of nodes visited by the last search, over all threads.
+     *
+     * @return Node count
+     */
+    public long getNodeCount() {
+        long total = 0;
+        for (Worker worker : workers) {
+            total += worker.nodes;
+        }
+        return total;
+    }
+
+    /**
+     * Gets the number of search threads.
+     *
+     * @return Thread count
+     */
+    public int getThreadCount() {
+        return workers.length;
+    }
+}
@@ -1,5 +1,10 @@
 package com.foxandhounds.foxandhounds_v1.controller.ai;
 
+import com.foxandhounds.foxandhounds_v1.logging.GameLog;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Category;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Level;
+import com.foxandhounds.foxandhounds_v1.metrics.AIMetrics;
+import com.foxandhounds.foxandhounds_v1.metrics.AIPhaseEvent;
 import com.foxandhounds.foxandhounds_v1.model.*;
 import java.util.*;
 
@@ -11,78 +16,89 @@ public class EasyAIStrategy implements AIStrategy {
     private final Random random = new Random();
     private static boolean firstUse = true;
 
+    // Reusable buffers for packed move generation
+    private final int[] houndMoveBuffer = new int[PackedMove.MAX_HOUND_MOVES];
+    private final int[] foxMoveBuffer = new int[PackedMove.MAX_FOX_MOVES];
+
+    // Positions looked at by the current phase (phases left to AIUtils report none)
+    private long positionsExamined;
+
     @Override
     public Move getBestMove(List<Hound> hounds, Fox fox, Board board) {
         // Log first use for debugging
         if (firstUse) {
-            System.out.println("🔴🔴🔴 EASY STRATEGY INITIALIZED AND BEING USED 🔴🔴🔴");
+            GameLog.log(Category.AI, Level.INFO, "🔴🔴🔴 EASY STRATEGY INITIALIZED AND BEING USED 🔴🔴🔴");
             firstUse = false;
         }
 
-        System.out.println("✓ Using EASY strategy");
+        GameLog.log(Category.AI, Level.DEBUG, "✓ Using EASY strategy");
 
         // Always take a winning move if detected (50% of the time)
         if (random.nextDouble() < 0.5) {
-            Move winningMove = AIUtils.findFoxTrappingMove(hounds, fox, board);
+            AIPhaseEvent phase = startPhase("easy.trap");
+            Move winningMove = AIUtils.findFoxTrappingMove(hounds, fox, board, houndMoveBuffer);
+            phase.finish(winningMove, positionsExamined);
             if (winningMove != null) {
-                System.out.println("EASY: Found move to trap fox");
+                GameLog.log(Category.AI, Level.DEBUG, "EASY: Found move to trap fox");
+                AIMetrics.getInstance().recordPhase("easy.trap");
                 return winningMove;
             }
         }
 
         // Block the fox from reaching the top row (30% of the time)
         if (random.nextDouble() < 0.3) {
+            AIPhaseEvent phase = startPhase("easy.emergencyBlock");
             Move emergencyBlock = findEmergencyBlock(hounds, fox, board);
+            phase.finish(emergencyBlock, positionsExamined);
             if (emergencyBlock != null) {
-                System.out.println("EASY: Blocking fox from reaching top row");
+                GameLog.log(Category.AI, Level.DEBUG, "EASY: Blocking fox from reaching top row");
+                AIMetrics.getInstance().recordPhase("easy.emergencyBlock");
                 return emergencyBlock;
             }
         }
 
         // 50% of the time: Use a simple approach strategy
         if (random.nextDouble() < 0.5) {
+            AIPhaseEvent phase = startPhase("easy.approach");
             Move approachMove = findSimpleApproachMove(hounds, fox, board);
+            phase.finish(approachMove, positionsExamined);
             if (approachMove != null) {
-                System.out.println("EASY: Moving toward fox");
+                GameLog.log(Category.AI, Level.DEBUG, "EASY: Moving toward fox");
+                AIMetrics.getInstance().recordPhase("easy.approach");
                 return approachMove;
             }
         }
 
         // 50% of the time: Make a completely random move
-        List<Move> allPossibleMoves = AIUtils.getAllPossibleMoves(hounds, board);
-        if (!allPossibleMoves.isEmpty()) {
-            System.out.println("EASY: Making random move");
-            return allPossibleMoves.get(random.nextInt(allPossibleMoves.size()));
+        AIPhaseEvent phase = startPhase("easy.random");
+        int moveCount = AIUtils.generateAllMoves(hounds, board, houndMoveBuffer);
+        positionsExamined += moveCount;
+        Move randomMove = moveCount > 0 ? PackedMove.toMove(houndMoveBuffer[random.nextInt(moveCount)]) : null;
+        phase.finish(randomMove, positionsExamined);
+        if (randomMove != null) {
+            GameLog.log(Category.AI, Level.DEBUG, "EASY: Making random move");
+            AIMetrics.getInstance().recordPhase("easy.random");
+            return randomMove;
         }
 
         // Fallback
-        return AIUtils.findAnyValidMove(hounds, board);
+        phase = startPhase("easy.anyMove");
+        Move anyMove = AIUtils.findAnyValidMove(hounds, board, houndMoveBuffer);
+        phase.finish(anyMove, positionsExamined);
+        AIMetrics.getInstance().recordPhase("easy.anyMove");
+        return anyMove;
+    }
+
+    private AIPhaseEvent startPhase(String name) {
+        positionsExamined = 0;
+        return AIPhaseEvent.start(name);
     }
 
     /**
      * Check if fox can reach top row in next move and block it
      */
     private Move findEmergencyBlock(List<Hound> hounds, Fox fox, Board board) {
-        List<int[]> foxMoves = fox.getPossibleMoves(board);
-
-        // Find if fox can reach top row
-        for (int[] foxMove : foxMoves) {
-            if (foxMove[0] == 0) {
-                // Fox can reach top row! Try to block
-                for (int i = 0; i < hounds.size(); i++) {
-                    Hound hound = hounds.get(i);
-                    List<int[]> possibleMoves = hound.getPossibleMoves(board);
-
-                    for (int[] move : possibleMoves) {
-                        if (move[0] == foxMove[0] && move[1] == foxMove[1]) {
-                            return new Move(i, hound.getRow(), hound.getCol(), move[0], move[1]);
-                        }
-                    }
-                }
-            }
-        }
-
-        return null;
+        return AIUtils.findDirectBlockingMove(hounds, fox, board, foxMoveBuffer, houndMoveBuffer);
     }
 
     /**
@@ -106,24 +122,26 @@ public class EasyAIStrategy implements AIStrategy {
         // Move the closest hound toward the fox
         if (closestHoundIndex != -1) {
             Hound hound = hounds.get(closestHoundIndex);
-            List<int[]> possibleMoves = hound.getPossibleMoves(board);
+            int moveCount = hound.generateMoves(board, closestHoundIndex, houndMoveBuffer, 0);
+            positionsExamined += moveCount;
 
-            if (!possibleMoves.isEmpty()) {
+            if (moveCount > 0) {
                 // Find move that gets closest to fox
-                int[] bestMove = null;
+                int bestMove = -1;
                 int bestDistance = Integer.MAX_VALUE;
 
-                for (int[] move : possibleMoves) {
-                    int newDistance = Math.abs(move[0] - fox.getRow()) + Math.abs(move[1] - fox.getCol());
+                for (int m = 0; m < moveCount; m++) {
+                    int to = PackedMove.to(houndMoveBuffer[m]);
+                    int newDistance = Math.abs(Bitboards.row(to) - fox.getRow()) + Math.abs(Bitboards.col(to) - fox.getCol());
 
                     if (newDistance < bestDistance) {
                         bestDistance = newDistance;
-                        bestMove = move;
+                        bestMove = houndMoveBuffer[m];
                     }
                 }
 
-                if (bestMove != null) {
-                    return new Move(closestHoundIndex, hound.getRow(), hound.getCol(), bestMove[0], bestMove[1]);
+                if (bestMove != -1) {
+                    return PackedMove.toMove(bestMove);
                 }
             }
         }
@@ -132,16 +150,16 @@ public class EasyAIStrategy implements AIStrategy {
         for (int i = 0; i < hounds.size(); i++) {
             if (i != closestHoundIndex) {
                 Hound hound = hounds.get(i);
-                List<int[]> possibleMoves = hound.getPossibleMoves(board);
 
-                if (!possibleMoves.isEmpty()) {
+                int moveCount = hound.generateMoves(board, i, houndMoveBuffer, 0);
+                positionsExamined += moveCount;
+                if (moveCount > 0) {
                     // Just pick the first move
-                    int[] move = possibleMoves.get(0);
-                    return new Move(i, hound.getRow(), hound.getCol(), move[0], move[1]);
+                    return PackedMove.toMove(houndMoveBuffer[0]);
                 }
             }
         }
 
         return null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,209 @@
+package com.foxandhounds.foxandhounds_v1.controller.ai;
+
+import com.foxandhounds.foxandhounds_v1.logging.GameLog;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Category;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Level;
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Perfect-play results for every Fox and Hounds position, one byte per position.
+ *
+ * A position is the fox on one of the 32 dark squares, the four (interchangeable)
+ * hounds on four other dark squares and the side to move: 2 * 32 * C(32, 4) =
+ * 2,301,440 entries. Each byte holds the game-theoretic result with the number
+ * of plies to the end of the game under perfect play:
+ * <ul>
+ *   <li>0: not a legal position (the fox shares a square with a hound)</li>
+ *   <li>n &gt; 0: the hounds win in n - 1 plies</li>
+ *   <li>n &lt; 0: the fox wins in -n - 1 plies</li>
+ * </ul>
+ *
+ * The file is produced offline by {@link EndgameSolver} and memory-mapped, so
+ * lookups are a couple of array reads with no heap cost.
+ */
+public class EndgameDatabase {
+    // System property naming the database file, and the file used when it is not set
+    public static final String PATH_PROPERTY = "foxandhounds.endgame";
+    public static final String DEFAULT_FILE_NAME = "foxandhounds-endgame.db";
+
+    // File header: magic, format version, entry count, reserved
+    static final int MAGIC = 0x46484442; // "FHDB"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+
+    // Number of dark squares and of ways to place four hounds on them
+    static final int DARK_SQUARES = 32;
+    static final int HOUND_SETS = 35960;
+    static final int ENTRY_COUNT = HOUND_SETS * DARK_SQUARES * 2;
+
+    // BINOMIAL[n][k] = n choose k, for ranking hound sets
+    private static final int[][] BINOMIAL = new int[DARK_SQUARES + 1][Board.HOUND_COUNT + 1];
+
+    static {
+        for (int n = 0; n <= DARK_SQUARES; n++) {
+            BINOMIAL[n][0] = 1;
+            for (int k = 1; k <= Board.HOUND_COUNT; k++) {
+                BINOMIAL[n][k] = n == 0 ? 0 : BINOMIAL[n - 1][k - 1] + BINOMIAL[n - 1][k];
+            }
+        }
+    }
+
+    // Database loaded from the default location (shared by all games)
+    private static EndgameDatabase defaultDatabase;
+    private static boolean defaultLoaded;
+
+    // Results, starting at HEADER_SIZE
+    private final ByteBuffer data;
+
+    EndgameDatabase(ByteBuffer data) {
+        this.data = data;
+    }
+
+    /**
+     * Memory-maps a database file written by {@link EndgameSolver}.
+     *
+     * @param path Database file
+     * @return The database
+     * @throws IOException If the file cannot be read or is not a valid database
+     */
+    public static EndgameDatabase open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() != HEADER_SIZE + ENTRY_COUNT) {
+                throw new IOException("Unexpected endgame database size " + channel.size() + ": " + path);
+            }
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            mapped.order(ByteOrder.BIG_ENDIAN);
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION || mapped.getInt(8) != ENTRY_COUNT) {
+                throw new IOException("Not an endgame database (or wrong version): " + path);
+            }
+            return new EndgameDatabase(mapped);
+        }
+    }
+
+    /**
+     * Gets the database from the file named by the {@value #PATH_PROPERTY} system
+     * property (or {@value #DEFAULT_FILE_NAME} in the working directory). The file
+     * is mapped once and shared.
+     *
+     * @return The database, or null if there is no usable file
+     */
+    public static synchronized EndgameDatabase openDefault() {
+        if (!defaultLoaded) {
+            defaultLoaded = true;
+            Path path = Paths.get(System.getProperty(PATH_PROPERTY, DEFAULT_FILE_NAME));
+            if (Files.isRegularFile(path)) {
+                try {
+                    defaultDatabase = open(path);
+                    GameLog.log(Category.AI, Level.INFO, "Endgame database loaded from " + path.toAbsolutePath());
+                } catch (IOException e) {
+                    GameLog.log(Category.AI, Level.WARN, "Could not load endgame database", e);
+                }
+            }
+        }
+        return defaultDatabase;
+    }
+
+    /**
+     * Looks up a position.
+     *
+     * @param foxSquare Fox square (must be a dark square)
+     * @param houndMask Mask of exactly four hounds on dark squares
+     * @param houndsToMove true if the hounds are to move
+     * @return Result byte (see class description)
+     */
+    public int lookup(int foxSquare, long houndMask, boolean houndsToMove) {
+        return data.get(HEADER_SIZE + index(houndSetRank(houndMask), foxSquare >>> 1, houndsToMove));
+    }
+
+    /**
+     * Looks up a position snapshot.
+     *
+     * @param position Position with all pieces on dark squares
+     * @return Result byte (see class description)
+     */
+    public int lookup(Position position) {
+        return lookup(position.getFoxSquare(), position.getHoundMask(), position.isHoundsToMove());
+    }
+
+    /**
+     * Checks if a position can be looked up: fox and four hounds, all on dark squares.
+     *
+     * @param foxSquare Fox square
+     * @param houndMask Hound bitboard
+     * @return true if the position is covered by the database
+     */
+    public static boolean covers(int foxSquare, long houndMask) {
+        return foxSquare >= 0
+                && (Bitboards.DARK_SQUARES & Bitboards.bit(foxSquare)) != 0
+                && Long.bitCount(houndMask) == Board.HOUND_COUNT
+                && (houndMask & ~Bitboards.DARK_SQUARES) == 0;
+    }
+
+    /**
+     * Checks if a result byte is a win for the hounds.
+     *
+     * @param result Result byte
+     * @return true if the hounds win
+     */
+    public static boolean isHoundWin(int result) {
+        return result > 0;
+    }
+
+    /**
+     * Gets the number of plies until the game ends under perfect play.
+     *
+     * @param result Result byte (non-zero)
+     * @return Plies to the end of the game
+     */
+    public static int pliesToEnd(int result) {
+        return Math.abs(result) - 1;
+    }
+
+    /**
+     * Encodes a result byte.
+     *
+     * @param houndsWin true if the hounds win
+     * @param plies Plies to the end of the game
+     * @return Result byte
+     */
+    static byte result(boolean houndsWin, int plies) {
+        return (byte) (houndsWin ? plies + 1 : -(plies + 1));
+    }
+
+    /**
+     * Position index: hound set rank, fox dark-square index and side to move
+     */
+    static int index(int houndSetRank, int foxDark, boolean houndsToMove) {
+        return ((houndSetRank * DARK_SQUARES + foxDark) << 1) | (houndsToMove ? 1 : 0);
+    }
+
+    /**
+     * Colex rank of four hounds on dark squares (0 to C(32, 4) - 1).
+     * Dark squares are numbered square / 2, which keeps them in board order.
+     */
+    static int houndSetRank(long houndMask) {
+        int rank = 0;
+        int k = 1;
+        for (long mask = houndMask; mask != 0; mask &= mask - 1) {
+            rank += BINOMIAL[Long.numberOfTrailingZeros(mask) >>> 1][k++];
+        }
+        return rank;
+    }
+
+    /**
+     * Converts a dark-square index (0-31) back to a board square.
+     */
+    static int darkToSquare(int dark) {
+        int row = dark >>> 2;
+        int col = ((dark & 3) << 1) + ((row & 1) == 0 ? 1 : 0);
+        return Bitboards.square(row, col);
+    }
+}
@@ -0,0 +1,199 @@
+package com.foxandhounds.foxandhounds_v1.controller.ai;
+
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Offline solver that computes the {@link EndgameDatabase} for the whole game.
+ *
+ * Hounds only move forward, so every hound move increases the sum of the hounds'
+ * rows by one. Solving hound configurations from the highest row sum down is
+ * therefore a retrograde pass over a DAG: a hounds-to-move position only depends
+ * on fox-to-move positions with a larger row sum (already solved), and a
+ * fox-to-move position only depends on hounds-to-move positions with the same
+ * hounds (solved just before it). Each position is visited once.
+ *
+ * Run with the output file as the only argument:
+ * <pre>java ... EndgameSolver foxandhounds-endgame.db</pre>
+ */
+public final class EndgameSolver {
+
+    // Highest possible sum of the four hounds' rows
+    private static final int MAX_ROW_SUM = (Board.BOARD_SIZE - 1) * Board.HOUND_COUNT;
+
+    private EndgameSolver() {
+    }
+
+    /**
+     * Solves every position.
+     *
+     * @return Database contents, header included
+     */
+    public static byte[] solve() {
+        byte[] data = new byte[EndgameDatabase.HEADER_SIZE + EndgameDatabase.ENTRY_COUNT];
+        ByteBuffer header = ByteBuffer.wrap(data);
+        header.putInt(EndgameDatabase.MAGIC);
+        header.putInt(EndgameDatabase.VERSION);
+        header.putInt(EndgameDatabase.ENTRY_COUNT);
+
+        List<List<Long>> houndSetsByRowSum = houndSetsByRowSum();
+        for (int rowSum = MAX_ROW_SUM; rowSum >= 0; rowSum--) {
+            for (long houndMask : houndSetsByRowSum.get(rowSum)) {
+                solveHoundSet(data, houndMask);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Solves and memory-loads the database without writing a file.
+     *
+     * @return Solved database
+     */
+    public static EndgameDatabase solveInMemory() {
+        return new EndgameDatabase(ByteBuffer.wrap(solve()));
+    }
+
+    /**
+     * Solves the database and writes it to a file.
+     *
+     * @param path Output file
+     * @throws IOException If the file cannot be written
+     */
+    public static void write(Path path) throws IOException {
+        Files.write(path, solve());
+    }
+
+    /**
+     * Solve all positions with the given hounds, hounds-to-move first
+     */
+    private static void solveHoundSet(byte[] data, long houndMask) {
+        int rank = EndgameDatabase.houndSetRank(houndMask);
+
+        for (int foxDark = 0; foxDark < EndgameDatabase.DARK_SQUARES; foxDark++) {
+            int foxSquare = EndgameDatabase.darkToSquare(foxDark);
+            if ((houndMask & Bitboards.bit(foxSquare)) == 0) {
+                data[offset(rank, foxDark, true)] = solveHoundsToMove(data, houndMask, foxSquare);
+            }
+        }
+
+        for (int foxDark = 0; foxDark < EndgameDatabase.DARK_SQUARES; foxDark++) {
+            int foxSquare = EndgameDatabase.darkToSquare(foxDark);
+            if ((houndMask & Bitboards.bit(foxSquare)) == 0) {
+                data[offset(rank, foxDark, false)] = solveFoxToMove(data, rank, houndMask, foxSquare);
+            }
+        }
+    }
+
+    private static byte solveHoundsToMove(byte[] data, long houndMask, int foxSquare) {
+        // The fox has already reached the top row
+        if (Bitboards.row(foxSquare) == 0) {
+            return EndgameDatabase.result(false, 0);
+        }
+
+        long occupied = houndMask | Bitboards.bit(foxSquare);
+        int bestWin = Integer.MAX_VALUE;  // Fastest win found
+        int bestLoss = -1;                // Slowest loss found
+
+        for (long hounds = houndMask; hounds != 0; hounds &= hounds - 1) {
+            int from = Long.numberOfTrailingZeros(hounds);
+            for (long targets = Bitboards.houndSteps(from) & ~occupied; targets != 0; targets &= targets - 1) {
+                long next = houndMask ^ Bitboards.bit(from) ^ Bitboards.bit(Long.numberOfTrailingZeros(targets));
+
+                // This move traps the fox
+                if ((Bitboards.foxSteps(foxSquare) & ~next) == 0) {
+                    return EndgameDatabase.result(true, 1);
+                }
+
+                int child = data[offset(EndgameDatabase.houndSetRank(next), foxSquare >>> 1, false)];
+                int plies = EndgameDatabase.pliesToEnd(child) + 1;
+                if (EndgameDatabase.isHoundWin(child)) {
+                    bestWin = Math.min(bestWin, plies);
+                } else {
+                    bestLoss = Math.max(bestLoss, plies);
+                }
+            }
+        }
+
+        if (bestWin != Integer.MAX_VALUE) {
+            return EndgameDatabase.result(true, bestWin);
+        }
+        // No hound can move: the fox wins
+        return EndgameDatabase.result(false, Math.max(bestLoss, 0));
+    }
+
+    private static byte solveFoxToMove(byte[] data, int rank, long houndMask, int foxSquare) {
+        if (Bitboards.row(foxSquare) == 0) {
+            return EndgameDatabase.result(false, 0);
+        }
+
+        int bestWin = Integer.MAX_VALUE;
+        int bestLoss = -1;
+
+        for (long targets = Bitboards.foxSteps(foxSquare) & ~houndMask; targets != 0; targets &= targets - 1) {
+            int to = Long.numberOfTrailingZeros(targets);
+            int child = data[offset(rank, to >>> 1, true)];
+            int plies = EndgameDatabase.pliesToEnd(child) + 1;
+            if (!EndgameDatabase.isHoundWin(child)) {
+                bestWin = Math.min(bestWin, plies);
+            } else {
+                bestLoss = Math.max(bestLoss, plies);
+            }
+        }
+
+        if (bestWin != Integer.MAX_VALUE) {
+            return EndgameDatabase.result(false, bestWin);
+        }
+        // Trapped fox (bestLoss == -1) has already lost
+        return EndgameDatabase.result(true, Math.max(bestLoss, 0));
+    }
+
+    private static int offset(int rank, int foxDark, boolean houndsToMove) {
+        return EndgameDatabase.HEADER_SIZE + EndgameDatabase.index(rank, foxDark, houndsToMove);
+    }
+
+    /**
+     * Every placement of four hounds on dark squares, grouped by the sum of their rows
+     */
+    private static List<List<Long>> houndSetsByRowSum() {
+        List<List<Long>> groups = new ArrayList<>();
+        for (int rowSum = 0; rowSum <= MAX_ROW_SUM; rowSum++) {
+            groups.add(new ArrayList<>());
+        }
+
+        int n = EndgameDatabase.DARK_SQUARES;
+        for (int a = 0; a < n; a++) {
+            for (int b = a + 1; b < n; b++) {
+                for (int c = b + 1; c < n; c++) {
+                    for (int d = c + 1; d < n; d++) {
+                        int[] squares = {
+                                EndgameDatabase.darkToSquare(a), EndgameDatabase.darkToSquare(b),
+                                EndgameDatabase.darkToSquare(c), EndgameDatabase.darkToSquare(d)
+                        };
+                        long mask = 0L;
+                        int rowSum = 0;
+                        for (int square : squares) {
+                            mask |= Bitboards.bit(square);
+                            rowSum += Bitboards.row(square);
+                        }
+                        groups.get(rowSum).add(mask);
+                    }
+                }
+            }
+        }
+        return groups;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path path = Paths.get(args.length > 0 ? args[0] : EndgameDatabase.DEFAULT_FILE_NAME);
+        long start = System.nanoTime();
+        write(path);
+        System.out.println("Wrote " + EndgameDatabase.ENTRY_COUNT + " positions to " + path.toAbsolutePath()
+                + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+}
@@ -0,0 +1,208 @@
+package com.foxandhounds.foxandhounds_v1.controller.ai;
+
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.util.Arrays;
+
+/**
+ * Counts the fox's shortest paths to the top row without listing them.
+ *
+ * A breadth-first flood fill from the fox over empty squares splits the board
+ * into distance layers (top-row squares end a path and are not expanded). The
+ * moves from one layer to the next form a DAG holding exactly the shortest
+ * paths, so dynamic programming over the layers gives, in O(64) per layer:
+ * <ul>
+ *   <li>the number of shortest paths to each top-row square reached (forward counts)</li>
+ *   <li>how many of those paths run through each square (forward x backward counts),
+ *       used as the square's criticality</li>
+ * </ul>
+ * Moving a hound only invalidates the layers from the first one it touches, so
+ * {@link #moveHound(int, int)} re-expands from there and keeps the rest.
+ *
+ * Instances reuse their arrays and are meant to be kept by one strategy.
+ */
+public class FoxPathAnalysis {
+
+    // Fox moves can visit each square at most once on a shortest path
+    private static final int MAX_LAYERS = Bitboards.SQUARE_COUNT;
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    private final long[] layers = new long[MAX_LAYERS];
+    private final int[] distance = new int[Bitboards.SQUARE_COUNT];
+    private final long[] forward = new long[Bitboards.SQUARE_COUNT];
+    private final long[] backward = new long[Bitboards.SQUARE_COUNT];
+
+    private int foxSquare;
+    private long houndMask;
+    private int layerCount;
+    private long reached;
+
+    /**
+     * Analyzes a position from scratch.
+     *
+     * @param foxSquare Fox square
+     * @param houndMask Hound bitboard
+     */
+    public void analyze(int foxSquare, long houndMask) {
+        this.foxSquare = foxSquare;
+        this.houndMask = houndMask;
+        Arrays.fill(distance, UNREACHED);
+        layerCount = 0;
+        layers[0] = Bitboards.bit(foxSquare);
+        distance[foxSquare] = 0;
+        forward[foxSquare] = 1;
+        expandFrom(1);
+    }
+
+    /**
+     * Analyzes the position on a board.
+     *
+     * @param board Board to analyze
+     */
+    public void analyze(Board board) {
+        analyze(board.getFoxSquare(), board.getHoundMask());
+    }
+
+    /**
+     * Updates the analysis after a hound moves (also used to undo a simulated move).
+     * Nothing is recomputed if neither square touches the fox's reachable area,
+     * otherwise only the layers from the first affected one are rebuilt.
+     *
+     * @param from Square the hound leaves
+     * @param to Square the hound moves to
+     */
+    public void moveHound(int from, int to) {
+        houndMask = (houndMask & ~Bitboards.bit(from)) | Bitboards.bit(to);
+
+        // A square taken inside the reached area cuts every path through it
+        int firstAffected = (reached & Bitboards.bit(to)) != 0 ? distance[to] : UNREACHED;
+
+        // A square freed next to an expanded square becomes reachable from there
+        long expandedNeighbours = Bitboards.foxSteps(from) & reached & ~Bitboards.TOP_ROW;
+        for (long mask = expandedNeighbours; mask != 0; mask &= mask - 1) {
+            firstAffected = Math.min(firstAffected, distance[Long.numberOfTrailingZeros(mask)] + 1);
+        }
+
+        if (firstAffected != UNREACHED) {
+            expandFrom(firstAffected);
+        }
+    }
+
+    /**
+     * Rebuild layers from the given one on, then redo the backward counts
+     */
+    private void expandFrom(int startLayer) {
+        // Forget the squares of the layers being rebuilt
+        for (int d = startLayer; d < layerCount; d++) {
+            for (long mask = layers[d]; mask != 0; mask &= mask - 1) {
+                distance[Long.numberOfTrailingZeros(mask)] = UNREACHED;
+            }
+        }
+
+        long seen = 0L;
+        for (int d = 0; d < startLayer; d++) {
+            seen |= layers[d];
+        }
+
+        int d = startLayer;
+        long frontier = layers[d - 1];
+        while (true) {
+            long next = Bitboards.foxStepsOf(frontier & ~Bitboards.TOP_ROW) & ~houndMask & ~seen;
+            if (next == 0) {
+                break;
+            }
+            for (long mask = next; mask != 0; mask &= mask - 1) {
+                int square = Long.numberOfTrailingZeros(mask);
+                long count = 0;
+                for (long parents = Bitboards.foxSteps(square) & frontier & ~Bitboards.TOP_ROW; parents != 0; parents &= parents - 1) {
+                    count += forward[Long.numberOfTrailingZeros(parents)];
+                }
+                forward[square] = count;
+                distance[square] = d;
+            }
+            layers[d++] = next;
+            seen |= next;
+            frontier = next;
+        }
+        layerCount = d;
+        reached = seen;
+
+        // Backward counts: shortest-path continuations from each square to the top row
+        for (int layer = layerCount - 1; layer >= 0; layer--) {
+            long after = layer + 1 < layerCount ? layers[layer + 1] : 0L;
+            for (long mask = layers[layer]; mask != 0; mask &= mask - 1) {
+                int square = Long.numberOfTrailingZeros(mask);
+                if ((Bitboards.bit(square) & Bitboards.TOP_ROW) != 0) {
+                    backward[square] = 1;
+                } else {
+                    long count = 0;
+                    for (long children = Bitboards.foxSteps(square) & after; children != 0; children &= children - 1) {
+                        count += backward[Long.numberOfTrailingZeros(children)];
+                    }
+                    backward[square] = count;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the top-row squares the fox can reach.
+     *
+     * @return Bitboard of reachable top-row squares (0 if the fox is cut off)
+     */
+    public long getReachedTopRow() {
+        return reached & Bitboards.TOP_ROW;
+    }
+
+    /**
+     * Gets the fox's distance to the nearest reachable top-row square.
+     *
+     * @return Number of fox moves, or -1 if the top row cannot be reached
+     */
+    public int getDistanceToTopRow() {
+        for (int d = 0; d < layerCount; d++) {
+            if ((layers[d] & Bitboards.TOP_ROW) != 0) {
+                return d;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the number of shortest paths to one top-row square.
+     *
+     * @param topSquare Top-row square
+     * @return Path count (0 if the square cannot be reached)
+     */
+    public long getPathCount(int topSquare) {
+        return (getReachedTopRow() & Bitboards.bit(topSquare)) != 0 ? forward[topSquare] : 0L;
+    }
+
+    /**
+     * Gets the number of shortest paths over all reachable top-row squares.
+     *
+     * @return Total path count
+     */
+    public long getTotalPathCount() {
+        long total = 0;
+        for (long mask = getReachedTopRow(); mask != 0; mask &= mask - 1) {
+            total += forward[Long.numberOfTrailingZeros(mask)];
+        }
+        return total;
+    }
+
+    /**
+     * Gets how many of the counted paths pass through a square between the fox
+     * and the top row.
+     *
+     * @param square Square
+     * @return Number of paths through the square (0 for the fox's square, top-row
+     *         squares and squares the fox cannot reach)
+     */
+    public long getCriticality(int square) {
+        long bit = Bitboards.bit(square);
+        if ((reached & bit) == 0 || (bit & Bitboards.TOP_ROW) != 0 || square == foxSquare) {
+            return 0L;
+        }
+        return forward[square] * backward[square];
+    }
+}
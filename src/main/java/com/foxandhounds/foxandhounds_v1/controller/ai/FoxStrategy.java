@@ -0,0 +1,26 @@
+package com.foxandhounds.foxandhounds_v1.controller.ai;
+
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.util.List;
+
+/**
+ * Interface for computer-controlled fox players (used for self-play and testing
+ * the hound strategies without a human)
+ */
+public interface FoxStrategy {
+    /**
+     * Calculate the fox's move based on the current board state
+     *
+     * @param fox The fox on the board
+     * @param hounds The list of hounds on the board
+     * @param board The current board state
+     * @return The fox move to make (hound index -1), or null if the fox cannot move
+     */
+    Move getFoxMove(Fox fox, List<Hound> hounds, Board board);
+
+    /**
+     * Called when a new game starts, so strategies can drop state kept between moves
+     */
+    default void newGame() {
+    }
+}
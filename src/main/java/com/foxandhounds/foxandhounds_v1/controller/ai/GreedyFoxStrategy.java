@@ -0,0 +1,74 @@
+package com.foxandhounds.foxandhounds_v1.controller.ai;
+
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.util.*;
+
+/**
+ * Greedy Fox Strategy - heads for the top row by the shortest open path.
+ *
+ * Each fox move is scored by the fox's distance to the top row afterwards (with
+ * the hounds standing still), then by how many top-row squares are still
+ * reachable. Moves that cut the fox off from the top row (or into a trap) are
+ * only played when nothing else is left. Ties are broken at random.
+ */
+public class GreedyFoxStrategy implements FoxStrategy {
+
+    // Distance used for moves after which the top row cannot be reached
+    private static final int CUT_OFF = Bitboards.SQUARE_COUNT;
+
+    private final Random random;
+
+    // Reusable buffer for packed move generation
+    private final int[] foxMoveBuffer = new int[PackedMove.MAX_FOX_MOVES];
+
+    /**
+     * Creates a greedy fox with an unpredictable seed.
+     */
+    public GreedyFoxStrategy() {
+        this(new Random());
+    }
+
+    /**
+     * Creates a greedy fox whose tie-breaks are reproducible.
+     *
+     * @param seed Random seed
+     */
+    public GreedyFoxStrategy(long seed) {
+        this(new Random(seed));
+    }
+
+    private GreedyFoxStrategy(Random random) {
+        this.random = random;
+    }
+
+    @Override
+    public Move getFoxMove(Fox fox, List<Hound> hounds, Board board) {
+        int count = fox.generateMoves(board, foxMoveBuffer, 0);
+        long houndMask = board.getHoundMask();
+
+        int bestMove = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        int bestReach = -1;
+        int ties = 0;
+
+        for (int m = 0; m < count; m++) {
+            int to = PackedMove.to(foxMoveBuffer[m]);
+            int distance = AIUtils.foxDistanceToTopRow(to, houndMask);
+            if (distance < 0) {
+                distance = CUT_OFF;
+            }
+            int reach = Long.bitCount(AIUtils.foxReachableTopRow(to, houndMask));
+
+            if (distance < bestDistance || (distance == bestDistance && reach > bestReach)) {
+                bestMove = foxMoveBuffer[m];
+                bestDistance = distance;
+                bestReach = reach;
+                ties = 1;
+            } else if (distance == bestDistance && reach == bestReach && random.nextInt(++ties) == 0) {
+                bestMove = foxMoveBuffer[m]; // Reservoir sampling among equal moves
+            }
+        }
+
+        return bestMove == -1 ? null : PackedMove.toMove(bestMove);
+    }
+}
@@ -1,5 +1,10 @@
 package com.foxandhounds.foxandhounds_v1.controller.ai;
 
+import com.foxandhounds.foxandhounds_v1.logging.GameLog;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Category;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Level;
+import com.foxandhounds.foxandhounds_v1.metrics.AIMetrics;
+import com.foxandhounds.foxandhounds_v1.metrics.AIPhaseEvent;
 import com.foxandhounds.foxandhounds_v1.model.*;
 import java.util.*;
 
@@ -12,91 +17,140 @@ public class HardAIStrategy implements AIStrategy {
     private final int BOARD_CENTER = Board.BOARD_SIZE / 2;
     private static boolean firstUse = true;
 
+    // Reusable buffers for packed move generation
+    private final int[] houndMoveBuffer = new int[PackedMove.MAX_HOUND_MOVES];
+    private final int[] foxMoveBuffer = new int[PackedMove.MAX_FOX_MOVES];
+
+    // Fox path counts for blocking decisions, updated in place while simulating moves
+    private final FoxPathAnalysis pathAnalysis = new FoxPathAnalysis();
+    private final int[] criticalSquares = new int[Bitboards.SQUARE_COUNT / 2];
+
+    // Scores of the hound moves and the fox's squares after each, filled in one batch
+    private final int[] childScores = new int[PackedMove.MAX_HOUND_MOVES];
+    private final long[] childFoxTargets = new long[PackedMove.MAX_HOUND_MOVES];
+
+    // Positions looked at by the current phase (reported in its AIPhaseEvent)
+    private long positionsExamined;
+
     @Override
     public Move getBestMove(List<Hound> hounds, Fox fox, Board board) {
         // Log first use for debugging
         if (firstUse) {
-            System.out.println("🟢🟢🟢 HARD STRATEGY INITIALIZED AND BEING USED 🟢🟢🟢");
+            GameLog.log(Category.AI, Level.INFO, "🟢🟢🟢 HARD STRATEGY INITIALIZED AND BEING USED 🟢🟢🟢");
             firstUse = false;
         }
 
-        System.out.println("✓ Using ENHANCED HARD strategy");
+        GameLog.log(Category.AI, Level.DEBUG, "✓ Using ENHANCED HARD strategy");
 
         // Print debug info
-        System.out.println("Fox position: " + fox.getRow() + "," + fox.getCol());
+        if (GameLog.isEnabled(Category.AI, Level.DEBUG)) {
+            GameLog.log(Category.AI, Level.DEBUG, "Fox position: " + fox.getRow() + "," + fox.getCol());
+        }
 
         // HIGHEST PRIORITY: Emergency blocking - if fox can reach top row in next move
+        AIPhaseEvent phase = startPhase("hard.emergencyBlock");
         Move emergencyBlock = findEmergencyBlock(hounds, fox, board);
+        phase.finish(emergencyBlock, positionsExamined);
         if (emergencyBlock != null) {
-            System.out.println("HARD: EMERGENCY BLOCK - Fox was about to win!");
+            GameLog.log(Category.AI, Level.DEBUG, "HARD: EMERGENCY BLOCK - Fox was about to win!");
+            AIMetrics.getInstance().recordPhase("hard.emergencyBlock");
             return emergencyBlock;
         }
 
         // HIGH PRIORITY: Win if possible
+        phase = startPhase("hard.trap");
         Move trappingMove = findFoxTrappingMove(hounds, fox, board);
+        phase.finish(trappingMove, positionsExamined);
         if (trappingMove != null) {
-            System.out.println("HARD: Found move to trap fox");
+            GameLog.log(Category.AI, Level.DEBUG, "HARD: Found move to trap fox");
+            AIMetrics.getInstance().recordPhase("hard.trap");
             return trappingMove;
         }
 
         // Calculate how many moves the fox needs to reach the top row
         int foxDistanceToTop = fox.getRow();
-        System.out.println("Fox is " + foxDistanceToTop + " moves from top row");
+        if (GameLog.isEnabled(Category.AI, Level.DEBUG)) {
+            GameLog.log(Category.AI, Level.DEBUG, "Fox is " + foxDistanceToTop + " moves from top row");
+        }
 
         // If fox is getting close to the top, focus on blocking its path
         if (foxDistanceToTop <= 3) {
             // PRIORITY: Block ALL paths to top row
+            phase = startPhase("hard.blockPaths");
             Move blockingMove = findComprehensiveBlockingMove(hounds, fox, board);
+            phase.finish(blockingMove, positionsExamined);
             if (blockingMove != null) {
-                System.out.println("HARD: Comprehensive path blocking");
+                GameLog.log(Category.AI, Level.DEBUG, "HARD: Comprehensive path blocking");
+                AIMetrics.getInstance().recordPhase("hard.blockPaths");
                 return blockingMove;
             }
         }
 
         // Form a diagonal wall defense formation
+        phase = startPhase("hard.diagonalWall");
         Move wallMove = formDiagonalWall(hounds, fox, board);
+        phase.finish(wallMove, positionsExamined);
         if (wallMove != null) {
-            System.out.println("HARD: Forming diagonal wall");
+            GameLog.log(Category.AI, Level.DEBUG, "HARD: Forming diagonal wall");
+            AIMetrics.getInstance().recordPhase("hard.diagonalWall");
             return wallMove;
         }
 
         // Advanced strategic move based on positional advantage
+        phase = startPhase("hard.strategic");
         Move strategicMove = findAdvancedStrategicMove(hounds, fox, board);
+        phase.finish(strategicMove, positionsExamined);
         if (strategicMove != null) {
-            System.out.println("HARD: Making advanced strategic move");
+            GameLog.log(Category.AI, Level.DEBUG, "HARD: Making advanced strategic move");
+            AIMetrics.getInstance().recordPhase("hard.strategic");
             return strategicMove;
         }
 
         // Fallback: Any tactical approach
-        System.out.println("HARD: Falling back to tactical approach");
-        return findTacticalApproachMove(hounds, fox, board);
+        GameLog.log(Category.AI, Level.DEBUG, "HARD: Falling back to tactical approach");
+        phase = startPhase("hard.tactical");
+        Move tacticalMove = findTacticalApproachMove(hounds, fox, board);
+        phase.finish(tacticalMove, positionsExamined);
+        if (tacticalMove != null) {
+            AIMetrics.getInstance().recordPhase("hard.tactical");
+        }
+        return tacticalMove;
+    }
+
+    /**
+     * Start the event of a phase and its count of examined positions
+     */
+    private AIPhaseEvent startPhase(String name) {
+        positionsExamined = 0;
+        return AIPhaseEvent.start(name);
     }
 
     /**
      * Check if fox can reach top row in one move and block it
      */
     private Move findEmergencyBlock(List<Hound> hounds, Fox fox, Board board) {
-        List<int[]> foxMoves = fox.getPossibleMoves(board);
-
-        for (int[] foxMove : foxMoves) {
-            if (foxMove[0] == 0) { // Fox can reach top row!
-                System.out.println("EMERGENCY: Fox can reach top row at position " + foxMove[0] + "," + foxMove[1]);
+        int foxMoveCount = fox.generateMoves(board, foxMoveBuffer, 0);
+        positionsExamined += foxMoveCount;
+
+        for (int f = 0; f < foxMoveCount; f++) {
+            int foxTarget = PackedMove.to(foxMoveBuffer[f]);
+            if (Bitboards.row(foxTarget) == 0) { // Fox can reach top row!
+                if (GameLog.isEnabled(Category.AI, Level.DEBUG)) {
+                    GameLog.log(Category.AI, Level.DEBUG, "EMERGENCY: Fox can reach top row at position " +
+                            Bitboards.row(foxTarget) + "," + Bitboards.col(foxTarget));
+                }
 
                 // Try to block with any hound
-                for (int i = 0; i < hounds.size(); i++) {
-                    Hound hound = hounds.get(i);
-                    List<int[]> possibleMoves = hound.getPossibleMoves(board);
-
-                    for (int[] move : possibleMoves) {
-                        if (move[0] == foxMove[0] && move[1] == foxMove[1]) {
-                            System.out.println("EMERGENCY BLOCK: Using hound " + i + " at position " +
-                                    hound.getRow() + "," + hound.getCol() + " to block");
-                            return new Move(i, hound.getRow(), hound.getCol(), move[0], move[1]);
-                        }
+                Move block = AIUtils.findMoveToSquare(hounds, board, foxTarget, houndMoveBuffer);
+                if (block != null) {
+                    if (GameLog.isEnabled(Category.AI, Level.DEBUG)) {
+                        GameLog.log(Category.AI, Level.DEBUG, "EMERGENCY BLOCK: Using hound " + block.getHoundIndex() + " at position " +
+                                block.getFromRow() + "," + block.getFromCol() + " to block");
                     }
+                    return block;
                 }
 
-                System.out.println("WARNING: Could not find a hound to block the fox's path to top row!");
+                GameLog.log(Category.AI, Level.WARN, "WARNING: Could not find a hound to block the fox's path to top row!");
             }
         }
 
@@ -107,82 +161,63 @@ public class HardAIStrategy implements AIStrategy {
      * Find a move that traps the fox completely
      */
     private Move findFoxTrappingMove(List<Hound> hounds, Fox fox, Board board) {
-        // Check each hound's possible moves
-        for (int i = 0; i < hounds.size(); i++) {
-            Hound hound = hounds.get(i);
-            List<int[]> possibleMoves = hound.getPossibleMoves(board);
-
-            for (int[] move : possibleMoves) {
-                // Simulate the move
-                int originalRow = hound.getRow();
-                int originalCol = hound.getCol();
-
-                board.movePiece(originalRow, originalCol, move[0], move[1]);
-                hound.move(move[0], move[1]);
-
-                // Check if fox is now blocked
-                boolean foxBlocked = board.isFoxBlocked(fox.getRow(), fox.getCol());
-
-                // Undo the move
-                hound.move(originalRow, originalCol);
-                board.movePiece(move[0], move[1], originalRow, originalCol);
-
-                if (foxBlocked) {
-                    System.out.println("TRAPPING MOVE FOUND: Can trap fox by moving hound " + i +
-                            " to position " + move[0] + "," + move[1]);
-                    return new Move(i, originalRow, originalCol, move[0], move[1]);
-                }
+        int moveCount = board.generateHoundMoves(houndMoveBuffer, 0);
+        int trap = AIUtils.findTrappingMoveIndex(board, houndMoveBuffer, moveCount);
+        // The search stops at the first trapping move
+        positionsExamined += trap == -1 ? moveCount : trap + 1;
+        Move trappingMove = trap == -1 ? null : AIUtils.toHoundMove(houndMoveBuffer[trap], hounds);
+        if (trappingMove != null) {
+            if (GameLog.isEnabled(Category.AI, Level.DEBUG)) {
+                GameLog.log(Category.AI, Level.DEBUG, "TRAPPING MOVE FOUND: Can trap fox by moving hound " + trappingMove.getHoundIndex() +
+                        " to position " + trappingMove.getToRow() + "," + trappingMove.getToCol());
             }
         }
-
-        return null;
+        return trappingMove;
     }
 
     /**
      * Find a comprehensive blocking move that cuts off ALL possible paths to the top
      */
     private Move findComprehensiveBlockingMove(List<Hound> hounds, Fox fox, Board board) {
-        // First, analyze all possible paths the fox could take to the top row
-        Map<String, List<List<int[]>>> allPathsMap = findAllPathsToTop(fox, board);
+        // First, count the paths the fox could take to the top row
+        pathAnalysis.analyze(board);
+        positionsExamined++;
 
-        if (allPathsMap.isEmpty()) {
+        if (pathAnalysis.getReachedTopRow() == 0) {
             return null; // No paths to block
         }
 
+        int initialDistance = pathAnalysis.getDistanceToTopRow();
+        long totalInitialPaths = pathAnalysis.getTotalPathCount();
+
         // Find common critical points in these paths
-        Set<String> criticalPoints = findCriticalPoints(allPathsMap);
+        int criticalCount = findCriticalPoints();
 
-        System.out.println("Found " + criticalPoints.size() + " critical points to block");
+        if (GameLog.isEnabled(Category.AI, Level.DEBUG)) {
+            GameLog.log(Category.AI, Level.DEBUG, "Found " + criticalCount + " critical points to block");
+        }
 
-        // For each critical point, see if we can block it
-        for (String point : criticalPoints) {
-            String[] coords = point.split(",");
-            int row = Integer.parseInt(coords[0]);
-            int col = Integer.parseInt(coords[1]);
+        // For each critical point (most used first), see if we can block it
+        for (int c = 0; c < criticalCount; c++) {
+            int point = criticalSquares[c];
 
             // Try to find a hound that can move to this point
             for (int i = 0; i < hounds.size(); i++) {
                 Hound hound = hounds.get(i);
-                List<int[]> possibleMoves = hound.getPossibleMoves(board);
+                int moveCount = hound.generateMoves(board, i, houndMoveBuffer, 0);
 
-                for (int[] move : possibleMoves) {
-                    if (move[0] == row && move[1] == col) {
+                for (int m = 0; m < moveCount; m++) {
+                    if (PackedMove.to(houndMoveBuffer[m]) == point) {
                         // Test if this move blocks ALL paths
-                        int originalRow = hound.getRow();
-                        int originalCol = hound.getCol();
-
-                        board.movePiece(originalRow, originalCol, move[0], move[1]);
-                        hound.move(move[0], move[1]);
-
-                        Map<String, List<List<int[]>>> remainingPaths = findAllPathsToTop(fox, board);
-
-                        // Undo the move
-                        hound.move(originalRow, originalCol);
-                        board.movePiece(move[0], move[1], originalRow, originalCol);
+                        int from = PackedMove.from(houndMoveBuffer[m]);
+                        pathAnalysis.moveHound(from, point);
+                        positionsExamined++;
+                        boolean allBlocked = pathAnalysis.getReachedTopRow() == 0;
+                        pathAnalysis.moveHound(point, from);
 
                         // If all paths are blocked, this is a perfect move
-                        if (remainingPaths.isEmpty()) {
-                            return new Move(i, originalRow, originalCol, move[0], move[1]);
+                        if (allBlocked) {
+                            return PackedMove.toMove(houndMoveBuffer[m]);
                         }
                     }
                 }
@@ -190,144 +225,63 @@ public class HardAIStrategy implements AIStrategy {
         }
 
         // If we can't block all paths with one move, find the most effective blocking move
-        int bestHoundIndex = -1;
-        int[] bestMove = null;
-        int mostPathsBlocked = 0;
-
-        int totalInitialPaths = countTotalPaths(allPathsMap);
+        int bestMove = -1;
+        long mostPathsBlocked = 0;
 
         for (int i = 0; i < hounds.size(); i++) {
             Hound hound = hounds.get(i);
-            List<int[]> possibleMoves = hound.getPossibleMoves(board);
-
-            for (int[] move : possibleMoves) {
-                // Simulate this move
-                int originalRow = hound.getRow();
-                int originalCol = hound.getCol();
+            int moveCount = hound.generateMoves(board, i, houndMoveBuffer, 0);
 
-                board.movePiece(originalRow, originalCol, move[0], move[1]);
-                hound.move(move[0], move[1]);
+            for (int m = 0; m < moveCount; m++) {
+                int from = PackedMove.from(houndMoveBuffer[m]);
+                int to = PackedMove.to(houndMoveBuffer[m]);
 
-                // Calculate remaining paths
-                Map<String, List<List<int[]>>> remainingPaths = findAllPathsToTop(fox, board);
-                int remainingPathCount = countTotalPaths(remainingPaths);
-                int pathsBlocked = totalInitialPaths - remainingPathCount;
-
-                // Undo the move
-                hound.move(originalRow, originalCol);
-                board.movePiece(move[0], move[1], originalRow, originalCol);
+                // Simulate this move; a longer way to the top blocks every current path
+                pathAnalysis.moveHound(from, to);
+                positionsExamined++;
+                long remainingPathCount = pathAnalysis.getDistanceToTopRow() > initialDistance
+                        ? 0 : pathAnalysis.getTotalPathCount();
+                long pathsBlocked = totalInitialPaths - remainingPathCount;
+                pathAnalysis.moveHound(to, from);
 
                 // Is this the best blocking move so far?
                 if (pathsBlocked > mostPathsBlocked) {
                     mostPathsBlocked = pathsBlocked;
-                    bestHoundIndex = i;
-                    bestMove = move;
+                    bestMove = houndMoveBuffer[m];
                 }
             }
         }
 
-        if (bestHoundIndex != -1 && bestMove != null && mostPathsBlocked > 0) {
-            Hound hound = hounds.get(bestHoundIndex);
-            return new Move(bestHoundIndex, hound.getRow(), hound.getCol(), bestMove[0], bestMove[1]);
+        if (bestMove != -1 && mostPathsBlocked > 0) {
+            return PackedMove.toMove(bestMove);
         }
 
         return null;
     }
 
     /**
-     * Find all possible paths from fox to top row
-     */
-    private Map<String, List<List<int[]>>> findAllPathsToTop(Fox fox, Board board) {
-        Map<String, List<List<int[]>>> allPaths = new HashMap<>();
-
-        // BFS search for all paths
-        findPathsRecursive(fox.getRow(), fox.getCol(), new ArrayList<>(), allPaths, board, new HashSet<>());
-
-        return allPaths;
-    }
-
-    /**
-     * Recursive helper to find all paths
+     * Find critical points that appear in multiple paths: fills criticalSquares with the
+     * top 30% of squares by path count (highest first) and returns how many there are
      */
-    private void findPathsRecursive(int row, int col, List<int[]> currentPath,
-                                    Map<String, List<List<int[]>>> allPaths,
-                                    Board board, Set<String> visited) {
-        // Add current position to path
-        currentPath.add(new int[]{row, col});
-        visited.add(row + "," + col);
-
-        // If we reached the top row, record this path
-        if (row == 0) {
-            String endPoint = row + "," + col;
-            if (!allPaths.containsKey(endPoint)) {
-                allPaths.put(endPoint, new ArrayList<>());
-            }
-            allPaths.get(endPoint).add(new ArrayList<>(currentPath));
-        } else {
-            // Try all four diagonal directions
-            int[][] directions = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
-
-            for (int[] dir : directions) {
-                int newRow = row + dir[0];
-                int newCol = col + dir[1];
-                String newKey = newRow + "," + newCol;
-
-                // Check if this move is valid and not already visited
-                if (board.isValidCell(newRow, newCol) &&
-                        !board.isCellOccupied(newRow, newCol) &&
-                        !visited.contains(newKey)) {
-
-                    // Recursively explore this path
-                    findPathsRecursive(newRow, newCol, new ArrayList<>(currentPath),
-                            allPaths, board, new HashSet<>(visited));
-                }
+    private int findCriticalPoints() {
+        int pointCount = 0;
+        for (long mask = Bitboards.DARK_SQUARES; mask != 0; mask &= mask - 1) {
+            int square = Long.numberOfTrailingZeros(mask);
+            long frequency = pathAnalysis.getCriticality(square);
+            if (frequency == 0) {
+                continue;
             }
-        }
-    }
 
-    /**
-     * Find critical points that appear in multiple paths
-     */
-    private Set<String> findCriticalPoints(Map<String, List<List<int[]>>> allPaths) {
-        // Count occurrences of each position in all paths
-        Map<String, Integer> pointFrequency = new HashMap<>();
-
-        for (List<List<int[]>> pathsToEndpoint : allPaths.values()) {
-            for (List<int[]> path : pathsToEndpoint) {
-                // Skip the first point (fox position) and last point (top row)
-                for (int i = 1; i < path.size() - 1; i++) {
-                    int[] point = path.get(i);
-                    String key = point[0] + "," + point[1];
-
-                    pointFrequency.put(key, pointFrequency.getOrDefault(key, 0) + 1);
-                }
+            // Insertion sort by frequency, highest first
+            int i = pointCount++;
+            while (i > 0 && pathAnalysis.getCriticality(criticalSquares[i - 1]) < frequency) {
+                criticalSquares[i] = criticalSquares[i - 1];
+                i--;
             }
+            criticalSquares[i] = square;
         }
 
-        // Sort points by frequency (highest first)
-        List<Map.Entry<String, Integer>> sortedPoints = new ArrayList<>(pointFrequency.entrySet());
-        sortedPoints.sort((a, b) -> b.getValue() - a.getValue());
-
-        // Take the top 30% most frequent points as critical
-        Set<String> criticalPoints = new HashSet<>();
-        int criticalCount = Math.max(1, (int)(sortedPoints.size() * 0.3));
-
-        for (int i = 0; i < criticalCount && i < sortedPoints.size(); i++) {
-            criticalPoints.add(sortedPoints.get(i).getKey());
-        }
-
-        return criticalPoints;
-    }
-
-    /**
-     * Count total paths across all endpoints
-     */
-    private int countTotalPaths(Map<String, List<List<int[]>>> pathsMap) {
-        int count = 0;
-        for (List<List<int[]>> paths : pathsMap.values()) {
-            count += paths.size();
-        }
-        return count;
+        return Math.min(pointCount, Math.max(1, (int)(pointCount * 0.3)));
     }
 
     /**
@@ -376,25 +330,25 @@ public class HardAIStrategy implements AIStrategy {
             int[] target = targetPositions.get(worstHoundIndex);
 
             // Find the best move toward the target
-            List<int[]> possibleMoves = hound.getPossibleMoves(board);
-            int bestMoveIndex = -1;
+            int moveCount = hound.generateMoves(board, worstHoundIndex, houndMoveBuffer, 0);
+            positionsExamined += moveCount;
+            int bestMove = -1;
             int bestImprovement = -1;
 
-            for (int i = 0; i < possibleMoves.size(); i++) {
-                int[] move = possibleMoves.get(i);
+            for (int m = 0; m < moveCount; m++) {
+                int to = PackedMove.to(houndMoveBuffer[m]);
                 int currentDistance = Math.abs(hound.getRow() - target[0]) + Math.abs(hound.getCol() - target[1]);
-                int newDistance = Math.abs(move[0] - target[0]) + Math.abs(move[1] - target[1]);
+                int newDistance = Math.abs(Bitboards.row(to) - target[0]) + Math.abs(Bitboards.col(to) - target[1]);
                 int improvement = currentDistance - newDistance;
 
                 if (improvement > bestImprovement) {
                     bestImprovement = improvement;
-                    bestMoveIndex = i;
+                    bestMove = houndMoveBuffer[m];
                 }
             }
 
-            if (bestMoveIndex != -1 && bestImprovement > 0) {
-                int[] move = possibleMoves.get(bestMoveIndex);
-                return new Move(worstHoundIndex, hound.getRow(), hound.getCol(), move[0], move[1]);
+            if (bestMove != -1 && bestImprovement > 0) {
+                return PackedMove.toMove(bestMove);
             }
         }
 
@@ -405,205 +359,98 @@ public class HardAIStrategy implements AIStrategy {
      * Find an advanced strategic move
      */
     private Move findAdvancedStrategicMove(List<Hound> hounds, Fox fox, Board board) {
-        int bestHoundIndex = -1;
-        int[] bestMove = null;
+        int bestMove = -1;
         int bestScore = Integer.MIN_VALUE;
 
-        // Get fox's possible moves
-        List<int[]> foxMoves = fox.getPossibleMoves(board);
-
-        for (int i = 0; i < hounds.size(); i++) {
-            Hound hound = hounds.get(i);
-            List<int[]> possibleMoves = hound.getPossibleMoves(board);
-
-            for (int[] move : possibleMoves) {
-                // Simulate this move
-                int originalRow = hound.getRow();
-                int originalCol = hound.getCol();
-
-                board.movePiece(originalRow, originalCol, move[0], move[1]);
-                hound.move(move[0], move[1]);
+        // Score every hound move at once, with the squares left to the fox after each
+        int foxSquare = board.getFoxSquare();
+        long houndMask = board.getHoundMask();
+        int moveCount = board.generateHoundMoves(houndMoveBuffer, 0);
+        positionsExamined += moveCount;
+        PositionEvaluator.evaluateHoundMoves(foxSquare, houndMask, houndMoveBuffer, moveCount,
+                childScores, childFoxTargets);
 
-                // Evaluate position after move
-                int score = evaluatePosition(hounds, fox, board);
-
-                // Check how many moves fox will have after this move
-                List<int[]> newFoxMoves = fox.getPossibleMoves(board);
-                int moveReduction = foxMoves.size() - newFoxMoves.size();
+        // Get fox's possible moves
+        int foxMoveCount = Long.bitCount(Bitboards.foxSteps(foxSquare) & ~houndMask);
 
-                // Big bonus for restricting fox movement
-                score += moveReduction * 50;
+        for (int m = 0; m < moveCount; m++) {
+            int to = PackedMove.to(houndMoveBuffer[m]);
+            int toRow = Bitboards.row(to);
+            int toCol = Bitboards.col(to);
+            int score = childScores[m];
 
-                // Bonus for moves that advance toward fox's row
-                if (move[0] <= fox.getRow() + 1) {
-                    score += 30;
-                }
+            // Check how many moves fox will have after this move
+            int moveReduction = foxMoveCount - Long.bitCount(childFoxTargets[m]);
 
-                // Bonus for moves that cut off diagonal paths
-                if ((Math.abs(move[0] - fox.getRow()) == 1) &&
-                        (Math.abs(move[1] - fox.getCol()) == 1)) {
-                    score += 40;
-                }
+            // Big bonus for restricting fox movement
+            score += moveReduction * 50;
 
-                // Undo the move
-                hound.move(originalRow, originalCol);
-                board.movePiece(move[0], move[1], originalRow, originalCol);
-
-                if (score > bestScore) {
-                    bestScore = score;
-                    bestHoundIndex = i;
-                    bestMove = move;
-                }
+            // Bonus for moves that advance toward fox's row
+            if (toRow <= fox.getRow() + 1) {
+                score += 30;
             }
-        }
-
-        if (bestHoundIndex != -1 && bestMove != null) {
-            Hound hound = hounds.get(bestHoundIndex);
-            return new Move(bestHoundIndex, hound.getRow(), hound.getCol(), bestMove[0], bestMove[1]);
-        }
-
-        return null;
-    }
-
-    /**
-     * Evaluate the current board position
-     */
-    private int evaluatePosition(List<Hound> hounds, Fox fox, Board board) {
-        int score = 0;
-
-        // Factor 1: Distance of hounds to fox
-        for (Hound hound : hounds) {
-            int distance = Math.abs(hound.getRow() - fox.getRow()) + Math.abs(hound.getCol() - fox.getCol());
-            score -= distance * 5; // Closer is better
-        }
-
-        // Factor 2: Control of key diagonals
-        score += evaluateDiagonalControl(hounds, fox);
-
-        // Factor 3: Fox's distance from top row
-        score += fox.getRow() * 15; // Further from top row is better
 
-        // Factor 4: Hound formation quality
-        score += evaluateHoundFormation(hounds);
-
-        return score;
-    }
-
-    /**
-     * Evaluate control of key diagonals
-     */
-    private int evaluateDiagonalControl(List<Hound> hounds, Fox fox) {
-        int score = 0;
-
-        // Count hounds on each diagonal type (positive and negative slope)
-        Map<Integer, Integer> positiveDiagonals = new HashMap<>(); // r+c = constant
-        Map<Integer, Integer> negativeDiagonals = new HashMap<>(); // r-c = constant
-
-        for (Hound hound : hounds) {
-            int posKey = hound.getRow() + hound.getCol();
-            int negKey = hound.getRow() - hound.getCol();
-
-            positiveDiagonals.put(posKey, positiveDiagonals.getOrDefault(posKey, 0) + 1);
-            negativeDiagonals.put(negKey, negativeDiagonals.getOrDefault(negKey, 0) + 1);
-        }
-
-        // Check fox's diagonals
-        int foxPosDiag = fox.getRow() + fox.getCol();
-        int foxNegDiag = fox.getRow() - fox.getCol();
-
-        // Huge bonus for controlling fox's diagonals
-        if (positiveDiagonals.containsKey(foxPosDiag)) {
-            score += positiveDiagonals.get(foxPosDiag) * 50;
-        }
-
-        if (negativeDiagonals.containsKey(foxNegDiag)) {
-            score += negativeDiagonals.get(foxNegDiag) * 50;
-        }
-
-        return score;
-    }
-
-    /**
-     * Evaluate quality of hound formation
-     */
-    private int evaluateHoundFormation(List<Hound> hounds) {
-        int score = 0;
-
-        // Check for hounds forming horizontal lines (strongest formation)
-        Map<Integer, Integer> rowCounts = new HashMap<>();
-        for (Hound hound : hounds) {
-            int row = hound.getRow();
-            rowCounts.put(row, rowCounts.getOrDefault(row, 0) + 1);
-        }
-
-        // Bonus for multiple hounds on same row
-        for (Map.Entry<Integer, Integer> entry : rowCounts.entrySet()) {
-            if (entry.getValue() > 1) {
-                score += entry.getValue() * 20;
+            // Bonus for moves that cut off diagonal paths
+            if ((Math.abs(toRow - fox.getRow()) == 1) &&
+                    (Math.abs(toCol - fox.getCol()) == 1)) {
+                score += 40;
             }
-        }
 
-        // Check for good spacing between hounds
-        int goodSpacings = 0;
-        for (int i = 0; i < hounds.size(); i++) {
-            for (int j = i + 1; j < hounds.size(); j++) {
-                int rowDiff = Math.abs(hounds.get(i).getRow() - hounds.get(j).getRow());
-                int colDiff = Math.abs(hounds.get(i).getCol() - hounds.get(j).getCol());
-
-                // Ideal spacing is 2 units apart
-                if ((rowDiff == 0 && colDiff == 2) ||
-                        (rowDiff == 2 && colDiff == 0) ||
-                        (rowDiff == 1 && colDiff == 1)) {
-                    goodSpacings++;
-                }
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = houndMoveBuffer[m];
             }
         }
 
-        score += goodSpacings * 15;
+        if (bestMove != -1) {
+            return PackedMove.toMove(bestMove);
+        }
 
-        return score;
+        return null;
     }
 
     /**
      * Find a tactical approach move (fallback)
      */
     private Move findTacticalApproachMove(List<Hound> hounds, Fox fox, Board board) {
-        int bestHoundIndex = -1;
-        int[] bestMove = null;
+        int bestMove = -1;
         int bestScore = Integer.MIN_VALUE;
 
         for (int i = 0; i < hounds.size(); i++) {
             Hound hound = hounds.get(i);
-            List<int[]> possibleMoves = hound.getPossibleMoves(board);
+            int moveCount = hound.generateMoves(board, i, houndMoveBuffer, 0);
+            positionsExamined += moveCount;
+
+            for (int m = 0; m < moveCount; m++) {
+                int to = PackedMove.to(houndMoveBuffer[m]);
+                int toRow = Bitboards.row(to);
+                int toCol = Bitboards.col(to);
 
-            for (int[] move : possibleMoves) {
                 // Basic scoring - prefer moves closer to fox
-                int distance = Math.abs(move[0] - fox.getRow()) + Math.abs(move[1] - fox.getCol());
+                int distance = Math.abs(toRow - fox.getRow()) + Math.abs(toCol - fox.getCol());
                 int score = 100 - (distance * 10);
 
                 // Prefer forward movement
-                if (move[0] > hound.getRow()) {
+                if (toRow > hound.getRow()) {
                     score += 20;
                 }
 
                 // Prefer center control
-                int distanceFromCenter = Math.abs(move[1] - BOARD_CENTER);
+                int distanceFromCenter = Math.abs(toCol - BOARD_CENTER);
                 score += (3 - Math.min(3, distanceFromCenter)) * 5;
 
                 if (score > bestScore) {
                     bestScore = score;
-                    bestHoundIndex = i;
-                    bestMove = move;
+                    bestMove = houndMoveBuffer[m];
                 }
             }
         }
 
-        if (bestHoundIndex != -1 && bestMove != null) {
-            Hound hound = hounds.get(bestHoundIndex);
-            return new Move(bestHoundIndex, hound.getRow(), hound.getCol(), bestMove[0], bestMove[1]);
+        if (bestMove != -1) {
+            return PackedMove.toMove(bestMove);
         }
 
         // Last resort
-        return AIUtils.findAnyValidMove(hounds, board);
+        return AIUtils.findAnyValidMove(hounds, board, houndMoveBuffer);
     }
-}
\ No newline at end of file
+}
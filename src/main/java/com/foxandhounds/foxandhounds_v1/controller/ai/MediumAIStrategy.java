@@ -1,5 +1,10 @@
 package com.foxandhounds.foxandhounds_v1.controller.ai;
 
+import com.foxandhounds.foxandhounds_v1.logging.GameLog;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Category;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Level;
+import com.foxandhounds.foxandhounds_v1.metrics.AIMetrics;
+import com.foxandhounds.foxandhounds_v1.metrics.AIPhaseEvent;
 import com.foxandhounds.foxandhounds_v1.model.*;
 import java.util.*;
 
@@ -12,86 +17,98 @@ public class MediumAIStrategy implements AIStrategy {
     private final Random random = new Random();
     private static boolean firstUse = true;
 
+    // Reusable buffers for packed move generation
+    private final int[] houndMoveBuffer = new int[PackedMove.MAX_HOUND_MOVES];
+    private final int[] foxMoveBuffer = new int[PackedMove.MAX_FOX_MOVES];
+
+    // Positions looked at by the current phase (phases left to AIUtils report none)
+    private long positionsExamined;
+
     @Override
     public Move getBestMove(List<Hound> hounds, Fox fox, Board board) {
         // Log first use for debugging
         if (firstUse) {
-            System.out.println("🟡🟡🟡 MEDIUM STRATEGY INITIALIZED AND BEING USED 🟡🟡🟡");
+            GameLog.log(Category.AI, Level.INFO, "🟡🟡🟡 MEDIUM STRATEGY INITIALIZED AND BEING USED 🟡🟡🟡");
             firstUse = false;
         }
 
-        System.out.println("✓ Using MEDIUM strategy");
+        GameLog.log(Category.AI, Level.DEBUG, "✓ Using MEDIUM strategy");
 
         // Always take a winning move if available (100% of the time)
-        Move trappingMove = AIUtils.findFoxTrappingMove(hounds, fox, board);
+        AIPhaseEvent phase = startPhase("medium.trap");
+        Move trappingMove = AIUtils.findFoxTrappingMove(hounds, fox, board, houndMoveBuffer);
+        phase.finish(trappingMove, positionsExamined);
         if (trappingMove != null) {
-            System.out.println("MEDIUM: Found move to trap fox");
+            GameLog.log(Category.AI, Level.DEBUG, "MEDIUM: Found move to trap fox");
+            AIMetrics.getInstance().recordPhase("medium.trap");
             return trappingMove;
         }
 
         // Always block the fox from reaching the top row if possible (90% of the time)
         if (random.nextDouble() < 0.9) {
+            phase = startPhase("medium.emergencyBlock");
             Move emergencyBlock = findEmergencyBlock(hounds, fox, board);
+            phase.finish(emergencyBlock, positionsExamined);
             if (emergencyBlock != null) {
-                System.out.println("MEDIUM: Blocking fox from reaching top row");
+                GameLog.log(Category.AI, Level.DEBUG, "MEDIUM: Blocking fox from reaching top row");
+                AIMetrics.getInstance().recordPhase("medium.emergencyBlock");
                 return emergencyBlock;
             }
         }
 
         // Block fox's paths to top row if possible (80% of the time)
         if (random.nextDouble() < 0.8) {
+            phase = startPhase("medium.blockPaths");
             Move pathBlockingMove = findPathBlockingMove(hounds, fox, board);
+            phase.finish(pathBlockingMove, positionsExamined);
             if (pathBlockingMove != null) {
-                System.out.println("MEDIUM: Blocking fox's paths");
+                GameLog.log(Category.AI, Level.DEBUG, "MEDIUM: Blocking fox's paths");
+                AIMetrics.getInstance().recordPhase("medium.blockPaths");
                 return pathBlockingMove;
             }
         }
 
         // Try to build a defensive wall (70% of the time)
         if (random.nextDouble() < 0.7) {
+            phase = startPhase("medium.defensiveLine");
             Move wallMove = buildDefensiveLine(hounds, fox, board);
+            phase.finish(wallMove, positionsExamined);
             if (wallMove != null) {
-                System.out.println("MEDIUM: Building defensive line");
+                GameLog.log(Category.AI, Level.DEBUG, "MEDIUM: Building defensive line");
+                AIMetrics.getInstance().recordPhase("medium.defensiveLine");
                 return wallMove;
             }
         }
 
         // Use tactical approach moves (better than random but not perfect)
+        phase = startPhase("medium.tactical");
         Move tacticalMove = findTacticalApproachMove(hounds, fox, board);
+        phase.finish(tacticalMove, positionsExamined);
         if (tacticalMove != null) {
-            System.out.println("MEDIUM: Making tactical move");
+            GameLog.log(Category.AI, Level.DEBUG, "MEDIUM: Making tactical move");
+            AIMetrics.getInstance().recordPhase("medium.tactical");
             return tacticalMove;
         }
 
         // Fallback to any valid move
-        System.out.println("MEDIUM: Fallback to any valid move");
-        return AIUtils.findAnyValidMove(hounds, board);
+        GameLog.log(Category.AI, Level.DEBUG, "MEDIUM: Fallback to any valid move");
+        phase = startPhase("medium.anyMove");
+        Move anyMove = AIUtils.findAnyValidMove(hounds, board, houndMoveBuffer);
+        phase.finish(anyMove, positionsExamined);
+        AIMetrics.getInstance().recordPhase("medium.anyMove");
+        return anyMove;
+    }
+
+    private AIPhaseEvent startPhase(String name) {
+        positionsExamined = 0;
+        return AIPhaseEvent.start(name);
     }
 
     /**
      * Check if fox can reach top row in next move and block it
      */
     private Move findEmergencyBlock(List<Hound> hounds, Fox fox, Board board) {
-        List<int[]> foxMoves = fox.getPossibleMoves(board);
-
-        // Find if fox can reach top row
-        for (int[] foxMove : foxMoves) {
-            if (foxMove[0] == 0) {
-                // Fox can reach top row! Try to block
-                for (int i = 0; i < hounds.size(); i++) {
-                    Hound hound = hounds.get(i);
-                    List<int[]> possibleMoves = hound.getPossibleMoves(board);
-
-                    for (int[] move : possibleMoves) {
-                        if (move[0] == foxMove[0] && move[1] == foxMove[1]) {
-                            return new Move(i, hound.getRow(), hound.getCol(), move[0], move[1]);
-                        }
-                    }
-                }
-            }
-        }
-
-        return null;
+        return AIUtils.findDirectBlockingMove(hounds, fox, board, foxMoveBuffer, houndMoveBuffer);
     }
 
     /**
@@ -105,45 +122,34 @@ public class MediumAIStrategy implements AIStrategy {
             return null;  // No paths to block
         }
 
-        // Try to find moves that reduce paths
-        int bestHoundIndex = -1;
-        int[] bestMove = null;
+        // Try to find moves that reduce paths (simulated with the board's own hound indices)
+        int bestMove = -1;
         int mostPathsBlocked = 0;
-
-        for (int i = 0; i < hounds.size(); i++) {
-            Hound hound = hounds.get(i);
-            List<int[]> possibleMoves = hound.getPossibleMoves(board);
-
-            for (int[] move : possibleMoves) {
-                // Simulate the move
-                int originalRow = hound.getRow();
-                int originalCol = hound.getCol();
-
-                board.movePiece(originalRow, originalCol, move[0], move[1]);
-                hound.move(move[0], move[1]);
-
-                // Recalculate paths
-                Map<Integer, List<int[]>> remainingPaths = AIUtils.findPathsToTopRow(fox, board);
-                int currentPaths = AIUtils.countTotalPaths(pathsToTop);
-                int remainingPathCount = AIUtils.countTotalPaths(remainingPaths);
-                int pathsBlocked = currentPaths - remainingPathCount;
-
-                // Undo the move
-                hound.move(originalRow, originalCol);
-                board.movePiece(move[0], move[1], originalRow, originalCol);
-
-                // Check if this move blocks more paths
-                if (pathsBlocked > mostPathsBlocked) {
-                    mostPathsBlocked = pathsBlocked;
-                    bestHoundIndex = i;
-                    bestMove = move;
-                }
+        int moveCount = board.generateHoundMoves(houndMoveBuffer, 0);
+        positionsExamined += moveCount;
+
+        for (int m = 0; m < moveCount; m++) {
+            // Simulate the move
+            board.makeMove(houndMoveBuffer[m]);
+
+            // Recalculate paths
+            Map<Integer, List<int[]>> remainingPaths = AIUtils.findPathsToTopRow(fox, board);
+            int currentPaths = AIUtils.countTotalPaths(pathsToTop);
+            int remainingPathCount = AIUtils.countTotalPaths(remainingPaths);
+            int pathsBlocked = currentPaths - remainingPathCount;
+
+            // Undo the move
+            board.unmakeMove();
+
+            // Check if this move blocks more paths
+            if (pathsBlocked > mostPathsBlocked) {
+                mostPathsBlocked = pathsBlocked;
+                bestMove = houndMoveBuffer[m];
             }
         }
 
-        if (bestHoundIndex != -1 && bestMove != null && mostPathsBlocked > 0) {
-            Hound hound = hounds.get(bestHoundIndex);
-            return new Move(bestHoundIndex, hound.getRow(), hound.getCol(), bestMove[0], bestMove[1]);
+        if (bestMove != -1 && mostPathsBlocked > 0) {
+            return AIUtils.toHoundMove(bestMove, hounds);
         }
 
         return null;
@@ -176,8 +182,7 @@ public class MediumAIStrategy implements AIStrategy {
         }
 
         // Try to move a hound to the target row
-        int bestHoundIndex = -1;
-        int[] bestMove = null;
+        int bestMove = -1;
         int bestScore = Integer.MIN_VALUE;
 
         for (int i = 0; i < hounds.size(); i++) {
@@ -187,16 +192,20 @@ public class MediumAIStrategy implements AIStrategy {
             }
 
             Hound hound = hounds.get(i);
-            List<int[]> possibleMoves = hound.getPossibleMoves(board);
+            int moveCount = hound.generateMoves(board, i, houndMoveBuffer, 0);
+            positionsExamined += moveCount;
+
+            for (int m = 0; m < moveCount; m++) {
+                int to = PackedMove.to(houndMoveBuffer[m]);
+                int toCol = Bitboards.col(to);
 
-            for (int[] move : possibleMoves) {
-                if (move[0] == targetRow) {
+                if (Bitboards.row(to) == targetRow) {
                     int score = 100;  // Base score for reaching target row
 
                     // Check for good spacing
                     boolean goodSpacing = true;
                     for (int col : columnsOccupied) {
-                        if (Math.abs(col - move[1]) < 2) {
+                        if (Math.abs(col - toCol) < 2) {
                             goodSpacing = false;
                             break;
                         }
@@ -207,21 +216,19 @@ public class MediumAIStrategy implements AIStrategy {
                     }
 
                     // Prefer central columns (better for blocking)
-                    int distanceFromCenter = Math.abs(move[1] - Board.BOARD_SIZE / 2);
+                    int distanceFromCenter = Math.abs(toCol - Board.BOARD_SIZE / 2);
                     score -= distanceFromCenter * 5;
 
                     if (score > bestScore) {
                         bestScore = score;
-                        bestHoundIndex = i;
-                        bestMove = move;
+                        bestMove = houndMoveBuffer[m];
                     }
                 }
             }
         }
 
-        if (bestHoundIndex != -1 && bestMove != null) {
-            Hound hound = hounds.get(bestHoundIndex);
-            return new Move(bestHoundIndex, hound.getRow(), hound.getCol(), bestMove[0], bestMove[1]);
+        if (bestMove != -1) {
+            return PackedMove.toMove(bestMove);
         }
 
         return null;
@@ -231,48 +238,51 @@ public class MediumAIStrategy implements AIStrategy {
      * Find a tactical move that balances approach with blocking
      */
     private Move findTacticalApproachMove(List<Hound> hounds, Fox fox, Board board) {
-        int bestHoundIndex = -1;
-        int[] bestMove = null;
+        int bestMove = -1;
         int bestScore = Integer.MIN_VALUE;
 
         // Get fox's possible moves to anticipate
-        List<int[]> foxMoves = fox.getPossibleMoves(board);
-        Set<String> foxMoveKeys = new HashSet<>();
-        for (int[] move : foxMoves) {
-            foxMoveKeys.add(move[0] + "," + move[1]);
+        long foxTargets = 0L;
+        int foxMoveCount = fox.generateMoves(board, foxMoveBuffer, 0);
+        positionsExamined += foxMoveCount;
+        for (int f = 0; f < foxMoveCount; f++) {
+            foxTargets |= Bitboards.bit(PackedMove.to(foxMoveBuffer[f]));
         }
 
         for (int i = 0; i < hounds.size(); i++) {
             Hound hound = hounds.get(i);
-            List<int[]> possibleMoves = hound.getPossibleMoves(board);
+            int moveCount = hound.generateMoves(board, i, houndMoveBuffer, 0);
+            positionsExamined += moveCount;
 
-            for (int[] move : possibleMoves) {
+            for (int m = 0; m < moveCount; m++) {
+                int to = PackedMove.to(houndMoveBuffer[m]);
+                int toRow = Bitboards.row(to);
+                int toCol = Bitboards.col(to);
                 int score = 0;
 
                 // Base score: Distance to fox (closer is better)
-                int distance = Math.abs(move[0] - fox.getRow()) + Math.abs(move[1] - fox.getCol());
+                int distance = Math.abs(toRow - fox.getRow()) + Math.abs(toCol - fox.getCol());
                 score += (10 - distance) * 5;
 
                 // Bonus for moving toward fox's row
-                if (move[0] > hound.getRow() && move[0] <= fox.getRow()) {
+                if (toRow > hound.getRow() && toRow <= fox.getRow()) {
                     score += 20;
                 }
 
                 // Extra bonus for blocking a fox's potential move
-                String moveKey = move[0] + "," + move[1];
-                if (foxMoveKeys.contains(moveKey)) {
+                if ((foxTargets & Bitboards.bit(to)) != 0) {
                     score += 40;
                 }
 
                 // Bonus for center control
                 int center = Board.BOARD_SIZE / 2;
-                int distanceToCenter = Math.abs(move[1] - center);
+                int distanceToCenter = Math.abs(toCol - center);
                 score += (4 - distanceToCenter) * 5;
 
                 // Bonus for horizontal alignment (forming a line)
                 int sameRowCount = 0;
                 for (Hound otherHound : hounds) {
-                    if (otherHound != hound && otherHound.getRow() == move[0]) {
+                    if (otherHound != hound && otherHound.getRow() == toRow) {
                         sameRowCount++;
                     }
                 }
@@ -280,17 +290,15 @@ public class MediumAIStrategy implements AIStrategy {
 
                 if (score > bestScore) {
                     bestScore = score;
-                    bestHoundIndex = i;
-                    bestMove = move;
+                    bestMove = houndMoveBuffer[m];
                 }
             }
         }
 
-        if (bestHoundIndex != -1 && bestMove != null) {
-            Hound hound = hounds.get(bestHoundIndex);
-            return new Move(bestHoundIndex, hound.getRow(), hound.getCol(), bestMove[0], bestMove[1]);
+        if (bestMove != -1) {
+            return PackedMove.toMove(bestMove);
         }
 
         return null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,132 @@
+package com.foxandhounds.foxandhounds_v1.controller.ai;
+
+import com.foxandhounds.foxandhounds_v1.model.PackedMove;
+import java.util.Arrays;
+
+/**
+ * Move ordering for search-based strategies.
+ *
+ * Moves are tried in this order: the transposition table's best move, the two
+ * killer moves of the ply (moves that caused a beta cutoff in a sibling node),
+ * then the rest by history score. The history table scores each move per side
+ * and per (source square, destination square): a move gains depth squared when
+ * it causes a cutoff and the moves searched before it lose as much, so cutoffs
+ * near the root count more.
+ *
+ * Moves are compared by their squares only, since the same hound move can carry
+ * a different hound index in a transposed position. Everything is kept in
+ * primitive arrays; an instance belongs to one search thread and is cleared
+ * at the start of each game.
+ */
+public class MoveOrdering {
+    // Source and destination bits of a packed move
+    private static final int SQUARES_MASK = 0xFFF;
+
+    // Sort keys of the table move and killers, above any history score
+    private static final int TABLE_MOVE_SCORE = Integer.MAX_VALUE;
+    private static final int KILLER_SCORE = Integer.MAX_VALUE - 2;
+
+    // History scores are halved once one of them gets this far from zero
+    private static final int HISTORY_LIMIT = 1 << 20;
+
+    private static final int KILLER_SLOTS = 2;
+
+    // killers[ply * 2 + slot]: squares of the killer moves, 0 if empty
+    private final int[] killers;
+
+    // history[side << 12 | from | to << 6], side 0 for hounds and 1 for the fox
+    private final int[] history = new int[2 << 12];
+
+    // Sort keys of the moves being ordered (one node's moves at a time)
+    private final int[] sortKeys = new int[PackedMove.MAX_HOUND_MOVES];
+
+    /**
+     * Creates move ordering tables for searches up to the given ply.
+     *
+     * @param maxPly Deepest ply the search can reach
+     */
+    public MoveOrdering(int maxPly) {
+        killers = new int[maxPly * KILLER_SLOTS];
+    }
+
+    /**
+     * Sorts the moves of a node, best candidates first.
+     *
+     * @param moves Packed moves
+     * @param count Number of moves
+     * @param tableMove Best move stored in the transposition table (0 if none)
+     * @param ply Distance from the root
+     * @param houndsToMove true if the moves are hound moves
+     */
+    public void order(int[] moves, int count, int tableMove, int ply, boolean houndsToMove) {
+        int killer0 = killers[ply * KILLER_SLOTS];
+        int killer1 = killers[ply * KILLER_SLOTS + 1];
+        int side = houndsToMove ? 0 : 1 << 12;
+        tableMove &= SQUARES_MASK;
+
+        // Insertion sort: there are at most eight moves
+        for (int m = 0; m < count; m++) {
+            int move = moves[m];
+            int squares = move & SQUARES_MASK;
+            int key = squares == tableMove ? TABLE_MOVE_SCORE
+                    : squares == killer0 ? KILLER_SCORE
+                    : squares == killer1 ? KILLER_SCORE - 1
+                    : history[side | squares];
+
+            int i = m;
+            while (i > 0 && sortKeys[i - 1] < key) {
+                moves[i] = moves[i - 1];
+                sortKeys[i] = sortKeys[i - 1];
+                i--;
+            }
+            moves[i] = move;
+            sortKeys[i] = key;
+        }
+    }
+
+    /**
+     * Records a beta cutoff: the cutting move becomes a killer and gains history,
+     * the moves searched before it without success lose history.
+     *
+     * @param moves Moves of the node, in the order they were searched
+     * @param cutoffIndex Index of the move that caused the cutoff
+     * @param depth Remaining depth of the node
+     * @param ply Distance from the root
+     * @param houndsToMove true for hound moves
+     */
+    public void recordCutoff(int[] moves, int cutoffIndex, int depth, int ply, boolean houndsToMove) {
+        int squares = moves[cutoffIndex] & SQUARES_MASK;
+        int slot = ply * KILLER_SLOTS;
+        if (killers[slot] != squares) {
+            killers[slot + 1] = killers[slot];
+            killers[slot] = squares;
+        }
+
+        int side = houndsToMove ? 0 : 1 << 12;
+        int bonus = depth * depth;
+        for (int m = 0; m < cutoffIndex; m++) {
+            update(side | (moves[m] & SQUARES_MASK), -bonus);
+        }
+        update(side | squares, bonus);
+    }
+
+    /**
+     * Add to a history score, halving all scores when one gets too large either way
+     */
+    private void update(int index, int amount) {
+        history[index] += amount;
+        if (Math.abs(history[index]) > HISTORY_LIMIT) {
+            for (int i = 0; i < history.length; i++) {
+                history[i] /= 2;
+            }
+        }
+    }
+
+    /**
+     * Clears killers and history (at the start of a game).
+     */
+    public void clear() {
+        Arrays.fill(killers, 0);
+        Arrays.fill(history, 0);
+    }
+}
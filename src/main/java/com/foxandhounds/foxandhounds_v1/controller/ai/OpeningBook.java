@@ -0,0 +1,148 @@
+package com.foxandhounds.foxandhounds_v1.controller.ai;
+
+import com.foxandhounds.foxandhounds_v1.logging.GameLog;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Category;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Level;
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Precomputed hound moves for the opening, keyed by position.
+ *
+ * Every game starts from the same position, so the positions reachable in the
+ * first plies are few. {@link OpeningBookBuilder} finds the best hound move for
+ * each of them offline and writes a sorted table of 8-byte entries: the packed
+ * {@link Position} (hounds to move) followed by the move as a packed move with
+ * only the source and destination squares set. The file is memory-mapped and
+ * looked up by binary search, so a book move costs a few array reads.
+ */
+public class OpeningBook {
+    // System property naming the book file, and the file used when it is not set
+    public static final String PATH_PROPERTY = "foxandhounds.book";
+    public static final String DEFAULT_FILE_NAME = "foxandhounds-book.bin";
+
+    // File header: magic, format version, entry count, plies covered
+    static final int MAGIC = 0x46484F42; // "FHOB"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int ENTRY_SIZE = 8;
+
+    // Book loaded from the default location (shared by all games)
+    private static OpeningBook defaultBook;
+    private static boolean defaultLoaded;
+
+    // Entries, starting at HEADER_SIZE
+    private final ByteBuffer data;
+    private final int entryCount;
+
+    OpeningBook(ByteBuffer data) {
+        this.data = data;
+        this.entryCount = data.getInt(8);
+    }
+
+    /**
+     * Memory-maps a book file written by {@link OpeningBookBuilder}.
+     *
+     * @param path Book file
+     * @return The book
+     * @throws IOException If the file cannot be read or is not a valid book
+     */
+    public static OpeningBook open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Opening book too short: " + path);
+            }
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            mapped.order(ByteOrder.BIG_ENDIAN);
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION
+                    || channel.size() != HEADER_SIZE + (long) mapped.getInt(8) * ENTRY_SIZE) {
+                throw new IOException("Not an opening book (or wrong version): " + path);
+            }
+            return new OpeningBook(mapped);
+        }
+    }
+
+    /**
+     * Gets the book from the file named by the {@value #PATH_PROPERTY} system
+     * property (or {@value #DEFAULT_FILE_NAME} in the working directory). The file
+     * is mapped once and shared.
+     *
+     * @return The book, or null if there is no usable file
+     */
+    public static synchronized OpeningBook openDefault() {
+        if (!defaultLoaded) {
+            defaultLoaded = true;
+            Path path = Paths.get(System.getProperty(PATH_PROPERTY, DEFAULT_FILE_NAME));
+            if (Files.isRegularFile(path)) {
+                try {
+                    defaultBook = open(path);
+                    if (GameLog.isEnabled(Category.AI, Level.INFO)) {
+                        GameLog.log(Category.AI, Level.INFO, "Opening book with " + defaultBook.getEntryCount()
+                                + " positions loaded from " + path.toAbsolutePath());
+                    }
+                } catch (IOException e) {
+                    GameLog.log(Category.AI, Level.WARN, "Could not load opening book", e);
+                }
+            }
+        }
+        return defaultBook;
+    }
+
+    /**
+     * Looks up the book move for a position.
+     *
+     * @param position Position with the hounds to move
+     * @return Packed move (source and destination squares only), or -1 if the position is not in the book
+     */
+    public int lookup(Position position) {
+        return lookup(position.toPacked());
+    }
+
+    /**
+     * Looks up the book move for a packed position.
+     *
+     * @param packedPosition Packed position with the hounds to move
+     * @return Packed move (source and destination squares only), or -1 if the position is not in the book
+     */
+    public int lookup(int packedPosition) {
+        int low = 0;
+        int high = entryCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int key = data.getInt(HEADER_SIZE + mid * ENTRY_SIZE);
+            if (key < packedPosition) {
+                low = mid + 1;
+            } else if (key > packedPosition) {
+                high = mid - 1;
+            } else {
+                return data.getInt(HEADER_SIZE + mid * ENTRY_SIZE + 4);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the number of positions in the book.
+     *
+     * @return Entry count
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Gets the number of plies from the start the book was built for.
+     *
+     * @return Book depth in plies
+     */
+    public int getPlies() {
+        return data.getInt(12);
+    }
+}
@@ -0,0 +1,54 @@
+package com.foxandhounds.foxandhounds_v1.controller.ai;
+
+import com.foxandhounds.foxandhounds_v1.logging.GameLog;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Category;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Level;
+import com.foxandhounds.foxandhounds_v1.metrics.AIMetrics;
+import com.foxandhounds.foxandhounds_v1.metrics.AIPhaseEvent;
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.util.List;
+
+/**
+ * Opening book AI Strategy - plays the {@link OpeningBook} move while the game
+ * is still in the book, and lets the wrapped strategy play the rest.
+ */
+public class OpeningBookAIStrategy implements AIStrategy {
+
+    private final OpeningBook book;
+    private final AIStrategy strategy;
+
+    /**
+     * Creates a book strategy.
+     *
+     * @param book Opening book
+     * @param strategy Strategy for positions outside the book
+     */
+    public OpeningBookAIStrategy(OpeningBook book, AIStrategy strategy) {
+        this.book = book;
+        this.strategy = strategy;
+    }
+
+    @Override
+    public void newGame() {
+        strategy.newGame();
+    }
+
+    @Override
+    public Move getBestMove(List<Hound> hounds, Fox fox, Board board) {
+        if (board.getHoundCount() == Board.HOUND_COUNT && board.getFoxSquare() >= 0) {
+            AIPhaseEvent phase = AIPhaseEvent.start("openingBook.book");
+            int packed = book.lookup(Position.pack(board.getFoxSquare(), board.getHoundMask(), true));
+            Move move = packed != -1 ? AIUtils.toHoundMove(packed, hounds) : null;
+            phase.finish(move, 1);
+
+            AIMetrics metrics = AIMetrics.getInstance();
+            metrics.recordCacheLookups("openingBook", move != null ? 1 : 0, move != null ? 0 : 1);
+            if (move != null) {
+                GameLog.log(Category.AI, Level.DEBUG, "BOOK: Playing opening book move");
+                metrics.recordPhase("openingBook.book");
+                return move;
+            }
+        }
+        return strategy.getBestMove(hounds, fox, board);
+    }
+}
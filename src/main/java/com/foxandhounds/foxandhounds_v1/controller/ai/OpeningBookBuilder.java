@@ -0,0 +1,128 @@
+package com.foxandhounds.foxandhounds_v1.controller.ai;
+
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Builds the {@link OpeningBook} offline.
+ *
+ * Starting from the initial position, every fox move is followed and the hounds
+ * answer with their best move, ply by ply, until the book depth is reached. The
+ * best move comes from the solved {@link EndgameDatabase} (the fastest forced win,
+ * or the slowest loss), which is the result of a search to the end of the game.
+ * Transpositions are stored once. Run with: OpeningBookBuilder [file] [plies].
+ */
+public final class OpeningBookBuilder {
+    // Plies from the start covered by default (the hound moves among the first 15 moves)
+    public static final int DEFAULT_PLIES = 15;
+
+    private OpeningBookBuilder() {
+    }
+
+    /**
+     * Builds the book contents, header included.
+     *
+     * @param database Solved positions used to choose the hound moves
+     * @param plies Number of plies from the start to cover
+     * @return Book file contents
+     */
+    public static byte[] build(EndgameDatabase database, int plies) {
+        PerfectPlayAIStrategy perfect = new PerfectPlayAIStrategy(database, new EasyAIStrategy());
+        Board board = new Board();
+        int[] foxMoves = new int[PackedMove.MAX_FOX_MOVES];
+        Map<Integer, Integer> entries = new HashMap<>();
+
+        // Breadth-first by ply, so each position is first reached at its smallest ply
+        Set<Position> level = new LinkedHashSet<>(Collections.singleton(Position.START));
+        for (int ply = 0; ply + 2 <= plies && !level.isEmpty(); ply += 2) {
+            Set<Position> nextLevel = new LinkedHashSet<>();
+            for (Position position : level) {
+                position.copyTo(board);
+                int foxMoveCount = board.generateFoxMoves(foxMoves, 0);
+
+                for (int f = 0; f < foxMoveCount; f++) {
+                    if (Bitboards.row(PackedMove.to(foxMoves[f])) == 0) {
+                        continue; // The fox escapes: nothing to answer
+                    }
+                    Position afterFox = position.play(foxMoves[f]);
+                    if (entries.containsKey(afterFox.toPacked())) {
+                        continue;
+                    }
+
+                    afterFox.copyTo(board);
+                    int houndMove = perfect.findBestMove(board);
+                    if (houndMove == -1) {
+                        continue; // The hounds cannot move and lose
+                    }
+                    entries.put(afterFox.toPacked(), houndMove & 0xFFF);
+
+                    Position afterHounds = afterFox.play(houndMove);
+                    if ((Bitboards.foxSteps(afterHounds.getFoxSquare()) & ~afterHounds.getHoundMask()) != 0) {
+                        nextLevel.add(afterHounds);
+                    }
+                }
+            }
+            level = nextLevel;
+        }
+
+        int[] keys = new int[entries.size()];
+        int i = 0;
+        for (int key : entries.keySet()) {
+            keys[i++] = key;
+        }
+        Arrays.sort(keys);
+
+        ByteBuffer buffer = ByteBuffer.allocate(OpeningBook.HEADER_SIZE + keys.length * OpeningBook.ENTRY_SIZE)
+                .order(ByteOrder.BIG_ENDIAN);
+        buffer.putInt(OpeningBook.MAGIC).putInt(OpeningBook.VERSION).putInt(keys.length).putInt(plies);
+        for (int key : keys) {
+            buffer.putInt(key).putInt(entries.get(key));
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Builds a book in memory (for tools and tests that have no book file).
+     *
+     * @param database Solved positions used to choose the hound moves
+     * @param plies Number of plies from the start to cover
+     * @return The book
+     */
+    public static OpeningBook buildInMemory(EndgameDatabase database, int plies) {
+        return new OpeningBook(ByteBuffer.wrap(build(database, plies)).order(ByteOrder.BIG_ENDIAN));
+    }
+
+    /**
+     * Builds the book and writes it to a file.
+     *
+     * @param path Destination file
+     * @param database Solved positions used to choose the hound moves
+     * @param plies Number of plies from the start to cover
+     * @throws IOException If the file cannot be written
+     */
+    public static void write(Path path, EndgameDatabase database, int plies) throws IOException {
+        Files.write(path, build(database, plies));
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path path = Paths.get(args.length > 0 ? args[0] : OpeningBook.DEFAULT_FILE_NAME);
+        int plies = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PLIES;
+        long start = System.nanoTime();
+
+        EndgameDatabase database = EndgameDatabase.openDefault();
+        if (database == null) {
+            database = EndgameSolver.solveInMemory();
+        }
+        write(path, database, plies);
+
+        OpeningBook book = OpeningBook.open(path);
+        System.out.println("Wrote " + book.getEntryCount() + " positions (" + plies + " plies) to "
+                + path.toAbsolutePath() + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+}
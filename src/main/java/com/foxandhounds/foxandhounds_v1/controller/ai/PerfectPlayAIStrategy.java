@@ -0,0 +1,120 @@
+package com.foxandhounds.foxandhounds_v1.controller.ai;
+
+import com.foxandhounds.foxandhounds_v1.logging.GameLog;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Category;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Level;
+import com.foxandhounds.foxandhounds_v1.metrics.AIMetrics;
+import com.foxandhounds.foxandhounds_v1.metrics.AIPhaseEvent;
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.util.List;
+
+/**
+ * Perfect-play AI Strategy - looks every hound move up in the {@link EndgameDatabase}.
+ *
+ * Picks the fastest win when one exists, otherwise the move that delays the fox's
+ * win the longest. Positions the database does not cover (not exactly four hounds
+ * on dark squares) are passed to the fallback strategy.
+ */
+public class PerfectPlayAIStrategy implements AIStrategy {
+
+    private final EndgameDatabase database;
+    private final AIStrategy fallback;
+
+    // Reusable buffer for packed move generation
+    private final int[] houndMoveBuffer = new int[PackedMove.MAX_HOUND_MOVES];
+
+    // Result byte of the position after the move chosen by the last findBestMove
+    private int bestResult;
+
+    // Number of hound moves the last findBestMove looked up
+    private int lookupCount;
+
+    /**
+     * Creates a perfect-play strategy.
+     *
+     * @param database Solved positions
+     * @param fallback Strategy for positions outside the database
+     */
+    public PerfectPlayAIStrategy(EndgameDatabase database, AIStrategy fallback) {
+        this.database = database;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void newGame() {
+        fallback.newGame();
+    }
+
+    @Override
+    public Move getBestMove(List<Hound> hounds, Fox fox, Board board) {
+        int foxSquare = board.getFoxSquare();
+        long houndMask = board.getHoundMask();
+        AIMetrics metrics = AIMetrics.getInstance();
+        if (!EndgameDatabase.covers(foxSquare, houndMask)) {
+            GameLog.log(Category.AI, Level.DEBUG, "PERFECT: Position not in endgame database, using fallback");
+            metrics.recordCacheLookups("endgameDatabase", 0, 1);
+            return fallback.getBestMove(hounds, fox, board);
+        }
+        metrics.recordCacheLookups("endgameDatabase", 1, 0);
+        metrics.recordPhase("perfectPlay.database");
+
+        AIPhaseEvent phase = AIPhaseEvent.start("perfectPlay.database");
+        int bestMove = findBestMove(board);
+        Move move = bestMove == -1 ? null : AIUtils.toHoundMove(bestMove, hounds);
+        phase.finish(move, lookupCount);
+        if (move == null) {
+            return null;
+        }
+
+        if (GameLog.isEnabled(Category.AI, Level.DEBUG)) {
+            GameLog.log(Category.AI, Level.DEBUG, "PERFECT: " +
+                    (EndgameDatabase.isHoundWin(bestResult) ? "hounds win" : "fox wins") +
+                    " in " + (EndgameDatabase.pliesToEnd(bestResult) + 1) + " plies");
+        }
+        return move;
+    }
+
+    /**
+     * Find the best hound move in a position the database covers
+     *
+     * @return Packed move (hound index from the board), or -1 if the hounds cannot move
+     */
+    int findBestMove(Board board) {
+        int foxSquare = board.getFoxSquare();
+        long houndMask = board.getHoundMask();
+        int count = board.generateHoundMoves(houndMoveBuffer, 0);
+        int bestMove = -1;
+        bestResult = 0;
+        lookupCount = count;
+
+        for (int m = 0; m < count; m++) {
+            int move = houndMoveBuffer[m];
+            long next = houndMask ^ Bitboards.bit(PackedMove.from(move)) ^ Bitboards.bit(PackedMove.to(move));
+
+            // Trapping the fox ends the game at once
+            int result = (Bitboards.foxSteps(foxSquare) & ~next) == 0
+                    ? EndgameDatabase.result(true, 0)
+                    : database.lookup(foxSquare, next, false);
+
+            if (bestMove == -1 || isBetter(result, bestResult)) {
+                bestMove = move;
+                bestResult = result;
+            }
+        }
+        return bestMove;
+    }
+
+    /**
+     * Compare results of positions after a hound move: wins beat losses,
+     * faster wins beat slower ones, slower losses beat faster ones
+     */
+    private static boolean isBetter(int result, int best) {
+        boolean win = EndgameDatabase.isHoundWin(result);
+        if (win != EndgameDatabase.isHoundWin(best)) {
+            return win;
+        }
+        int plies = EndgameDatabase.pliesToEnd(result);
+        int bestPlies = EndgameDatabase.pliesToEnd(best);
+        return win ? plies < bestPlies : plies > bestPlies;
+    }
+}
@@ -0,0 +1,289 @@
+package com.foxandhounds.foxandhounds_v1.controller.ai;
+
+import com.foxandhounds.foxandhounds_v1.model.*;
+
+/**
+ * Static evaluation of a position from the hounds' point of view.
+ *
+ * These are the positional features HardAIStrategy scores its candidate moves
+ * with (hound distance to the fox, control of the fox's diagonals, fox distance
+ * from the top row and hound formation), computed from board squares with
+ * plain int arithmetic so search code can call it at every leaf.
+ *
+ * The same score can be computed from bit masks, and {@link #evaluateHoundMoves}
+ * and {@link #evaluateFoxMoves} score every child of a position in one pass:
+ * the parent's terms are computed once and each child only adjusts the terms of
+ * the piece that moved, with popcounts against precomputed masks.
+ */
+public final class PositionEvaluator {
+
+    // Squares on the two diagonals through each square (the square itself excluded)
+    private static final long[] DIAGONALS = new long[Bitboards.SQUARE_COUNT];
+
+    // Squares a well spaced partner of a hound on each square stands on
+    private static final long[] SPACING = new long[Bitboards.SQUARE_COUNT];
+
+    // Manhattan distance between two squares: DISTANCE[a * 64 + b]
+    private static final byte[] DISTANCE = new byte[Bitboards.SQUARE_COUNT * Bitboards.SQUARE_COUNT];
+
+    static {
+        for (int a = 0; a < Bitboards.SQUARE_COUNT; a++) {
+            int row = Bitboards.row(a);
+            int col = Bitboards.col(a);
+            for (int b = 0; b < Bitboards.SQUARE_COUNT; b++) {
+                int rowDiff = Math.abs(Bitboards.row(b) - row);
+                int colDiff = Math.abs(Bitboards.col(b) - col);
+                DISTANCE[a * Bitboards.SQUARE_COUNT + b] = (byte) (rowDiff + colDiff);
+                if (b != a && rowDiff == colDiff) {
+                    DIAGONALS[a] |= Bitboards.bit(b);
+                }
+                if ((rowDiff == 0 && colDiff == 2) || (rowDiff == 2 && colDiff == 0)
+                        || (rowDiff == 1 && colDiff == 1)) {
+                    SPACING[a] |= Bitboards.bit(b);
+                }
+            }
+        }
+    }
+
+    private PositionEvaluator() {
+    }
+
+    /**
+     * Evaluate the position on a board
+     *
+     * @param board Board to evaluate
+     * @return Score for the hounds (higher is better for the hounds)
+     */
+    public static int evaluate(Board board) {
+        int houndCount = board.getHoundCount();
+        int h0 = houndCount > 0 ? board.getHoundSquare(0) : -1;
+        int h1 = houndCount > 1 ? board.getHoundSquare(1) : -1;
+        int h2 = houndCount > 2 ? board.getHoundSquare(2) : -1;
+        int h3 = houndCount > 3 ? board.getHoundSquare(3) : -1;
+        return evaluate(board.getFoxSquare(), h0, h1, h2, h3);
+    }
+
+    /**
+     * Evaluate a position given as squares (a negative hound square means no hound)
+     *
+     * @param foxSquare Fox square
+     * @return Score for the hounds (higher is better for the hounds)
+     */
+    public static int evaluate(int foxSquare, int h0, int h1, int h2, int h3) {
+        int foxRow = Bitboards.row(foxSquare);
+        int foxCol = Bitboards.col(foxSquare);
+        int score = 0;
+
+        // Factor 1: Distance of hounds to fox (closer is better)
+        score -= distance(h0, foxRow, foxCol) * 5;
+        score -= distance(h1, foxRow, foxCol) * 5;
+        score -= distance(h2, foxRow, foxCol) * 5;
+        score -= distance(h3, foxRow, foxCol) * 5;
+
+        // Factor 2: Control of key diagonals
+        score += evaluateDiagonalControl(foxRow, foxCol, h0, h1, h2, h3);
+
+        // Factor 3: Fox's distance from top row (further from top row is better)
+        score += foxRow * 15;
+
+        // Factor 4: Hound formation quality
+        score += evaluateHoundFormation(h0, h1, h2, h3);
+
+        return score;
+    }
+
+    private static int distance(int houndSquare, int foxRow, int foxCol) {
+        if (houndSquare < 0) {
+            return 0;
+        }
+        return Math.abs(Bitboards.row(houndSquare) - foxRow) + Math.abs(Bitboards.col(houndSquare) - foxCol);
+    }
+
+    /**
+     * Huge bonus for each hound on one of the fox's two diagonals
+     */
+    private static int evaluateDiagonalControl(int foxRow, int foxCol, int h0, int h1, int h2, int h3) {
+        return (onFoxDiagonals(h0, foxRow, foxCol) + onFoxDiagonals(h1, foxRow, foxCol)
+                + onFoxDiagonals(h2, foxRow, foxCol) + onFoxDiagonals(h3, foxRow, foxCol)) * 50;
+    }
+
+    private static int onFoxDiagonals(int houndSquare, int foxRow, int foxCol) {
+        if (houndSquare < 0) {
+            return 0;
+        }
+        int row = Bitboards.row(houndSquare);
+        int col = Bitboards.col(houndSquare);
+        int count = 0;
+        if (row + col == foxRow + foxCol) {
+            count++; // Same positive-slope diagonal (r+c = constant)
+        }
+        if (row - col == foxRow - foxCol) {
+            count++; // Same negative-slope diagonal (r-c = constant)
+        }
+        return count;
+    }
+
+    /**
+     * Evaluate quality of hound formation: hounds sharing a row and well spaced pairs
+     */
+    private static int evaluateHoundFormation(int h0, int h1, int h2, int h3) {
+        int sharedRows = 0;   // Bit i set if hound i shares its row with another hound
+        int goodSpacings = 0;
+
+        for (int i = 0; i < 4; i++) {
+            int a = pick(i, h0, h1, h2, h3);
+            if (a < 0) {
+                continue;
+            }
+            for (int j = i + 1; j < 4; j++) {
+                int b = pick(j, h0, h1, h2, h3);
+                if (b < 0) {
+                    continue;
+                }
+                int rowDiff = Math.abs(Bitboards.row(a) - Bitboards.row(b));
+                int colDiff = Math.abs(Bitboards.col(a) - Bitboards.col(b));
+
+                if (rowDiff == 0) {
+                    sharedRows |= (1 << i) | (1 << j);
+                }
+
+                // Ideal spacing is 2 units apart
+                if ((rowDiff == 0 && colDiff == 2) ||
+                        (rowDiff == 2 && colDiff == 0) ||
+                        (rowDiff == 1 && colDiff == 1)) {
+                    goodSpacings++;
+                }
+            }
+        }
+
+        // A row holding n > 1 hounds is worth n * 20, i.e. 20 per hound on a shared row
+        return Integer.bitCount(sharedRows) * 20 + goodSpacings * 15;
+    }
+
+    private static int pick(int index, int h0, int h1, int h2, int h3) {
+        switch (index) {
+            case 0:
+                return h0;
+            case 1:
+                return h1;
+            case 2:
+                return h2;
+            default:
+                return h3;
+        }
+    }
+
+    /**
+     * Evaluate a position given as masks. Gives the same score as
+     * {@link #evaluate(int, int, int, int, int)} for the same squares.
+     *
+     * @param foxSquare Fox square
+     * @param houndMask Hound squares
+     * @return Score for the hounds (higher is better for the hounds)
+     */
+    public static int evaluate(int foxSquare, long houndMask) {
+        return Bitboards.row(foxSquare) * 15 + evaluateFoxTerms(foxSquare, houndMask) + evaluateFormation(houndMask);
+    }
+
+    /**
+     * Score every hound move of a position in one pass.
+     *
+     * Each child differs from the parent by one hound, so only that hound's
+     * distance, diagonal and formation terms are recomputed. The squares the fox
+     * could step to after each move are returned as well, since that mask gives
+     * the fox's mobility (its bit count) and escapes (its top row bits).
+     *
+     * @param foxSquare Fox square
+     * @param houndMask Hound squares
+     * @param moves Packed hound moves
+     * @param count Number of moves
+     * @param scores Receives the score of each child, for the hounds
+     * @param foxTargets Receives the fox's destination squares in each child (may be null)
+     */
+    public static void evaluateHoundMoves(int foxSquare, long houndMask, int[] moves, int count,
+                                          int[] scores, long[] foxTargets) {
+        int base = evaluate(foxSquare, houndMask);
+        long foxSteps = Bitboards.foxSteps(foxSquare);
+        long foxDiagonals = DIAGONALS[foxSquare];
+        int foxOffset = foxSquare * Bitboards.SQUARE_COUNT;
+
+        for (int m = 0; m < count; m++) {
+            int from = PackedMove.from(moves[m]);
+            int to = PackedMove.to(moves[m]);
+            long toBit = Bitboards.bit(to);
+            long others = houndMask & ~Bitboards.bit(from);
+
+            // Hounds always change rows, so the two rows are counted separately
+            int fromRowCount = Long.bitCount(houndMask & rowMask(from));
+            int toRowCount = Long.bitCount(houndMask & rowMask(to));
+
+            int delta = (DISTANCE[foxOffset + from] - DISTANCE[foxOffset + to]) * 5
+                    + ((int) ((foxDiagonals >>> to) & 1) - (int) ((foxDiagonals >>> from) & 1)) * 50
+                    + (sharedCount(fromRowCount - 1) - sharedCount(fromRowCount)
+                        + sharedCount(toRowCount + 1) - sharedCount(toRowCount)) * 20
+                    + (Long.bitCount(others & SPACING[to]) - Long.bitCount(others & SPACING[from])) * 15;
+            scores[m] = base + delta;
+
+            if (foxTargets != null) {
+                foxTargets[m] = foxSteps & ~(others | toBit);
+            }
+        }
+    }
+
+    /**
+     * Score every fox move of a position in one pass. The formation terms do
+     * not depend on the fox, so they are computed once.
+     *
+     * @param foxSquare Fox square
+     * @param houndMask Hound squares
+     * @param moves Packed fox moves
+     * @param count Number of moves
+     * @param scores Receives the score of each child, for the hounds
+     */
+    public static void evaluateFoxMoves(int foxSquare, long houndMask, int[] moves, int count, int[] scores) {
+        int formation = evaluateFormation(houndMask);
+        for (int m = 0; m < count; m++) {
+            int to = PackedMove.to(moves[m]);
+            scores[m] = formation + Bitboards.row(to) * 15 + evaluateFoxTerms(to, houndMask);
+        }
+    }
+
+    /**
+     * Distance and diagonal terms: everything that depends on the fox square
+     */
+    private static int evaluateFoxTerms(int foxSquare, long houndMask) {
+        int foxOffset = foxSquare * Bitboards.SQUARE_COUNT;
+        int distance = 0;
+        for (long hounds = houndMask; hounds != 0; hounds &= hounds - 1) {
+            distance += DISTANCE[foxOffset + Long.numberOfTrailingZeros(hounds)];
+        }
+        return Long.bitCount(houndMask & DIAGONALS[foxSquare]) * 50 - distance * 5;
+    }
+
+    /**
+     * Formation terms from a mask: 20 per hound sharing its row, 15 per well spaced pair
+     */
+    private static int evaluateFormation(long houndMask) {
+        int shared = 0;
+        int spacedPairs = 0;
+        for (long hounds = houndMask; hounds != 0; hounds &= hounds - 1) {
+            int square = Long.numberOfTrailingZeros(hounds);
+            if ((houndMask & rowMask(square) & ~Bitboards.bit(square)) != 0) {
+                shared++;
+            }
+            spacedPairs += Long.bitCount(houndMask & SPACING[square]);
+        }
+        return shared * 20 + spacedPairs / 2 * 15;
+    }
+
+    private static long rowMask(int square) {
+        return Bitboards.TOP_ROW << (square & ~7);
+    }
+
+    /**
+     * Number of hounds that share a row holding the given number of hounds
+     */
+    private static int sharedCount(int houndsInRow) {
+        return houndsInRow > 1 ? houndsInRow : 0;
+    }
+}
@@ -0,0 +1,44 @@
+package com.foxandhounds.foxandhounds_v1.controller.ai;
+
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.util.*;
+
+/**
+ * Random Fox Strategy - picks uniformly among the legal fox moves
+ */
+public class RandomFoxStrategy implements FoxStrategy {
+
+    private final Random random;
+
+    // Reusable buffer for packed move generation
+    private final int[] foxMoveBuffer = new int[PackedMove.MAX_FOX_MOVES];
+
+    /**
+     * Creates a random fox with an unpredictable seed.
+     */
+    public RandomFoxStrategy() {
+        this(new Random());
+    }
+
+    /**
+     * Creates a random fox whose moves are reproducible.
+     *
+     * @param seed Random seed
+     */
+    public RandomFoxStrategy(long seed) {
+        this(new Random(seed));
+    }
+
+    private RandomFoxStrategy(Random random) {
+        this.random = random;
+    }
+
+    @Override
+    public Move getFoxMove(Fox fox, List<Hound> hounds, Board board) {
+        int count = fox.generateMoves(board, foxMoveBuffer, 0);
+        if (count == 0) {
+            return null;
+        }
+        return PackedMove.toMove(foxMoveBuffer[random.nextInt(count)]);
+    }
+}
@@ -0,0 +1,37 @@
+package com.foxandhounds.foxandhounds_v1.controller.ai;
+
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.util.List;
+
+/**
+ * Search Fox Strategy - plays the fox with the same alpha-beta search the Expert
+ * hounds use, searching fox moves at the root and hound replies below them.
+ */
+public class SearchFoxStrategy implements FoxStrategy {
+
+    // Smaller table than the hounds' default, since simulations create one fox per game
+    private static final int TABLE_SIZE_BITS = 16;
+
+    private final AlphaBetaAIStrategy search;
+
+    /**
+     * Creates a single-threaded search fox.
+     *
+     * @param maxDepth Maximum search depth in plies
+     * @param timeLimitMillis Time budget per move in milliseconds
+     */
+    public SearchFoxStrategy(int maxDepth, long timeLimitMillis) {
+        this.search = new AlphaBetaAIStrategy(maxDepth, timeLimitMillis, 1, new TranspositionTable(TABLE_SIZE_BITS));
+    }
+
+    @Override
+    public void newGame() {
+        search.newGame();
+    }
+
+    @Override
+    public Move getFoxMove(Fox fox, List<Hound> hounds, Board board) {
+        int move = search.findBestMove(board, false);
+        return move == -1 ? null : PackedMove.toMove(move);
+    }
+}
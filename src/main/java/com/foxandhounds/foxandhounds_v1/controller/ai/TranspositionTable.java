@@ -0,0 +1,173 @@
+package com.foxandhounds.foxandhounds_v1.controller.ai;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size transposition table for search-based strategies.
+ *
+ * Entries are stored in two parallel long arrays (the Zobrist key and the packed
+ * entry data), indexed by the low bits of the key, so storing and probing never
+ * allocate. Replacement is depth-preferred: an entry written during the
+ * current search is only overwritten by a search of at least the same depth, or
+ * by the same position. Entries from earlier searches can always be replaced.
+ *
+ * The table can be shared by several search threads without locks: the key slot
+ * holds the key XORed with the entry data, so a probe that sees the key from one
+ * write and the data from another (a torn entry) fails the key check and is
+ * treated as a miss instead of returning mixed data.
+ *
+ * Entry layout: bits 0-15 best move (packed, 0 if none), bits 16-23 depth,
+ * bits 24-25 bound type, bits 26-31 search generation, bits 32-63 score.
+ */
+public class TranspositionTable {
+    // Bound types
+    public static final int BOUND_UPPER = 1; // Score is at most the stored value (fail low)
+    public static final int BOUND_LOWER = 2; // Score is at least the stored value (fail high)
+    public static final int BOUND_EXACT = 3;
+
+    // Default table size: 2^18 entries (4 MB)
+    public static final int DEFAULT_SIZE_BITS = 18;
+
+    private static final int GENERATION_MASK = 63;
+
+    private final long[] keys;
+    private final long[] entries;
+    private final int indexMask;
+
+    // Generation of the current search, used to age out old entries
+    private int generation;
+
+    /**
+     * Creates a table with the default size.
+     */
+    public TranspositionTable() {
+        this(DEFAULT_SIZE_BITS);
+    }
+
+    /**
+     * Creates a table with 2^sizeBits entries.
+     *
+     * @param sizeBits Log2 of the number of entries (10 to 28)
+     */
+    public TranspositionTable(int sizeBits) {
+        if (sizeBits < 10 || sizeBits > 28) {
+            throw new IllegalArgumentException("sizeBits must be between 10 and 28");
+        }
+        keys = new long[1 << sizeBits];
+        entries = new long[1 << sizeBits];
+        indexMask = (1 << sizeBits) - 1;
+    }
+
+    /**
+     * Looks up a position.
+     *
+     * @param key Zobrist key of the position (including side to move)
+     * @return Packed entry, or 0 if the position is not in the table
+     */
+    public long probe(long key) {
+        int index = (int) key & indexMask;
+        long entry = entries[index];
+        return (keys[index] ^ entry) == key ? entry : 0L;
+    }
+
+    /**
+     * Stores a search result.
+     *
+     * @param key Zobrist key of the position (including side to move)
+     * @param move Best packed move found (0 if none)
+     * @param score Score of the position
+     * @param depth Depth the position was searched to
+     * @param bound Bound type (BOUND_UPPER, BOUND_LOWER or BOUND_EXACT)
+     */
+    public void store(long key, int move, int score, int depth, int bound) {
+        int index = (int) key & indexMask;
+        long existing = entries[index];
+
+        if ((keys[index] ^ existing) == key) {
+            // Keep the known best move if this result has none
+            if (move == 0) {
+                move = move(existing);
+            }
+        } else if (existing != 0 && generation(existing) == generation && depth(existing) > depth) {
+            return; // Keep the deeper entry from this search
+        }
+
+        long entry = ((long) score << 32)
+                | ((long) generation << 26)
+                | ((long) bound << 24)
+                | ((long) Math.min(depth, 255) << 16)
+                | (move & 0xFFFF);
+        entries[index] = entry;
+        keys[index] = key ^ entry;
+    }
+
+    /**
+     * Starts a new search, so entries from earlier searches become replaceable.
+     * Must be called before the search threads are started.
+     */
+    public void newSearch() {
+        generation = (generation + 1) & GENERATION_MASK;
+    }
+
+    /**
+     * Removes all entries (for example when a new game starts).
+     */
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(entries, 0L);
+        generation = 0;
+    }
+
+    /**
+     * Gets the number of entries in the table.
+     *
+     * @return Capacity
+     */
+    public int capacity() {
+        return entries.length;
+    }
+
+    /**
+     * Gets the best move of an entry.
+     *
+     * @param entry Packed entry
+     * @return Packed move, or 0 if none
+     */
+    public static int move(long entry) {
+        return (int) (entry & 0xFFFF);
+    }
+
+    /**
+     * Gets the score of an entry.
+     *
+     * @param entry Packed entry
+     * @return Stored score
+     */
+    public static int score(long entry) {
+        return (int) (entry >> 32);
+    }
+
+    /**
+     * Gets the search depth of an entry.
+     *
+     * @param entry Packed entry
+     * @return Depth in plies
+     */
+    public static int depth(long entry) {
+        return (int) (entry >>> 16) & 0xFF;
+    }
+
+    /**
+     * Gets the bound type of an entry.
+     *
+     * @param entry Packed entry
+     * @return BOUND_UPPER, BOUND_LOWER or BOUND_EXACT
+     */
+    public static int bound(long entry) {
+        return (int) (entry >>> 24) & 3;
+    }
+
+    private static int generation(long entry) {
+        return (int) (entry >>> 26) & GENERATION_MASK;
+    }
+}
@@ -0,0 +1,232 @@
+package com.foxandhounds.foxandhounds_v1.engine;
+
+import com.foxandhounds.foxandhounds_v1.controller.AIController;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Category;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Level;
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Hosts many independent games (sessions) in one JVM, for a server that plays
+ * the hounds against remote foxes.
+ *
+ * Each session is an actor (see {@link GameSession}): its commands run in order
+ * on a virtual thread, so callers never block and thousands of sessions cost no
+ * platform threads. Hound moves are computed on a fixed pool of platform
+ * threads, one per core by default, each with its own {@link AIController}; a
+ * session's virtual thread waits for its move without holding a carrier, so
+ * sessions doing blocking I/O cannot starve the AI, and a burst of moves queues
+ * up rather than oversubscribing the CPU. Sessions left idle for longer than the
+ * idle timeout are evicted.
+ *
+ * All calls return futures completed on the session's thread. Commands for an
+ * unknown (or evicted) session fail with {@link NoSuchElementException}.
+ */
+public final class GameEngine implements AutoCloseable {
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+    private final ConcurrentMap<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final ExecutorService sessionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ExecutorService aiPool;
+    private final ScheduledExecutorService evictor;
+    private final long idleTimeoutNanos;
+
+    // Per AI thread: controllers keep search tables and are not thread-safe
+    private final ThreadLocal<AIWorker> aiWorkers = ThreadLocal.withInitial(AIWorker::new);
+
+    /**
+     * Creates an engine with one AI thread per core and the default idle timeout.
+     */
+    public GameEngine() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * Creates an engine.
+     *
+     * @param aiThreads Number of hound moves computed in parallel
+     * @param idleTimeout Time without commands after which a session is evicted
+     */
+    public GameEngine(int aiThreads, Duration idleTimeout) {
+        this.aiPool = Executors.newFixedThreadPool(aiThreads, daemonThreads("game-engine-ai"));
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.evictor = Executors.newSingleThreadScheduledExecutor(daemonThreads("game-engine-evictor"));
+        long period = Math.max(1000L, idleTimeout.toMillis() / 4);
+        evictor.scheduleAtFixedRate(this::evictIdleSessions, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicLong count = new AtomicLong();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Board, pieces and controller of one AI thread
+     */
+    private static final class AIWorker {
+        final AIController controller = new AIController(AIController.Difficulty.EASY, 1);
+        final Board board = new Board();
+        final List<Hound> hounds = new ArrayList<>(Board.HOUND_COUNT);
+
+        int findMove(Position position, AIController.Difficulty difficulty) {
+            position.copyTo(board);
+            hounds.clear();
+            for (int i = 0; i < board.getHoundCount(); i++) {
+                int square = board.getHoundSquare(i);
+                hounds.add(new Hound(Bitboards.row(square), Bitboards.col(square)));
+            }
+            Fox fox = new Fox(Bitboards.row(position.getFoxSquare()), Bitboards.col(position.getFoxSquare()));
+            Move move = controller.getBestMove(difficulty, hounds, fox, board);
+            return move != null ? PackedMove.fromMove(move) : -1;
+        }
+    }
+
+    /**
+     * Starts a new session with the fox to move from the starting position.
+     *
+     * @param difficulty AI difficulty of the session
+     * @return Session id
+     */
+    public long createSession(AIController.Difficulty difficulty) {
+        long id = nextId.getAndIncrement();
+        sessions.put(id, new GameSession(id, difficulty, sessionExecutor));
+        if (GameLog.isEnabled(Category.GAME, Level.DEBUG)) {
+            GameLog.log(Category.GAME, Level.DEBUG, "Session " + id + " created with difficulty: " + difficulty);
+        }
+        return id;
+    }
+
+    /**
+     * Moves the fox and, unless that ends the game, plays the hounds' reply.
+     *
+     * @param sessionId Session id
+     * @param toSquare Fox destination square (row * 8 + col)
+     * @return Future completed with the state after the hounds' reply, or failed with
+     *         IllegalArgumentException for an illegal move, IllegalStateException when
+     *         the game is over, or the AI's failure (the fox move is then taken back)
+     */
+    public CompletableFuture<SessionState> moveFox(long sessionId, int toSquare) {
+        return submit(sessionId, session -> {
+            session.playTurn(toSquare, position -> findHoundMove(position, session.getDifficulty()));
+            return session.snapshot();
+        });
+    }
+
+    /**
+     * Restarts a session's game from the starting position.
+     *
+     * @param sessionId Session id
+     * @param difficulty New difficulty, or null to keep the current one
+     * @return Future completed with the new state
+     */
+    public CompletableFuture<SessionState> newGame(long sessionId, AIController.Difficulty difficulty) {
+        return submit(sessionId, session -> {
+            session.newGame(difficulty);
+            return session.snapshot();
+        });
+    }
+
+    /**
+     * Gets a session's state. The command queues behind the session's earlier
+     * commands, so the state includes their moves.
+     *
+     * @param sessionId Session id
+     * @return Future completed with the state
+     */
+    public CompletableFuture<SessionState> getState(long sessionId) {
+        return submit(sessionId, GameSession::snapshot);
+    }
+
+    /**
+     * Ends a session. Commands already queued still run.
+     *
+     * @param sessionId Session id
+     * @return true if the session existed
+     */
+    public boolean closeSession(long sessionId) {
+        return sessions.remove(sessionId) != null;
+    }
+
+    /**
+     * Gets the number of live sessions.
+     *
+     * @return Session count
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Removes the sessions that have had no command for longer than the idle
+     * timeout. Runs periodically on its own; public for administration.
+     *
+     * @return Number of sessions evicted
+     */
+    public int evictIdleSessions() {
+        long cutoff = System.nanoTime() - idleTimeoutNanos;
+        int evicted = 0;
+        for (GameSession session : sessions.values()) {
+            if (session.isIdleSince(cutoff) && sessions.remove(session.getId(), session)) {
+                evicted++;
+            }
+        }
+        if (evicted > 0 && GameLog.isEnabled(Category.GAME, Level.INFO)) {
+            GameLog.log(Category.GAME, Level.INFO, "Evicted " + evicted + " idle sessions, " + sessions.size() + " left");
+        }
+        return evicted;
+    }
+
+    private CompletableFuture<SessionState> submit(long sessionId, Function<GameSession, SessionState> command) {
+        CompletableFuture<SessionState> result = new CompletableFuture<>();
+        GameSession session = sessions.get(sessionId);
+        if (session == null) {
+            result.completeExceptionally(new NoSuchElementException("No session " + sessionId));
+            return result;
+        }
+        session.send(() -> {
+            try {
+                result.complete(command.apply(session));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Computes a hound move on the AI pool, blocking the session's virtual thread until it is done.
+     */
+    private int findHoundMove(Position position, AIController.Difficulty difficulty) {
+        Future<Integer> move = aiPool.submit(() -> aiWorkers.get().findMove(position, difficulty));
+        try {
+            return move.get();
+        } catch (InterruptedException e) {
+            move.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the AI", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("AI failed", e.getCause());
+        }
+    }
+
+    /**
+     * Stops the engine. Queued commands are abandoned and sessions dropped.
+     */
+    @Override
+    public void close() {
+        evictor.shutdownNow();
+        sessionExecutor.shutdownNow();
+        aiPool.shutdownNow();
+        sessions.clear();
+    }
+}
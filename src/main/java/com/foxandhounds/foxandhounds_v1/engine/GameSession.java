@@ -0,0 +1,197 @@
+package com.foxandhounds.foxandhounds_v1.engine;
+
+import com.foxandhounds.foxandhounds_v1.controller.AIController;
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToIntFunction;
+
+/**
+ * One game hosted by the {@link GameEngine}, run as an actor: commands are queued
+ * in a mailbox and run one at a time, in order, on a virtual thread that exists
+ * only while there is something to run. The game fields are only touched by
+ * that thread, so they need no locks; the mailbox and the running flag hand them
+ * over between threads.
+ *
+ * An idle session is a packed {@link Position} and a few counters, plus the
+ * empty mailbox: a couple of hundred bytes.
+ */
+final class GameSession {
+    private final long id;
+    private final Executor executor;
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // Last time a command ran (System.nanoTime), read by the evictor
+    private volatile long lastActive;
+
+    // Game state, confined to the thread running commands
+    private AIController.Difficulty difficulty;
+    private int position;
+    private GameState.Winner winner = GameState.Winner.NONE;
+    private int plyCount;
+    private int lastHoundMove = -1;
+
+    GameSession(long id, AIController.Difficulty difficulty, Executor executor) {
+        this.id = id;
+        this.difficulty = difficulty;
+        this.executor = executor;
+        this.position = Position.START.toPacked();
+        this.lastActive = System.nanoTime();
+    }
+
+    long getId() {
+        return id;
+    }
+
+    /**
+     * Queues a command, starting a thread to run the mailbox if none is running.
+     */
+    void send(Runnable command) {
+        mailbox.add(command);
+        if (running.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            Runnable command;
+            while ((command = mailbox.poll()) != null) {
+                command.run();
+                lastActive = System.nanoTime();
+            }
+        } finally {
+            running.set(false);
+
+            // A command queued after the last poll may have seen running still set, and
+            // one that failed leaves the rest of the mailbox behind: start a new thread for them
+            if (!mailbox.isEmpty() && running.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the session has had nothing to do since the given time.
+     */
+    boolean isIdleSince(long nanos) {
+        return !running.get() && mailbox.isEmpty() && lastActive - nanos < 0;
+    }
+
+    // The methods below run on the session's thread
+
+    void newGame(AIController.Difficulty newDifficulty) {
+        if (newDifficulty != null) {
+            difficulty = newDifficulty;
+        }
+        position = Position.START.toPacked();
+        winner = GameState.Winner.NONE;
+        plyCount = 0;
+        lastHoundMove = -1;
+    }
+
+    AIController.Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    Position getPosition() {
+        return Position.fromPacked(position);
+    }
+
+    boolean isGameOver() {
+        return winner != GameState.Winner.NONE;
+    }
+
+    /**
+     * Plays a fox move and, unless that ends the game, the hounds' reply. If finding
+     * or playing the reply fails, the fox move is taken back, so the session stays
+     * with the fox to move.
+     *
+     * @param to Fox destination square
+     * @param ai Finds the hounds' packed move (-1 for none) in the position after the fox move
+     * @throws IllegalStateException If the game is over
+     * @throws IllegalArgumentException If the fox move is not legal
+     */
+    void playTurn(int to, ToIntFunction<Position> ai) {
+        int previous = position;
+        if (!playFox(to)) {
+            return;
+        }
+        try {
+            playHounds(ai.applyAsInt(getPosition()));
+        } catch (Throwable e) {
+            // playHounds changes nothing before its checks pass
+            position = previous;
+            plyCount--;
+            throw e;
+        }
+    }
+
+    /**
+     * Plays a fox move.
+     *
+     * @return true if the game goes on with the hounds to move
+     * @throws IllegalStateException If the game is over
+     * @throws IllegalArgumentException If the move is not legal
+     */
+    boolean playFox(int to) {
+        Position current = checkTurn(false);
+        int from = current.getFoxSquare();
+        long empty = ~(current.getHoundMask() | Bitboards.bit(from));
+        if (to < 0 || to >= Bitboards.SQUARE_COUNT || (Bitboards.foxSteps(from) & empty & Bitboards.bit(to)) == 0) {
+            throw new IllegalArgumentException("Illegal fox move to square " + to + " in " + current);
+        }
+        position = Position.pack(to, current.getHoundMask(), true);
+        plyCount++;
+        if ((Bitboards.bit(to) & Bitboards.TOP_ROW) != 0) {
+            winner = GameState.Winner.FOX;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Plays the hound move chosen by the AI.
+     *
+     * @param move Packed move, or -1 if the AI found none (the fox wins)
+     */
+    void playHounds(int move) {
+        Position current = checkTurn(true);
+        if (move == -1) {
+            winner = GameState.Winner.FOX;
+            return;
+        }
+        int from = PackedMove.from(move);
+        int to = PackedMove.to(move);
+        long houndMask = current.getHoundMask();
+        long empty = ~(houndMask | Bitboards.bit(current.getFoxSquare()));
+        if ((houndMask & Bitboards.bit(from)) == 0 || (Bitboards.houndSteps(from) & empty & Bitboards.bit(to)) == 0) {
+            throw new IllegalStateException("AI made an illegal move " + PackedMove.toMove(move) + " in " + current);
+        }
+        houndMask ^= Bitboards.bit(from) | Bitboards.bit(to);
+        position = Position.pack(current.getFoxSquare(), houndMask, false);
+        plyCount++;
+        lastHoundMove = move;
+        if ((Bitboards.foxSteps(current.getFoxSquare()) & ~houndMask) == 0) {
+            winner = GameState.Winner.HOUNDS;
+        }
+    }
+
+    private Position checkTurn(boolean hounds) {
+        if (isGameOver()) {
+            throw new IllegalStateException("Game over in session " + id);
+        }
+        Position current = Position.fromPacked(position);
+        if (current.isHoundsToMove() != hounds) {
+            throw new IllegalStateException("Not the " + (hounds ? "hounds'" : "fox's") + " turn in session " + id);
+        }
+        return current;
+    }
+
+    SessionState snapshot() {
+        return new SessionState(id, difficulty, Position.fromPacked(position), winner, plyCount, lastHoundMove);
+    }
+}
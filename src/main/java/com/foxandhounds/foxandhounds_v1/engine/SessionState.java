@@ -0,0 +1,81 @@
+package com.foxandhounds.foxandhounds_v1.engine;
+
+import com.foxandhounds.foxandhounds_v1.controller.AIController;
+import com.foxandhounds.foxandhounds_v1.model.*;
+
+/**
+ * Immutable snapshot of a session's game, returned by the {@link GameEngine}
+ * calls.
+ */
+public final class SessionState {
+    private final long sessionId;
+    private final AIController.Difficulty difficulty;
+    private final Position position;
+    private final GameState.Winner winner;
+    private final int plyCount;
+    private final int lastHoundMove;
+
+    SessionState(long sessionId, AIController.Difficulty difficulty, Position position, GameState.Winner winner,
+                 int plyCount, int lastHoundMove) {
+        this.sessionId = sessionId;
+        this.difficulty = difficulty;
+        this.position = position;
+        this.winner = winner;
+        this.plyCount = plyCount;
+        this.lastHoundMove = lastHoundMove;
+    }
+
+    public long getSessionId() {
+        return sessionId;
+    }
+
+    public AIController.Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     * Gets the current position.
+     *
+     * @return Position, with the side to move
+     */
+    public Position getPosition() {
+        return position;
+    }
+
+    /**
+     * Gets the winner.
+     *
+     * @return Winner, or NONE while the game is running
+     */
+    public GameState.Winner getWinner() {
+        return winner;
+    }
+
+    public boolean isGameOver() {
+        return winner != GameState.Winner.NONE;
+    }
+
+    /**
+     * Gets the number of moves (fox and hound) made in this game.
+     *
+     * @return Ply count
+     */
+    public int getPlyCount() {
+        return plyCount;
+    }
+
+    /**
+     * Gets the hounds' last move.
+     *
+     * @return Packed move (see {@link PackedMove}), or -1 if the hounds have not moved
+     */
+    public int getLastHoundMove() {
+        return lastHoundMove;
+    }
+
+    @Override
+    public String toString() {
+        return "SessionState[" + sessionId + ", " + difficulty + ", " + position + ", ply " + plyCount
+                + (isGameOver() ? ", winner " + winner + "]" : "]");
+    }
+}
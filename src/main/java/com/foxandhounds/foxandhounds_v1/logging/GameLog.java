@@ -0,0 +1,176 @@
+package com.foxandhounds.foxandhounds_v1.logging;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Leveled, category-based diagnostic logging for the model and controller layers.
+ *
+ * Each category has its own threshold, checked with a single array read, so a
+ * disabled log statement costs nothing as long as the call site guards any
+ * message building with {@link #isEnabled(Category, Level)}:
+ *
+ * <pre>
+ * if (GameLog.isEnabled(Category.BOARD, Level.TRACE)) {
+ *     GameLog.log(Category.BOARD, Level.TRACE, "Moved piece from " + from + " to " + to);
+ * }
+ * </pre>
+ *
+ * Constant messages can be passed straight to {@link #log(Category, Level, String)},
+ * which performs the same check before touching the output stream.
+ *
+ * Thresholds start at {@link Level#WARN} and can be set at startup with the
+ * {@code foxandhounds.log} system property (for example {@code INFO} or
+ * {@code AI=DEBUG,BOARD=TRACE}) or changed at runtime with
+ * {@link #setLevel(Category, Level)}.
+ */
+public final class GameLog {
+    /**
+     * Log levels, from least to most verbose.
+     */
+    public enum Level {
+        OFF, ERROR, WARN, INFO, DEBUG, TRACE
+    }
+
+    /**
+     * Areas of the game that can be logged independently.
+     */
+    public enum Category {
+        BOARD,  // Board state changes and move validation
+        PIECES, // Fox and hound movement
+        GAME,   // Game flow (turns, wins, difficulty changes)
+        AI,     // AI strategy decisions
+        UI      // JavaFX controllers
+    }
+
+    // System property used to configure levels at startup
+    public static final String LEVEL_PROPERTY = "foxandhounds.log";
+
+    // Most verbose enabled level per category, indexed by category ordinal. Never
+    // modified in place: setLevel publishes a new array, so a change made on one
+    // thread is seen by every thread that logs
+    private static volatile int[] thresholds = new int[Category.values().length];
+
+    // Where enabled messages are written
+    private static volatile PrintStream output = System.out;
+
+    static {
+        setLevel(Level.WARN);
+        String configured = System.getProperty(LEVEL_PROPERTY);
+        if (configured != null) {
+            configure(configured);
+        }
+    }
+
+    private GameLog() {
+    }
+
+    /**
+     * Checks if messages of a level are enabled for a category.
+     *
+     * @param category Log category
+     * @param level Message level
+     * @return true if the message would be written
+     */
+    public static boolean isEnabled(Category category, Level level) {
+        return level.ordinal() <= thresholds[category.ordinal()];
+    }
+
+    /**
+     * Writes a message if its level is enabled for the category.
+     *
+     * @param category Log category
+     * @param level Message level
+     * @param message Message text
+     */
+    public static void log(Category category, Level level, String message) {
+        if (isEnabled(category, level)) {
+            output.println("[" + category + "] " + message);
+        }
+    }
+
+    /**
+     * Writes a message and the stack trace of an error if the level is enabled.
+     *
+     * @param category Log category
+     * @param level Message level
+     * @param message Message text
+     * @param error Error to print
+     */
+    public static void log(Category category, Level level, String message, Throwable error) {
+        if (isEnabled(category, level)) {
+            PrintStream out = output;
+            out.println("[" + category + "] " + message);
+            error.printStackTrace(out);
+        }
+    }
+
+    /**
+     * Sets the threshold of one category.
+     *
+     * @param category Log category
+     * @param level Most verbose level to write
+     */
+    public static synchronized void setLevel(Category category, Level level) {
+        int[] updated = thresholds.clone();
+        updated[category.ordinal()] = level.ordinal();
+        thresholds = updated;
+    }
+
+    /**
+     * Sets the threshold of every category.
+     *
+     * @param level Most verbose level to write
+     */
+    public static synchronized void setLevel(Level level) {
+        int[] updated = new int[Category.values().length];
+        Arrays.fill(updated, level.ordinal());
+        thresholds = updated;
+    }
+
+    /**
+     * Gets the threshold of a category.
+     *
+     * @param category Log category
+     * @return Most verbose level currently written
+     */
+    public static Level getLevel(Category category) {
+        return Level.values()[thresholds[category.ordinal()]];
+    }
+
+    /**
+     * Applies a level specification such as {@code DEBUG} or {@code AI=DEBUG,BOARD=OFF}.
+     * A bare level applies to every category; unknown names are ignored.
+     *
+     * @param spec Comma separated level specification
+     */
+    public static void configure(String spec) {
+        for (String part : spec.split(",")) {
+            String entry = part.trim().toUpperCase(Locale.ROOT);
+            if (entry.isEmpty()) {
+                continue;
+            }
+            try {
+                int separator = entry.indexOf('=');
+                if (separator < 0) {
+                    setLevel(Level.valueOf(entry));
+                } else {
+                    Category category = Category.valueOf(entry.substring(0, separator).trim());
+                    setLevel(category, Level.valueOf(entry.substring(separator + 1).trim()));
+                }
+            } catch (IllegalArgumentException e) {
+                System.err.println("Ignoring unknown log setting: " + part);
+            }
+        }
+    }
+
+    /**
+     * Redirects log output (System.out by default).
+     *
+     * @param stream New output stream
+     */
+    public static void setOutput(PrintStream stream) {
+        output = stream;
+    }
+}
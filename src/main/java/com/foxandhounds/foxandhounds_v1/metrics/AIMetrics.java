@@ -0,0 +1,205 @@
+package com.foxandhounds.foxandhounds_v1.metrics;
+
+import com.foxandhounds.foxandhounds_v1.logging.GameLog;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Category;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Level;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Process-wide AI metrics: move latency per difficulty, moves decided per
+ * strategy phase, search speed and cache hit rates.
+ *
+ * Recording never locks: latencies go to {@link LatencyHistogram}s and counts
+ * to {@link LongAdder}s, found in concurrent maps that only take a lock the
+ * first time a name is seen. {@link #registerMBean()} publishes the instance on
+ * the platform MBean server, so it can be watched with JConsole, VisualVM or
+ * any JMX client while games run.
+ */
+public class AIMetrics implements AIMetricsMXBean {
+    // JMX name the metrics are published under
+    public static final String OBJECT_NAME = "com.foxandhounds.foxandhounds_v1:type=AIMetrics";
+
+    private static final AIMetrics INSTANCE = new AIMetrics();
+    private static boolean registered;
+
+    private final ConcurrentMap<String, LatencyHistogram> latency = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> phases = new ConcurrentHashMap<>();
+
+    // Cache lookups: [0] hits, [1] misses
+    private final ConcurrentMap<String, LongAdder[]> caches = new ConcurrentHashMap<>();
+
+    private final LongAdder searchNodes = new LongAdder();
+    private final LongAdder searchNanos = new LongAdder();
+
+    AIMetrics() {
+    }
+
+    /**
+     * Gets the shared metrics.
+     *
+     * @return The metrics
+     */
+    public static AIMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers the shared metrics with the platform MBean server (once). Starting
+     * the MBean server takes a few hundred milliseconds, so the application calls
+     * this at startup on a background thread rather than during the first move.
+     */
+    public static synchronized void registerMBean() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+        } catch (JMException | SecurityException e) {
+            GameLog.log(Category.AI, Level.WARN, "Could not register AI metrics with JMX", e);
+        }
+    }
+
+    /**
+     * Records the time taken to compute one AI move.
+     *
+     * @param difficulty Difficulty the move was computed for
+     * @param nanos Latency in nanoseconds
+     */
+    public void recordMove(String difficulty, long nanos) {
+        LatencyHistogram histogram = latency.get(difficulty);
+        if (histogram == null) {
+            histogram = latency.computeIfAbsent(difficulty, d -> new LatencyHistogram());
+        }
+        histogram.record(nanos);
+    }
+
+    /**
+     * Records that a strategy phase decided a move.
+     *
+     * @param phase Phase name, prefixed with the strategy (e.g. hard.emergencyBlock)
+     */
+    public void recordPhase(String phase) {
+        LongAdder count = phases.get(phase);
+        if (count == null) {
+            count = phases.computeIfAbsent(phase, p -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    /**
+     * Records one search.
+     *
+     * @param nodes Positions searched
+     * @param nanos Search time in nanoseconds
+     */
+    public void recordSearch(long nodes, long nanos) {
+        searchNodes.add(nodes);
+        searchNanos.add(nanos);
+    }
+
+    /**
+     * Records lookups in a cache.
+     *
+     * @param cache Cache name
+     * @param hits Lookups that found an entry
+     * @param misses Lookups that found nothing
+     */
+    public void recordCacheLookups(String cache, long hits, long misses) {
+        LongAdder[] counts = caches.get(cache);
+        if (counts == null) {
+            counts = caches.computeIfAbsent(cache, c -> new LongAdder[] {new LongAdder(), new LongAdder()});
+        }
+        counts[0].add(hits);
+        counts[1].add(misses);
+    }
+
+    /**
+     * Gets the latency histogram of a difficulty.
+     *
+     * @param difficulty Difficulty name
+     * @return Histogram, or null if no move was recorded for it
+     */
+    public LatencyHistogram getLatency(String difficulty) {
+        return latency.get(difficulty);
+    }
+
+    @Override
+    public Map<String, Long> getMoveCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        latency.forEach((difficulty, histogram) -> counts.put(difficulty, histogram.getCount()));
+        return counts;
+    }
+
+    @Override
+    public Map<String, Double> getLatencyP50Millis() {
+        return latencyMillis(histogram -> histogram.getPercentile(50));
+    }
+
+    @Override
+    public Map<String, Double> getLatencyP99Millis() {
+        return latencyMillis(histogram -> histogram.getPercentile(99));
+    }
+
+    @Override
+    public Map<String, Double> getLatencyMaxMillis() {
+        return latencyMillis(LatencyHistogram::getMax);
+    }
+
+    private Map<String, Double> latencyMillis(ToDoubleFunction<LatencyHistogram> nanos) {
+        Map<String, Double> values = new TreeMap<>();
+        latency.forEach((difficulty, histogram) ->
+                values.put(difficulty, nanos.applyAsDouble(histogram) / TimeUnit.MILLISECONDS.toNanos(1)));
+        return values;
+    }
+
+    @Override
+    public Map<String, Long> getMovesByPhase() {
+        Map<String, Long> counts = new TreeMap<>();
+        phases.forEach((phase, count) -> counts.put(phase, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public Map<String, Double> getCacheHitRates() {
+        Map<String, Double> rates = new TreeMap<>();
+        caches.forEach((cache, counts) -> {
+            long hits = counts[0].sum();
+            long lookups = hits + counts[1].sum();
+            rates.put(cache, lookups == 0 ? 0.0 : (double) hits / lookups);
+        });
+        return rates;
+    }
+
+    @Override
+    public long getSearchNodes() {
+        return searchNodes.sum();
+    }
+
+    @Override
+    public long getSearchNodesPerSecond() {
+        long nanos = searchNanos.sum();
+        return nanos == 0 ? 0L : (long) (searchNodes.sum() * 1e9 / nanos);
+    }
+
+    @Override
+    public void reset() {
+        latency.values().forEach(LatencyHistogram::reset);
+        phases.values().forEach(LongAdder::reset);
+        caches.values().forEach(counts -> {
+            counts[0].reset();
+            counts[1].reset();
+        });
+        searchNodes.reset();
+        searchNanos.reset();
+    }
+}
@@ -0,0 +1,73 @@
+package com.foxandhounds.foxandhounds_v1.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the {@link AIMetrics}, registered as {@value AIMetrics#OBJECT_NAME}.
+ * Maps are keyed by difficulty, phase or cache name and show up as tables in
+ * JConsole and VisualVM.
+ */
+public interface AIMetricsMXBean {
+
+    /**
+     * Gets the number of AI moves computed per difficulty.
+     *
+     * @return Move count per difficulty
+     */
+    Map<String, Long> getMoveCounts();
+
+    /**
+     * Gets the median move latency per difficulty.
+     *
+     * @return p50 in milliseconds per difficulty
+     */
+    Map<String, Double> getLatencyP50Millis();
+
+    /**
+     * Gets the 99th percentile move latency per difficulty.
+     *
+     * @return p99 in milliseconds per difficulty
+     */
+    Map<String, Double> getLatencyP99Millis();
+
+    /**
+     * Gets the slowest move per difficulty.
+     *
+     * @return Maximum latency in milliseconds per difficulty
+     */
+    Map<String, Double> getLatencyMaxMillis();
+
+    /**
+     * Gets the number of moves decided by each strategy phase (e.g. hard.emergencyBlock).
+     *
+     * @return Move count per phase
+     */
+    Map<String, Long> getMovesByPhase();
+
+    /**
+     * Gets the share of lookups that were hits, per cache (transposition table,
+     * opening book, endgame database).
+     *
+     * @return Hit rate between 0 and 1 per cache
+     */
+    Map<String, Double> getCacheHitRates();
+
+    /**
+     * Gets the number of positions searched by the alpha-beta search.
+     *
+     * @return Node count
+     */
+    long getSearchNodes();
+
+    /**
+     * Gets the alpha-beta search speed over all searches so far.
+     *
+     * @return Nodes per second of search time (0 before the first search)
+     */
+    long getSearchNodesPerSecond();
+
+    /**
+     * Clears all metrics.
+     */
+    void reset();
+}
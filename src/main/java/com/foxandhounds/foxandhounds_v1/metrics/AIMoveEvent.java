@@ -0,0 +1,70 @@
+package com.foxandhounds.foxandhounds_v1.metrics;
+
+import com.foxandhounds.foxandhounds_v1.model.Move;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one AI move computation, from the call to
+ * AIController.getBestMove (or computeMove) to the chosen move. Pondered replies
+ * are marked speculative. The {@link AIPhaseEvent}s of the strategy phases it ran
+ * fall inside its duration on the same thread.
+ *
+ * While no recording has the event enabled, begin and commit do nothing and the
+ * JIT removes the event object, so the event costs next to nothing.
+ */
+@Name("com.foxandhounds.foxandhounds_v1.AIMove")
+@Label("AI Move")
+@Category({"Fox and Hounds", "AI"})
+@Description("Time taken by the AI to choose a hound move")
+@StackTrace(false)
+public class AIMoveEvent extends Event {
+
+    @Label("Difficulty")
+    String difficulty;
+
+    @Label("Strategy")
+    String strategy;
+
+    @Label("Move")
+    @Description("Chosen move, empty if the AI found none")
+    String move;
+
+    @Label("Speculative")
+    @Description("Computed for a fox move not yet made (pondering), so it may never be played")
+    boolean speculative;
+
+    /**
+     * Starts timing a move.
+     *
+     * @param difficulty Difficulty the move is computed for
+     * @param strategy Name of the strategy computing it
+     * @param speculative true if the move is a pondered reply that may never be played
+     * @return The started event
+     */
+    public static AIMoveEvent start(String difficulty, String strategy, boolean speculative) {
+        AIMoveEvent event = new AIMoveEvent();
+        event.difficulty = difficulty;
+        event.strategy = strategy;
+        event.speculative = speculative;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing and commits the event if a recording wants it.
+     *
+     * @param chosen Chosen move, or null if there was none
+     */
+    public void finish(Move chosen) {
+        end();
+        if (shouldCommit()) {
+            move = chosen != null ? chosen.toString() : "";
+            commit();
+        }
+    }
+}
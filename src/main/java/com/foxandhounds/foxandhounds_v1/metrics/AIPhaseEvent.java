@@ -0,0 +1,68 @@
+package com.foxandhounds.foxandhounds_v1.metrics;
+
+import com.foxandhounds.foxandhounds_v1.model.Move;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one phase of an AI strategy (e.g. hard.emergencyBlock
+ * or alphaBeta.search), whether or not the phase chose the move.
+ *
+ * Costs next to nothing while no recording has the event enabled; see
+ * {@link AIMoveEvent}.
+ */
+@Name("com.foxandhounds.foxandhounds_v1.AIPhase")
+@Label("AI Phase")
+@Category({"Fox and Hounds", "AI"})
+@Description("One phase of an AI strategy looking for a move")
+@StackTrace(false)
+public class AIPhaseEvent extends Event {
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Positions Examined")
+    @Description("Positions the phase generated, simulated or searched")
+    long positionsExamined;
+
+    @Label("Decided")
+    @Description("Whether this phase chose the move")
+    boolean decided;
+
+    @Label("Move")
+    @Description("Move chosen by the phase, empty if it found none")
+    String move;
+
+    /**
+     * Starts timing a phase.
+     *
+     * @param phase Phase name, prefixed with the strategy
+     * @return The started event
+     */
+    public static AIPhaseEvent start(String phase) {
+        AIPhaseEvent event = new AIPhaseEvent();
+        event.phase = phase;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing and commits the event if a recording wants it.
+     *
+     * @param chosen Move the phase chose, or null if it found none
+     * @param positions Positions the phase examined
+     */
+    public void finish(Move chosen, long positions) {
+        end();
+        if (shouldCommit()) {
+            positionsExamined = positions;
+            decided = chosen != null;
+            move = chosen != null ? chosen.toString() : "";
+            commit();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.foxandhounds.foxandhounds_v1.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of latencies in nanoseconds.
+ *
+ * Values are counted in log-linear buckets: each power of two is split into
+ * 16 equal sub-buckets, so any recorded value is reported within 1/16 (6.25%)
+ * of its true value, over the whole range of a long, in under 1000 buckets.
+ * Recording is a single atomic increment and never allocates, so one histogram
+ * can be shared by any number of threads. Reads are not atomic snapshots:
+ * percentiles taken while other threads record may be off by the in-flight
+ * values.
+ */
+public class LatencyHistogram {
+    // Sub-buckets per power of two (2^SUB_BUCKET_BITS)
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one latency.
+     *
+     * @param nanos Latency in nanoseconds (negative values count as 0)
+     */
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        counts.incrementAndGet(bucketOf(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Adds all values recorded in another histogram to this one.
+     *
+     * @param other Histogram to add
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long n = other.counts.get(i);
+            if (n != 0) {
+                counts.addAndGet(i, n);
+            }
+        }
+        count.addAndGet(other.count.get());
+        sum.addAndGet(other.sum.get());
+        max.accumulateAndGet(other.max.get(), Math::max);
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0L);
+        }
+        count.set(0L);
+        sum.set(0L);
+        max.set(0L);
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return Value count
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Gets the mean of the recorded values.
+     *
+     * @return Mean latency in nanoseconds (0 if nothing was recorded)
+     */
+    public double getMean() {
+        long n = count.get();
+        return n == 0 ? 0.0 : (double) sum.get() / n;
+    }
+
+    /**
+     * Gets the largest recorded value (exact).
+     *
+     * @return Maximum latency in nanoseconds
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Gets a percentile of the recorded values.
+     *
+     * @param percentile Percentile between 0 and 100 (e.g. 99.9)
+     * @return Upper bound of the bucket holding that percentile, in nanoseconds
+     *         (never more than the maximum; 0 if nothing was recorded)
+     */
+    public long getPercentile(double percentile) {
+        long n = count.get();
+        if (n == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * One-line summary in milliseconds: count, mean, p50, p90, p99, max.
+     *
+     * @return Summary text
+     */
+    public String summary() {
+        return String.format("n=%d mean=%.3f p50=%.3f p90=%.3f p99=%.3f max=%.3f ms",
+                getCount(), getMean() / 1e6, toMillis(getPercentile(50)), toMillis(getPercentile(90)),
+                toMillis(getPercentile(99)), toMillis(getMax()));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Bucket index: values below 16 get their own bucket, larger values are
+     * indexed by their highest bit and the next SUB_BUCKET_BITS bits
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Largest value that falls in a bucket
+     */
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        long lower = (1L << exponent) | (subBucket << (exponent - SUB_BUCKET_BITS));
+        return lower + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,125 @@
+package com.foxandhounds.foxandhounds_v1.model;
+
+/**
+ * Bit mask helpers for the Fox and Hounds board.
+ *
+ * Every cell maps to one bit of a long: bit index = row * 8 + col, so row 0
+ * (the fox's goal) is the lowest byte. Moving one row down the board is a
+ * shift left by 8, which makes hound and fox steps simple shifts masked
+ * against the board edges.
+ */
+public final class Bitboards {
+    // Number of cells on the board
+    public static final int SQUARE_COUNT = Board.BOARD_SIZE * Board.BOARD_SIZE;
+
+    // Leftmost and rightmost columns (used to stop shifts wrapping around the edges)
+    public static final long FILE_A = 0x0101010101010101L;
+    public static final long FILE_H = FILE_A << 7;
+
+    // Row 0, the row the fox has to reach
+    public static final long TOP_ROW = 0xFFL;
+
+    // The 32 playable (dark) squares, where row + col is odd
+    public static final long DARK_SQUARES;
+
+    // Precomputed single-step targets for each square
+    private static final long[] FOX_STEPS = new long[SQUARE_COUNT];
+    private static final long[] HOUND_STEPS = new long[SQUARE_COUNT];
+
+    static {
+        long dark = 0L;
+        for (int square = 0; square < SQUARE_COUNT; square++) {
+            long bit = 1L << square;
+            FOX_STEPS[square] = foxStepsOf(bit);
+            HOUND_STEPS[square] = houndStepsOf(bit);
+            if (((row(square) + col(square)) & 1) == 1) {
+                dark |= bit;
+            }
+        }
+        DARK_SQUARES = dark;
+    }
+
+    private Bitboards() {
+    }
+
+    /**
+     * Converts board coordinates to a square index.
+     *
+     * @param row Row number (0-7)
+     * @param col Column number (0-7)
+     * @return Square index (0-63)
+     */
+    public static int square(int row, int col) {
+        return (row << 3) | col;
+    }
+
+    /**
+     * Gets the row of a square index.
+     *
+     * @param square Square index (0-63)
+     * @return Row number (0-7)
+     */
+    public static int row(int square) {
+        return square >>> 3;
+    }
+
+    /**
+     * Gets the column of a square index.
+     *
+     * @param square Square index (0-63)
+     * @return Column number (0-7)
+     */
+    public static int col(int square) {
+        return square & 7;
+    }
+
+    /**
+     * Gets the single-bit mask of a square.
+     *
+     * @param square Square index (0-63)
+     * @return Mask with only that square set
+     */
+    public static long bit(int square) {
+        return 1L << square;
+    }
+
+    /**
+     * Gets the squares a fox on the given square could step to on an empty board.
+     *
+     * @param square Fox square
+     * @return Mask of the (up to four) diagonal neighbours
+     */
+    public static long foxSteps(int square) {
+        return FOX_STEPS[square];
+    }
+
+    /**
+     * Gets the squares a hound on the given square could step to on an empty board.
+     *
+     * @param square Hound square
+     * @return Mask of the (up to two) forward diagonal neighbours
+     */
+    public static long houndSteps(int square) {
+        return HOUND_STEPS[square];
+    }
+
+    /**
+     * Computes the forward diagonal steps of every square in a mask at once.
+     *
+     * @param mask Squares to step from
+     * @return Union of the forward (down the board) diagonal neighbours
+     */
+    public static long houndStepsOf(long mask) {
+        return ((mask & ~FILE_A) << 7) | ((mask & ~FILE_H) << 9);
+    }
+
+    /**
+     * Computes the diagonal steps in all four directions of every square in a mask at once.
+     *
+     * @param mask Squares to step from
+     * @return Union of all diagonal neighbours
+     */
+    public static long foxStepsOf(long mask) {
+        return houndStepsOf(mask) | ((mask & ~FILE_A) >>> 9) | ((mask & ~FILE_H) >>> 7);
+    }
+}
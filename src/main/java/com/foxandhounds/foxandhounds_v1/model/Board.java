@@ -1,43 +1,76 @@
 package com.foxandhounds.foxandhounds_v1.model;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Category;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Level;
+import java.util.Arrays;
 
 /**
  * Represents the game board for Fox and Hounds.
  *
- * This class uses a HashMap to store the state of each cell, which provides
- * O(1) lookups for cell states. It also uses a HashSet to quickly check
- * if a cell is occupied. This is more memory efficient than storing a full
- * 8x8 matrix as we only need to track occupied cells.
+ * The board is stored as bitboards: one 64-bit mask for the fox and one for
+ * the hounds, with bit index row * 8 + col (see {@link Bitboards}). Cell
+ * lookups, move legality and the blocked-fox check are single ANDs against
+ * these masks. The board also keeps the square of the fox and of each hound
+ * in placement order, so hound i on the board is hound i in the game's list.
+ *
+ * Search code applies and takes back moves with {@link #makeMove(int)} and
+ * {@link #unmakeMove()}, which update the squares, masks and Zobrist key together
+ * in O(1) and record the move on a primitive undo stack.
  */
 public class Board {
     // Constants for board dimensions
     public static final int BOARD_SIZE = 8;
 
+    // Number of hounds in a game
+    public static final int HOUND_COUNT = 4;
+
     // Enum for possible cell states
     public enum CellState {
         EMPTY, FOX, HOUND
     }
 
-    // HashMap to store the state of each cell (only occupied cells are stored)
-    // The key is a string in the format "row,col"
-    private Map<String, CellState> boardMap;
+    // Bit masks of the cells holding the fox and the hounds
+    private long foxMask;
+    private long houndMask;
+
+    // Square index of the fox (-1 if there is no fox on the board)
+    private int foxSquare;
+
+    // Square index of each hound, in the order the hounds were placed
+    private final int[] houndSquares;
+    private int houndCount;
+
+    // Zobrist key of the pieces on the board, updated on every change
+    private long zobristKey;
 
-    // HashSet to track which cells are occupied (for faster checks)
-    private Set<String> occupiedCells;
+    // Packed moves applied with makeMove, most recent last (grows on demand)
+    private int[] undoStack = new int[64];
+    private int undoCount;
 
     /**
      * Constructor initializes an empty board.
      */
     public Board() {
-        boardMap = new HashMap<>();
-        occupiedCells = new HashSet<>();
+        houndSquares = new int[HOUND_COUNT];
         initializeBoard();
     }
 
+    /**
+     * Copy constructor, so search code can work on its own board.
+     * The copy starts with an empty undo stack.
+     *
+     * @param other Board to copy
+     */
+    public Board(Board other) {
+        houndSquares = other.houndSquares.clone();
+        houndCount = other.houndCount;
+        foxMask = other.foxMask;
+        houndMask = other.houndMask;
+        foxSquare = other.foxSquare;
+        zobristKey = other.zobristKey;
+    }
+
     /**
      * Initializes the board with starting positions.
      * Places four hounds on the top row (black squares) and
@@ -45,8 +78,12 @@ public class Board {
      */
     public void initializeBoard() {
         // Clear any existing pieces
-        boardMap.clear();
-        occupiedCells.clear();
+        foxMask = 0L;
+        houndMask = 0L;
+        foxSquare = -1;
+        houndCount = 0;
+        zobristKey = 0L;
+        undoCount = 0;
 
         // Place hounds at the top row's dark squares (positions 0,1 0,3 0,5 0,7)
         for (int col = 1; col < BOARD_SIZE; col += 2) {
@@ -57,20 +94,32 @@ public class Board {
         setCellState(BOARD_SIZE - 1, 0, CellState.FOX);
 
         // Debug output to verify initialization
-        System.out.println("Board initialized with fox at: " + (BOARD_SIZE - 1) + ",0");
-        System.out.println("Hounds at: 0,1 0,3 0,5 0,7");
+        if (GameLog.isEnabled(Category.BOARD, Level.DEBUG)) {
+            GameLog.log(Category.BOARD, Level.DEBUG, "Board initialized with fox at: " + (BOARD_SIZE - 1) + ",0");
+        }
+        GameLog.log(Category.BOARD, Level.DEBUG, "Hounds at: 0,1 0,3 0,5 0,7");
     }
 
     /**
-     * Helper method to convert row, col to string key.
-     * This is used as the key in the HashMap and HashSet.
+     * Replaces all pieces on the board, placing the hounds in ascending square
+     * order, and clears the undo stack.
      *
-     * @param row Row number (0-7)
-     * @param col Column number (0-7)
-     * @return String key in format "row,col"
+     * @param foxSquare Fox square
+     * @param houndMask Hound bitboard
      */
-    private String cellKey(int row, int col) {
-        return row + "," + col;
+    public void setPieces(int foxSquare, long houndMask) {
+        this.foxMask = 0L;
+        this.houndMask = 0L;
+        this.foxSquare = -1;
+        houndCount = 0;
+        zobristKey = 0L;
+        undoCount = 0;
+
+        for (long mask = houndMask; mask != 0; mask &= mask - 1) {
+            int square = Long.numberOfTrailingZeros(mask);
+            setCellState(Bitboards.row(square), Bitboards.col(square), CellState.HOUND);
+        }
+        setCellState(Bitboards.row(foxSquare), Bitboards.col(foxSquare), CellState.FOX);
     }
 
     /**
@@ -81,15 +130,46 @@ public class Board {
      * @param state New state for the cell (EMPTY, FOX, HOUND)
      */
     public void setCellState(int row, int col, CellState state) {
-        String key = cellKey(row, col);
+        int square = Bitboards.square(row, col);
+        long bit = Bitboards.bit(square);
 
-        // If clearing a cell, remove it from occupied cells
-        if (state == CellState.EMPTY) {
-            boardMap.remove(key);
-            occupiedCells.remove(key);
-        } else {
-            boardMap.put(key, state);
-            occupiedCells.add(key);
+        // Remove whatever is currently on the cell
+        if ((foxMask & bit) != 0) {
+            foxMask &= ~bit;
+            foxSquare = -1;
+            zobristKey ^= Zobrist.fox(square);
+        } else if ((houndMask & bit) != 0) {
+            houndMask &= ~bit;
+            removeHoundSquare(square);
+            zobristKey ^= Zobrist.hound(square);
+        }
+
+        if (state == CellState.FOX) {
+            foxMask |= bit;
+            foxSquare = square;
+            zobristKey ^= Zobrist.fox(square);
+        } else if (state == CellState.HOUND) {
+            if (houndCount == HOUND_COUNT) {
+                throw new IllegalStateException("Board already has " + HOUND_COUNT + " hounds");
+            }
+            houndMask |= bit;
+            houndSquares[houndCount++] = square;
+            zobristKey ^= Zobrist.hound(square);
+        }
+    }
+
+    /**
+     * Removes a hound square from the placement list, keeping the order of the others.
+     *
+     * @param square Square index of the hound
+     */
+    private void removeHoundSquare(int square) {
+        for (int i = 0; i < houndCount; i++) {
+            if (houndSquares[i] == square) {
+                System.arraycopy(houndSquares, i + 1, houndSquares, i, houndCount - i - 1);
+                houndCount--;
+                return;
+            }
         }
     }
 
@@ -101,8 +181,14 @@ public class Board {
      * @return State of the cell (EMPTY if not explicitly set)
      */
     public CellState getCellState(int row, int col) {
-        String key = cellKey(row, col);
-        return boardMap.getOrDefault(key, CellState.EMPTY);
+        if (!isValidCell(row, col)) {
+            return CellState.EMPTY;
+        }
+        long bit = Bitboards.bit(Bitboards.square(row, col));
+        if ((foxMask & bit) != 0) {
+            return CellState.FOX;
+        }
+        return (houndMask & bit) != 0 ? CellState.HOUND : CellState.EMPTY;
     }
 
     /**
@@ -113,7 +199,147 @@ public class Board {
      * @return true if cell is occupied, false otherwise
      */
     public boolean isCellOccupied(int row, int col) {
-        return occupiedCells.contains(cellKey(row, col));
+        return isValidCell(row, col) && (getOccupiedMask() & Bitboards.bit(Bitboards.square(row, col))) != 0;
+    }
+
+    /**
+     * Gets the mask of cells holding the fox.
+     *
+     * @return Fox bitboard
+     */
+    public long getFoxMask() {
+        return foxMask;
+    }
+
+    /**
+     * Gets the mask of cells holding a hound.
+     *
+     * @return Hound bitboard
+     */
+    public long getHoundMask() {
+        return houndMask;
+    }
+
+    /**
+     * Gets the mask of all occupied cells.
+     *
+     * @return Occupancy bitboard
+     */
+    public long getOccupiedMask() {
+        return foxMask | houndMask;
+    }
+
+    /**
+     * Gets the Zobrist key of the pieces on the board (see {@link Zobrist}).
+     * The key does not include the side to move.
+     *
+     * @return Position hash
+     */
+    public long getZobristKey() {
+        return zobristKey;
+    }
+
+    /**
+     * Gets the square index of the fox.
+     *
+     * @return Fox square, or -1 if there is no fox on the board
+     */
+    public int getFoxSquare() {
+        return foxSquare;
+    }
+
+    /**
+     * Gets the number of hounds on the board.
+     *
+     * @return Hound count
+     */
+    public int getHoundCount() {
+        return houndCount;
+    }
+
+    /**
+     * Gets the square index of a hound.
+     *
+     * @param index Hound index (placement order, same as the game's hound list)
+     * @return Square index of the hound
+     */
+    public int getHoundSquare(int index) {
+        return houndSquares[index];
+    }
+
+    /**
+     * Gets the index of the hound on a square.
+     *
+     * @param square Square index
+     * @return Hound index, or -1 if there is no hound on the square
+     */
+    public int getHoundIndex(int square) {
+        if ((houndMask & Bitboards.bit(square)) != 0) {
+            for (int i = 0; i < houndCount; i++) {
+                if (houndSquares[i] == square) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the empty cells the fox can step to from its current square.
+     *
+     * @return Mask of legal fox destinations (0 if there is no fox)
+     */
+    public long getFoxMoveTargets() {
+        return foxSquare < 0 ? 0L : Bitboards.foxSteps(foxSquare) & ~getOccupiedMask();
+    }
+
+    /**
+     * Writes the fox's legal moves into a caller-supplied buffer as packed moves.
+     *
+     * @param buffer Destination buffer (needs room for {@link PackedMove#MAX_FOX_MOVES})
+     * @param offset First index to write
+     * @return Number of moves written
+     */
+    public int generateFoxMoves(int[] buffer, int offset) {
+        return foxSquare < 0 ? 0 : writeMoves(PackedMove.FOX, foxSquare, getFoxMoveTargets(), buffer, offset);
+    }
+
+    /**
+     * Writes every hound's legal moves into a caller-supplied buffer as packed moves,
+     * ordered by hound index and then by destination square.
+     *
+     * @param buffer Destination buffer (needs room for {@link PackedMove#MAX_HOUND_MOVES})
+     * @param offset First index to write
+     * @return Number of moves written
+     */
+    public int generateHoundMoves(int[] buffer, int offset) {
+        long empty = ~getOccupiedMask();
+        int count = 0;
+        for (int i = 0; i < houndCount; i++) {
+            int from = houndSquares[i];
+            count += writeMoves(i, from, Bitboards.houndSteps(from) & empty, buffer, offset + count);
+        }
+        return count;
+    }
+
+    /**
+     * Writes one packed move per target square, lowest square first.
+     *
+     * @param piece Hound index, or {@link PackedMove#FOX}
+     * @param from Source square
+     * @param targets Mask of destination squares
+     * @param buffer Destination buffer
+     * @param offset First index to write
+     * @return Number of moves written
+     */
+    static int writeMoves(int piece, int from, long targets, int[] buffer, int offset) {
+        int count = 0;
+        while (targets != 0) {
+            int to = Long.numberOfTrailingZeros(targets);
+            targets &= targets - 1;
+            buffer[offset + count++] = PackedMove.pack(piece, from, to);
+        }
+        return count;
     }
 
     /**
@@ -139,44 +365,47 @@ public class Board {
      */
     public boolean isValidMove(int fromRow, int fromCol, int toRow, int toCol, boolean isFox) {
         // Debug output
-        System.out.println("Checking move: " + fromRow + "," + fromCol + " to " + toRow + "," + toCol + " (isFox: " + isFox + ")");
+        if (GameLog.isEnabled(Category.BOARD, Level.TRACE)) {
+            GameLog.log(Category.BOARD, Level.TRACE, "Checking move: " + fromRow + "," + fromCol + " to " + toRow + "," + toCol + " (isFox: " + isFox + ")");
+        }
 
         // Check if source and destination are valid cells
         if (!isValidCell(fromRow, fromCol) || !isValidCell(toRow, toCol)) {
-            System.out.println("Invalid cell coordinates");
+            GameLog.log(Category.BOARD, Level.TRACE, "Invalid cell coordinates");
             return false;
         }
 
+        int from = Bitboards.square(fromRow, fromCol);
+        long toBit = Bitboards.bit(Bitboards.square(toRow, toCol));
+
         // Check if the source has the correct piece
-        CellState sourceState = getCellState(fromRow, fromCol);
-        if ((isFox && sourceState != CellState.FOX) || (!isFox && sourceState != CellState.HOUND)) {
-            System.out.println("Source doesn't have correct piece. Source state: " + sourceState);
+        if (((isFox ? foxMask : houndMask) & Bitboards.bit(from)) == 0) {
+            if (GameLog.isEnabled(Category.BOARD, Level.TRACE)) {
+                GameLog.log(Category.BOARD, Level.TRACE, "Source doesn't have correct piece. Source state: " + getCellState(fromRow, fromCol));
+            }
             return false;
         }
 
         // Check if the destination is empty
-        if (getCellState(toRow, toCol) != CellState.EMPTY) {
-            System.out.println("Destination is not empty");
+        if ((getOccupiedMask() & toBit) != 0) {
+            GameLog.log(Category.BOARD, Level.TRACE, "Destination is not empty");
             return false;
         }
 
-        // Check if the move is diagonal (one square)
-        int rowDiff = toRow - fromRow;
-        int colDiff = Math.abs(toCol - fromCol);
-
-        if (colDiff != 1 || Math.abs(rowDiff) != 1) {
-            System.out.println("Move is not diagonal single step");
+        // Check if the move is a single diagonal step
+        if ((Bitboards.foxSteps(from) & toBit) == 0) {
+            GameLog.log(Category.BOARD, Level.TRACE, "Move is not diagonal single step");
             return false;
         }
 
         // For hounds: Can only move forward (down the board)
-        if (!isFox && rowDiff <= 0) {
-            System.out.println("Hound cannot move backward");
+        if (!isFox && (Bitboards.houndSteps(from) & toBit) == 0) {
+            GameLog.log(Category.BOARD, Level.TRACE, "Hound cannot move backward");
             return false;
         }
 
         // Fox can move diagonally in any direction
-        System.out.println("Move is valid");
+        GameLog.log(Category.BOARD, Level.TRACE, "Move is valid");
         return true;
     }
 
@@ -189,10 +418,98 @@ public class Board {
      * @param toCol Destination column
      */
     public void movePiece(int fromRow, int fromCol, int toRow, int toCol) {
-        CellState piece = getCellState(fromRow, fromCol);
-        setCellState(fromRow, fromCol, CellState.EMPTY);
-        setCellState(toRow, toCol, piece);
-        System.out.println("Moved piece from " + fromRow + "," + fromCol + " to " + toRow + "," + toCol);
+        int from = Bitboards.square(fromRow, fromCol);
+        int to = Bitboards.square(toRow, toCol);
+        long fromBit = Bitboards.bit(from);
+
+        if ((houndMask & fromBit) != 0 && (getOccupiedMask() & Bitboards.bit(to)) == 0) {
+            // Move the hound in place so it keeps its index
+            houndMask ^= fromBit | Bitboards.bit(to);
+            zobristKey ^= Zobrist.hound(from) ^ Zobrist.hound(to);
+            for (int i = 0; i < houndCount; i++) {
+                if (houndSquares[i] == from) {
+                    houndSquares[i] = to;
+                    break;
+                }
+            }
+        } else {
+            CellState piece = getCellState(fromRow, fromCol);
+            setCellState(fromRow, fromCol, CellState.EMPTY);
+            setCellState(toRow, toCol, piece);
+        }
+        if (GameLog.isEnabled(Category.BOARD, Level.TRACE)) {
+            GameLog.log(Category.BOARD, Level.TRACE, "Moved piece from " + fromRow + "," + fromCol + " to " + toRow + "," + toCol);
+        }
+    }
+
+    /**
+     * Applies a move and pushes it on the undo stack. The move is not checked:
+     * it must come from this board's move generators (or be otherwise legal),
+     * and hound moves must use the board's hound index.
+     *
+     * @param move Packed move (see {@link PackedMove})
+     */
+    public void makeMove(int move) {
+        int from = PackedMove.from(move);
+        int to = PackedMove.to(move);
+        shiftPiece(PackedMove.piece(move), from, to);
+        if (undoCount == undoStack.length) {
+            undoStack = Arrays.copyOf(undoStack, undoCount * 2);
+        }
+        undoStack[undoCount++] = move;
+    }
+
+    /**
+     * Applies a move and pushes it on the undo stack.
+     *
+     * @param move Move to apply (hound index -1 for the fox)
+     */
+    public void makeMove(Move move) {
+        makeMove(PackedMove.fromMove(move));
+    }
+
+    /**
+     * Takes back the last move applied with {@link #makeMove(int)}.
+     *
+     * @return The packed move that was taken back
+     * @throws IllegalStateException If there is no move to take back
+     */
+    public int unmakeMove() {
+        if (undoCount == 0) {
+            throw new IllegalStateException("No move to unmake");
+        }
+        int move = undoStack[--undoCount];
+        shiftPiece(PackedMove.piece(move), PackedMove.to(move), PackedMove.from(move));
+        return move;
+    }
+
+    /**
+     * Gets the number of moves on the undo stack.
+     *
+     * @return Moves that can be taken back with {@link #unmakeMove()}
+     */
+    public int getUndoDepth() {
+        return undoCount;
+    }
+
+    /**
+     * Moves a piece between two squares, updating squares, masks and key together.
+     *
+     * @param piece Hound index, or {@link PackedMove#FOX}
+     * @param from Source square
+     * @param to Destination square
+     */
+    private void shiftPiece(int piece, int from, int to) {
+        long change = Bitboards.bit(from) | Bitboards.bit(to);
+        if (piece == PackedMove.FOX) {
+            foxMask ^= change;
+            foxSquare = to;
+            zobristKey ^= Zobrist.fox(from) ^ Zobrist.fox(to);
+        } else {
+            houndMask ^= change;
+            houndSquares[piece] = to;
+            zobristKey ^= Zobrist.hound(from) ^ Zobrist.hound(to);
+        }
     }
 
     /**
@@ -203,20 +520,16 @@ public class Board {
      * @return true if fox is blocked, false otherwise
      */
     public boolean isFoxBlocked(int foxRow, int foxCol) {
-        // Check all four diagonal directions
-        int[][] directions = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
-
-        for (int[] dir : directions) {
-            int newRow = foxRow + dir[0];
-            int newCol = foxCol + dir[1];
-
-            if (isValidCell(newRow, newCol) &&
-                    isValidMove(foxRow, foxCol, newRow, newCol, true)) {
-                return false; // Fox has at least one valid move
-            }
+        if (!isValidCell(foxRow, foxCol)) {
+            return true;
+        }
+        int square = Bitboards.square(foxRow, foxCol);
+        if ((foxMask & Bitboards.bit(square)) == 0) {
+            return true; // No fox there, so it has no valid move from this cell
         }
 
-        return true; // Fox is blocked
+        // Blocked when every diagonal neighbour is occupied or off the board
+        return (Bitboards.foxSteps(square) & ~getOccupiedMask()) == 0;
     }
 
     /**
@@ -233,20 +546,21 @@ public class Board {
      * Print the current board state to the console (for debugging)
      */
     public void printBoard() {
-        System.out.println("Current Board State:");
+        StringBuilder text = new StringBuilder((BOARD_SIZE * 2 + 1) * BOARD_SIZE + 21);
+        text.append("Current Board State:\n");
         for (int row = 0; row < BOARD_SIZE; row++) {
-            String line = "";
             for (int col = 0; col < BOARD_SIZE; col++) {
                 CellState state = getCellState(row, col);
                 if (state == CellState.EMPTY) {
-                    line += ". ";
+                    text.append(". ");
                 } else if (state == CellState.FOX) {
-                    line += "F ";
+                    text.append("F ");
                 } else if (state == CellState.HOUND) {
-                    line += "H ";
+                    text.append("H ");
                 }
             }
-            System.out.println(line);
+            text.append('\n');
         }
+        System.out.print(text);
     }
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package com.foxandhounds.foxandhounds_v1.model;
 
+import com.foxandhounds.foxandhounds_v1.logging.GameLog;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Category;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Level;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -23,7 +26,9 @@ public class Fox {
     public Fox(int row, int col) {
         this.row = row;
         this.col = col;
-        System.out.println("Fox created at position: " + row + "," + col);
+        if (GameLog.isEnabled(Category.PIECES, Level.DEBUG)) {
+            GameLog.log(Category.PIECES, Level.DEBUG, "Fox created at position: " + row + "," + col);
+        }
     }
 
     /**
@@ -51,7 +56,9 @@ public class Fox {
      * @param toCol Destination column
      */
     public void move(int toRow, int toCol) {
-        System.out.println("Moving fox from " + this.row + "," + this.col + " to " + toRow + "," + toCol);
+        if (GameLog.isEnabled(Category.PIECES, Level.DEBUG)) {
+            GameLog.log(Category.PIECES, Level.DEBUG, "Moving fox from " + this.row + "," + this.col + " to " + toRow + "," + toCol);
+        }
         this.row = toRow;
         this.col = toCol;
     }
@@ -64,25 +71,43 @@ public class Fox {
      * @return List of possible moves as [row, col] arrays
      */
     public List<int[]> getPossibleMoves(Board board) {
-        List<int[]> possibleMoves = new ArrayList<>();
-
-        // Check all four diagonal directions
-        int[][] directions = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+        int[] buffer = new int[PackedMove.MAX_FOX_MOVES];
+        int count = generateMoves(board, buffer, 0);
+        List<int[]> possibleMoves = new ArrayList<>(count);
 
-        for (int[] dir : directions) {
-            int newRow = row + dir[0];
-            int newCol = col + dir[1];
-
-            if (board.isValidMove(row, col, newRow, newCol, true)) {
-                possibleMoves.add(new int[]{newRow, newCol});
-                System.out.println("Valid fox move found: " + newRow + "," + newCol);
+        for (int i = 0; i < count; i++) {
+            int to = PackedMove.to(buffer[i]);
+            possibleMoves.add(new int[]{Bitboards.row(to), Bitboards.col(to)});
+            if (GameLog.isEnabled(Category.PIECES, Level.TRACE)) {
+                GameLog.log(Category.PIECES, Level.TRACE, "Valid fox move found: " + Bitboards.row(to) + "," + Bitboards.col(to));
             }
         }
 
-        System.out.println("Fox has " + possibleMoves.size() + " possible moves");
+        if (GameLog.isEnabled(Category.PIECES, Level.TRACE)) {
+            GameLog.log(Category.PIECES, Level.TRACE, "Fox has " + possibleMoves.size() + " possible moves");
+        }
         return possibleMoves;
     }
 
+    /**
+     * Writes the fox's valid moves into a caller-supplied buffer without allocating.
+     * Moves are packed with {@link PackedMove} and written in the same order as
+     * {@link #getPossibleMoves(Board)} returns them.
+     *
+     * @param board Current game board
+     * @param buffer Destination buffer (needs room for {@link PackedMove#MAX_FOX_MOVES})
+     * @param offset First index to write
+     * @return Number of moves written
+     */
+    public int generateMoves(Board board, int[] buffer, int offset) {
+        int from = Bitboards.square(row, col);
+        if ((board.getFoxMask() & Bitboards.bit(from)) == 0) {
+            return 0;
+        }
+        long targets = Bitboards.foxSteps(from) & ~board.getOccupiedMask();
+        return Board.writeMoves(PackedMove.FOX, from, targets, buffer, offset);
+    }
+
     /**
      * Checks if the fox has escaped (reached the top row).
      *
@@ -62,24 +62,38 @@ public class Hound {
      * @return List of possible moves as [row, col] arrays
      */
     public List<int[]> getPossibleMoves(Board board) {
-        List<int[]> possibleMoves = new ArrayList<>();
+        int[] buffer = new int[2];
+        int count = generateMoves(board, 0, buffer, 0);
+        List<int[]> possibleMoves = new ArrayList<>(count);
 
-        // Hounds can only move diagonally forward (down the board)
-        // These are the two diagonal forward directions
-        int[][] directions = {{1, -1}, {1, 1}};
-
-        for (int[] dir : directions) {
-            int newRow = row + dir[0];
-            int newCol = col + dir[1];
-
-            if (board.isValidMove(row, col, newRow, newCol, false)) {
-                possibleMoves.add(new int[]{newRow, newCol});
-            }
+        for (int i = 0; i < count; i++) {
+            int to = PackedMove.to(buffer[i]);
+            possibleMoves.add(new int[]{Bitboards.row(to), Bitboards.col(to)});
         }
 
         return possibleMoves;
     }
 
+    /**
+     * Writes this hound's valid moves into a caller-supplied buffer without allocating.
+     * Moves are packed with {@link PackedMove} and written in the same order as
+     * {@link #getPossibleMoves(Board)} returns them.
+     *
+     * @param board Current game board
+     * @param houndIndex Index of this hound in the hounds list (stored in each move)
+     * @param buffer Destination buffer (needs room for two moves)
+     * @param offset First index to write
+     * @return Number of moves written
+     */
+    public int generateMoves(Board board, int houndIndex, int[] buffer, int offset) {
+        int from = Bitboards.square(row, col);
+        if ((board.getHoundMask() & Bitboards.bit(from)) == 0) {
+            return 0;
+        }
+        long targets = Bitboards.houndSteps(from) & ~board.getOccupiedMask();
+        return Board.writeMoves(houndIndex, from, targets, buffer, offset);
+    }
+
     /**
      * Calculates the Manhattan distance from this hound to the fox.
      * This is used by the AI to determine which hound to move.
@@ -0,0 +1,98 @@
+package com.foxandhounds.foxandhounds_v1.model;
+
+/**
+ * Encodes a move as a single int so move generators can write into reusable
+ * int buffers instead of allocating arrays and {@link Move} objects.
+ *
+ * Layout: bits 0-5 hold the source square, bits 6-11 the destination square
+ * and bits 12-14 the moving piece (the hound index, or {@link #FOX}).
+ * Squares use the {@link Bitboards} numbering (row * 8 + col).
+ */
+public final class PackedMove {
+    // Piece value used for fox moves
+    public static final int FOX = 7;
+
+    // Largest number of moves a generator can write in one call
+    public static final int MAX_FOX_MOVES = 4;
+    public static final int MAX_HOUND_MOVES = 2 * Board.HOUND_COUNT;
+
+    private PackedMove() {
+    }
+
+    /**
+     * Packs a move into an int.
+     *
+     * @param piece Hound index, or {@link #FOX}
+     * @param from Source square
+     * @param to Destination square
+     * @return Packed move
+     */
+    public static int pack(int piece, int from, int to) {
+        return (piece << 12) | (to << 6) | from;
+    }
+
+    /**
+     * Gets the moving piece of a packed move.
+     *
+     * @param move Packed move
+     * @return Hound index, or {@link #FOX}
+     */
+    public static int piece(int move) {
+        return (move >>> 12) & 7;
+    }
+
+    /**
+     * Checks if a packed move is a fox move.
+     *
+     * @param move Packed move
+     * @return true for a fox move
+     */
+    public static boolean isFox(int move) {
+        return piece(move) == FOX;
+    }
+
+    /**
+     * Gets the source square of a packed move.
+     *
+     * @param move Packed move
+     * @return Source square
+     */
+    public static int from(int move) {
+        return move & 63;
+    }
+
+    /**
+     * Gets the destination square of a packed move.
+     *
+     * @param move Packed move
+     * @return Destination square
+     */
+    public static int to(int move) {
+        return (move >>> 6) & 63;
+    }
+
+    /**
+     * Converts a packed move to a {@link Move} (for returning results to callers).
+     *
+     * @param move Packed move
+     * @return Equivalent Move object
+     */
+    public static Move toMove(int move) {
+        int from = from(move);
+        int to = to(move);
+        int houndIndex = isFox(move) ? -1 : piece(move);
+        return new Move(houndIndex, Bitboards.row(from), Bitboards.col(from), Bitboards.row(to), Bitboards.col(to));
+    }
+
+    /**
+     * Packs a {@link Move} object.
+     *
+     * @param move Move to pack
+     * @return Packed move
+     */
+    public static int fromMove(Move move) {
+        int piece = move.getHoundIndex() < 0 ? FOX : move.getHoundIndex();
+        return pack(piece, Bitboards.square(move.getFromRow(), move.getFromCol()),
+                Bitboards.square(move.getToRow(), move.getToCol()));
+    }
+}
@@ -0,0 +1,201 @@
+package com.foxandhounds.foxandhounds_v1.model;
+
+/**
+ * Immutable snapshot of a game position packed into one int.
+ *
+ * Layout: bits 0-5 hold the fox square, bits 6-29 the four hound squares in
+ * ascending order (6 bits each) and bit 30 is set when the hounds are to move.
+ * Hounds are interchangeable, so sorting them makes positions that differ only
+ * in which hound stands where compare equal. Squares use the {@link Bitboards}
+ * numbering (row * 8 + col).
+ *
+ * Code that stores positions in bulk can keep the packed ints from
+ * {@link #pack(int, long, boolean)} and {@link #toPacked()} in primitive arrays;
+ * Position objects are for map keys, sharing between threads and logging.
+ */
+public final class Position {
+    private static final int SQUARE_BITS = 6;
+    private static final int SQUARE_MASK = (1 << SQUARE_BITS) - 1;
+    private static final int HOUNDS_TO_MOVE_BIT = 1 << (SQUARE_BITS * (1 + Board.HOUND_COUNT));
+
+    // Starting position: hounds on the top row, fox in the bottom left corner, fox to move
+    public static final Position START = of(Bitboards.square(Board.BOARD_SIZE - 1, 0),
+            Bitboards.bit(1) | Bitboards.bit(3) | Bitboards.bit(5) | Bitboards.bit(7), false);
+
+    private final int packed;
+
+    private Position(int packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * Packs a position into an int without creating an object.
+     *
+     * @param foxSquare Fox square
+     * @param houndMask Bitboard of exactly four hounds
+     * @param houndsToMove true if the hounds are to move
+     * @return Packed position
+     */
+    public static int pack(int foxSquare, long houndMask, boolean houndsToMove) {
+        if (foxSquare < 0 || foxSquare >= Bitboards.SQUARE_COUNT || Long.bitCount(houndMask) != Board.HOUND_COUNT
+                || (houndMask & Bitboards.bit(foxSquare)) != 0) {
+            throw new IllegalArgumentException("A position needs a fox and " + Board.HOUND_COUNT + " hounds on different squares");
+        }
+        int packed = foxSquare;
+        int shift = SQUARE_BITS;
+        for (long mask = houndMask; mask != 0; mask &= mask - 1) {
+            packed |= Long.numberOfTrailingZeros(mask) << shift;
+            shift += SQUARE_BITS;
+        }
+        return houndsToMove ? packed | HOUNDS_TO_MOVE_BIT : packed;
+    }
+
+    /**
+     * Creates a position.
+     *
+     * @param foxSquare Fox square
+     * @param houndMask Bitboard of exactly four hounds
+     * @param houndsToMove true if the hounds are to move
+     * @return Position
+     */
+    public static Position of(int foxSquare, long houndMask, boolean houndsToMove) {
+        return new Position(pack(foxSquare, houndMask, houndsToMove));
+    }
+
+    /**
+     * Creates a position from the pieces on a board.
+     *
+     * @param board Board with a fox and four hounds
+     * @param houndsToMove true if the hounds are to move
+     * @return Position
+     */
+    public static Position of(Board board, boolean houndsToMove) {
+        return of(board.getFoxSquare(), board.getHoundMask(), houndsToMove);
+    }
+
+    /**
+     * Wraps a packed position.
+     *
+     * @param packed Value from {@link #pack(int, long, boolean)} or {@link #toPacked()}
+     * @return Position
+     */
+    public static Position fromPacked(int packed) {
+        if ((packed & ~(HOUNDS_TO_MOVE_BIT | (HOUNDS_TO_MOVE_BIT - 1))) != 0) {
+            throw new IllegalArgumentException("Not a packed position: " + Integer.toHexString(packed));
+        }
+        return new Position(packed);
+    }
+
+    /**
+     * Gets the packed form of this position.
+     *
+     * @return Packed position
+     */
+    public int toPacked() {
+        return packed;
+    }
+
+    /**
+     * Gets the fox square.
+     *
+     * @return Fox square
+     */
+    public int getFoxSquare() {
+        return packed & SQUARE_MASK;
+    }
+
+    /**
+     * Gets a hound square.
+     *
+     * @param index Hound index in ascending square order (0-3)
+     * @return Hound square
+     */
+    public int getHoundSquare(int index) {
+        return (packed >>> (SQUARE_BITS * (index + 1))) & SQUARE_MASK;
+    }
+
+    /**
+     * Gets the hounds as a bitboard.
+     *
+     * @return Hound bitboard
+     */
+    public long getHoundMask() {
+        long mask = 0L;
+        for (int i = 0; i < Board.HOUND_COUNT; i++) {
+            mask |= Bitboards.bit(getHoundSquare(i));
+        }
+        return mask;
+    }
+
+    /**
+     * Checks whose turn it is.
+     *
+     * @return true if the hounds are to move, false if the fox is
+     */
+    public boolean isHoundsToMove() {
+        return (packed & HOUNDS_TO_MOVE_BIT) != 0;
+    }
+
+    /**
+     * Gets the Zobrist key of this position, including the side to move
+     * (the same key search code builds from a board, see {@link Zobrist}).
+     *
+     * @return Position hash
+     */
+    public long getZobristKey() {
+        long key = Zobrist.fox(getFoxSquare());
+        for (int i = 0; i < Board.HOUND_COUNT; i++) {
+            key ^= Zobrist.hound(getHoundSquare(i));
+        }
+        return isHoundsToMove() ? key ^ Zobrist.HOUNDS_TO_MOVE : key;
+    }
+
+    /**
+     * Gets the position after a move. The move is not checked for legality;
+     * hound moves are matched by source square, so any hound index works.
+     *
+     * @param move Packed move (see {@link PackedMove})
+     * @return Position after the move, with the other side to move
+     */
+    public Position play(int move) {
+        int from = PackedMove.from(move);
+        int to = PackedMove.to(move);
+        if (PackedMove.isFox(move)) {
+            return of(to, getHoundMask(), !isHoundsToMove());
+        }
+        return of(getFoxSquare(), getHoundMask() ^ (Bitboards.bit(from) | Bitboards.bit(to)), !isHoundsToMove());
+    }
+
+    /**
+     * Sets up a board with this position's pieces (hounds in ascending square order).
+     *
+     * @param board Board to overwrite
+     */
+    public void copyTo(Board board) {
+        board.setPieces(getFoxSquare(), getHoundMask());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Position && ((Position) other).packed == packed;
+    }
+
+    @Override
+    public int hashCode() {
+        // Spread the square bits so hash tables use their low bits well
+        return packed * 0x9E3779B9;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("Position[fox=").append(squareName(getFoxSquare())).append(", hounds=");
+        for (int i = 0; i < Board.HOUND_COUNT; i++) {
+            text.append(i == 0 ? "" : " ").append(squareName(getHoundSquare(i)));
+        }
+        return text.append(isHoundsToMove() ? ", hounds to move]" : ", fox to move]").toString();
+    }
+
+    private static String squareName(int square) {
+        return Bitboards.row(square) + "," + Bitboards.col(square);
+    }
+}
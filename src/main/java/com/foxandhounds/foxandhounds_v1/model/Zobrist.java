@@ -0,0 +1,73 @@
+package com.foxandhounds.foxandhounds_v1.model;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist keys for hashing board positions.
+ *
+ * A position's key is the XOR of one random key per piece on its square, so it
+ * can be updated incrementally when a piece moves. Hounds share one key table
+ * because they are interchangeable: positions that differ only in which hound
+ * stands where hash the same. The keys are generated from a fixed seed so they
+ * are identical in every run.
+ */
+public final class Zobrist {
+    // Fixed seed so keys (and anything stored with them) are stable between runs
+    private static final long SEED = 0x5EED_F0C5_A9D0_0D5L;
+
+    private static final long[] FOX_KEYS = new long[Bitboards.SQUARE_COUNT];
+    private static final long[] HOUND_KEYS = new long[Bitboards.SQUARE_COUNT];
+
+    // XORed into a key when the hounds are to move
+    public static final long HOUNDS_TO_MOVE;
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int square = 0; square < Bitboards.SQUARE_COUNT; square++) {
+            FOX_KEYS[square] = random.nextLong();
+            HOUND_KEYS[square] = random.nextLong();
+        }
+        HOUNDS_TO_MOVE = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    /**
+     * Gets the key of the fox on a square.
+     *
+     * @param square Square index
+     * @return Zobrist key
+     */
+    public static long fox(int square) {
+        return FOX_KEYS[square];
+    }
+
+    /**
+     * Gets the key of a hound on a square.
+     *
+     * @param square Square index
+     * @return Zobrist key
+     */
+    public static long hound(int square) {
+        return HOUND_KEYS[square];
+    }
+
+    /**
+     * Computes a key from scratch from piece masks (used to verify incremental keys).
+     *
+     * @param foxMask Fox bitboard
+     * @param houndMask Hound bitboard
+     * @return Zobrist key of the pieces
+     */
+    public static long keyOf(long foxMask, long houndMask) {
+        long key = 0L;
+        for (long mask = foxMask; mask != 0; mask &= mask - 1) {
+            key ^= FOX_KEYS[Long.numberOfTrailingZeros(mask)];
+        }
+        for (long mask = houndMask; mask != 0; mask &= mask - 1) {
+            key ^= HOUND_KEYS[Long.numberOfTrailingZeros(mask)];
+        }
+        return key;
+    }
+}
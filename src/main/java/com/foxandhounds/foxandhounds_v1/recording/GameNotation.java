@@ -0,0 +1,220 @@
+package com.foxandhounds.foxandhounds_v1.recording;
+
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Text notation for positions and games.
+ *
+ * Squares are named like chess squares: a file letter for the column (a-h) and a
+ * rank digit counting from the fox's side (row 7 is rank 1, row 0 rank 8), so
+ * the fox starts on a1 and the hounds on b8, d8, f8 and h8.
+ *
+ * A position lists the rows from rank 8 down to rank 1, separated by '/', with
+ * F for the fox, H for a hound and a digit for a run of empty squares, then the
+ * side to move (f or h). The start position is
+ * {@code 1H1H1H1H/8/8/8/8/8/8/F7 f}.
+ *
+ * A move is its source and destination square ({@code a1b2}). A game is one
+ * line: the start position, the moves separated by spaces, then the result
+ * (F fox won, H hounds won, * unfinished). Blank lines and lines starting with #
+ * are ignored by {@link GameNotationReader}.
+ *
+ * The methods here work on ASCII bytes so that {@link GameNotationReader} and
+ * {@link GameNotationWriter} can stream without building strings.
+ */
+public final class GameNotation {
+    // Longest position text: 8 rows of 8 characters, 7 separators, space, side to move
+    static final int MAX_POSITION_LENGTH = 73;
+
+    // Longest game line, without the line break
+    static final int MAX_LINE_LENGTH = MAX_POSITION_LENGTH + GameRecord.MAX_PLIES * 5 + 2;
+
+    private GameNotation() {
+    }
+
+    /**
+     * Formats a position.
+     *
+     * @param position Position
+     * @return Position text, e.g. {@code 1H1H1H1H/8/8/8/8/8/8/F7 f}
+     */
+    public static String format(Position position) {
+        byte[] text = new byte[MAX_POSITION_LENGTH];
+        int length = writePosition(text, 0, position.getFoxSquare(), position.getHoundMask(),
+                position.isHoundsToMove());
+        return new String(text, 0, length, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Parses a position.
+     *
+     * @param text Position text
+     * @return Position
+     * @throws IllegalArgumentException If the text is not a valid position
+     */
+    public static Position parsePosition(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        PositionParser parser = new PositionParser();
+        if (parser.parse(bytes, 0, bytes.length) != bytes.length) {
+            throw new IllegalArgumentException("Unexpected text after position: " + text);
+        }
+        return Position.fromPacked(parser.packed);
+    }
+
+    /**
+     * Formats a move.
+     *
+     * @param move Packed move
+     * @return Move text, e.g. {@code a1b2}
+     */
+    public static String formatMove(int move) {
+        byte[] text = new byte[4];
+        writeSquare(text, writeSquare(text, 0, PackedMove.from(move)), PackedMove.to(move));
+        return new String(text, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Gets the name of a square.
+     *
+     * @param square Square index
+     * @return Square name, e.g. {@code a1}
+     */
+    public static String squareName(int square) {
+        byte[] text = new byte[2];
+        writeSquare(text, 0, square);
+        return new String(text, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Writes a square name.
+     *
+     * @return Offset after the name
+     */
+    static int writeSquare(byte[] out, int at, int square) {
+        out[at] = (byte) ('a' + Bitboards.col(square));
+        out[at + 1] = (byte) ('0' + Board.BOARD_SIZE - Bitboards.row(square));
+        return at + 2;
+    }
+
+    /**
+     * Reads a square name.
+     *
+     * @return Square index, or -1 if the two bytes are not a square name
+     */
+    static int readSquare(byte[] text, int at) {
+        int col = text[at] - 'a';
+        int row = Board.BOARD_SIZE - (text[at + 1] - '0');
+        if (col < 0 || col >= Board.BOARD_SIZE || row < 0 || row >= Board.BOARD_SIZE) {
+            return -1;
+        }
+        return Bitboards.square(row, col);
+    }
+
+    /**
+     * Writes a position.
+     *
+     * @return Offset after the position text
+     */
+    static int writePosition(byte[] out, int at, int fox, long hounds, boolean houndsToMove) {
+        for (int row = 0; row < Board.BOARD_SIZE; row++) {
+            if (row > 0) {
+                out[at++] = '/';
+            }
+            int empty = 0;
+            for (int col = 0; col < Board.BOARD_SIZE; col++) {
+                int square = Bitboards.square(row, col);
+                byte piece = square == fox ? (byte) 'F' : (hounds & Bitboards.bit(square)) != 0 ? (byte) 'H' : 0;
+                if (piece == 0) {
+                    empty++;
+                } else {
+                    if (empty > 0) {
+                        out[at++] = (byte) ('0' + empty);
+                        empty = 0;
+                    }
+                    out[at++] = piece;
+                }
+            }
+            if (empty > 0) {
+                out[at++] = (byte) ('0' + empty);
+            }
+        }
+        out[at++] = ' ';
+        out[at++] = houndsToMove ? (byte) 'h' : (byte) 'f';
+        return at;
+    }
+
+    /**
+     * Parses position text from a byte array. Reusable, so a reader can parse
+     * many positions without allocating.
+     */
+    static final class PositionParser {
+        // Last parsed position, packed and as pieces
+        int packed;
+        int fox;
+        long hounds;
+        boolean houndsToMove;
+
+        /**
+         * Parses the position starting at the given offset.
+         *
+         * @return Offset after the position text
+         * @throws IllegalArgumentException If the text is not a valid position
+         */
+        int parse(byte[] text, int at, int end) {
+            int fox = -1;
+            long hounds = 0;
+            int row = 0;
+            int col = 0;
+            while (at < end && text[at] != ' ') {
+                byte c = text[at++];
+                if (c == '/') {
+                    if (col != Board.BOARD_SIZE) {
+                        throw new IllegalArgumentException("Row " + (Board.BOARD_SIZE - row) + " does not have 8 squares");
+                    }
+                    if (++row == Board.BOARD_SIZE) {
+                        throw new IllegalArgumentException("Position has more than 8 rows");
+                    }
+                    col = 0;
+                } else if (c >= '1' && c <= '8') {
+                    col += c - '0';
+                } else if (c == 'F' || c == 'H') {
+                    if (col >= Board.BOARD_SIZE) {
+                        throw new IllegalArgumentException("Row " + (Board.BOARD_SIZE - row) + " has more than 8 squares");
+                    }
+                    int square = Bitboards.square(row, col++);
+                    if ((Bitboards.bit(square) & Bitboards.DARK_SQUARES) == 0) {
+                        throw new IllegalArgumentException("Piece on light square " + squareName(square));
+                    }
+                    if (c == 'H') {
+                        hounds |= Bitboards.bit(square);
+                    } else if (fox < 0) {
+                        fox = square;
+                    } else {
+                        throw new IllegalArgumentException("More than one fox");
+                    }
+                } else {
+                    throw new IllegalArgumentException("Unexpected character '" + (char) c + "' in position");
+                }
+                if (col > Board.BOARD_SIZE) {
+                    throw new IllegalArgumentException("Row " + (Board.BOARD_SIZE - row) + " has more than 8 squares");
+                }
+            }
+            if (row != Board.BOARD_SIZE - 1 || col != Board.BOARD_SIZE) {
+                throw new IllegalArgumentException("Position does not have 8 rows of 8 squares");
+            }
+            if (fox < 0 || Long.bitCount(hounds) != Board.HOUND_COUNT) {
+                throw new IllegalArgumentException("A position needs a fox and " + Board.HOUND_COUNT + " hounds");
+            }
+            if (at + 2 > end || (text[at + 1] != 'f' && text[at + 1] != 'h')
+                    || (at + 2 < end && text[at + 2] != ' ')) {
+                throw new IllegalArgumentException("Position must end with the side to move (f or h)");
+            }
+            this.fox = fox;
+            this.hounds = hounds;
+            this.houndsToMove = text[at + 1] == 'h';
+            packed = Position.pack(fox, hounds, houndsToMove);
+            return at + 2;
+        }
+    }
+}
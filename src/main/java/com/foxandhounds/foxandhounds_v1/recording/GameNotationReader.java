@@ -0,0 +1,293 @@
+package com.foxandhounds.foxandhounds_v1.recording;
+
+import com.foxandhounds.foxandhounds_v1.controller.AIController;
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads games written in {@link GameNotation}, one line at a time.
+ *
+ * The reader is a cursor: {@link #next()} parses the next game into reusable
+ * fields, read back with {@link #getStart()}, {@link #getMove(int)} and so on.
+ * Input is read in large blocks into one byte array and parsed in place, so
+ * reading a game allocates nothing. Every move is checked against the position
+ * it is played in, and the packed moves use the hound indices of a board set up
+ * from the start position (ascending square order).
+ *
+ * Not thread-safe.
+ */
+public class GameNotationReader implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final ReadableByteChannel channel;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final ByteBuffer wrapped = ByteBuffer.wrap(buffer);
+    private final GameNotation.PositionParser positionParser = new GameNotation.PositionParser();
+    private final Board board = new Board();
+
+    // Unread input is buffer[lineStart, limit)
+    private int lineStart;
+    private int limit;
+    private boolean endOfInput;
+    private long lineNumber;
+
+    // Last game read
+    private int start;
+    private final int[] moves = new int[GameRecord.MAX_PLIES];
+    private int moveCount;
+    private GameState.Winner winner;
+
+    /**
+     * Creates a reader over a channel.
+     *
+     * @param channel Source of the text (closed with the reader)
+     */
+    public GameNotationReader(ReadableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Opens a game file.
+     *
+     * @param path File to read
+     * @return The reader
+     * @throws IOException If the file cannot be opened
+     */
+    public static GameNotationReader open(Path path) throws IOException {
+        return new GameNotationReader(FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    /**
+     * Reads the next game, skipping blank lines and comments.
+     *
+     * @return true if a game was read, false at the end of the input
+     * @throws IOException If reading fails or a line is not a valid game
+     */
+    public boolean next() throws IOException {
+        while (true) {
+            int lineEnd = findLineEnd();
+            if (lineEnd < 0) {
+                return false;
+            }
+            int from = lineStart;
+            lineStart = lineEnd < limit ? lineEnd + 1 : limit;
+            lineNumber++;
+
+            int to = lineEnd;
+            if (to > from && buffer[to - 1] == '\r') {
+                to--;
+            }
+            from = skipSpaces(from, to);
+            if (from == to || buffer[from] == '#') {
+                continue;
+            }
+            try {
+                parseGame(from, to);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Line " + lineNumber + ": " + e.getMessage(), e);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Finds the end of the next line, reading more input as needed.
+     *
+     * @return Offset of the line break (or of the end of the input), or -1 if no input is left
+     */
+    private int findLineEnd() throws IOException {
+        int scan = lineStart;
+        while (true) {
+            for (; scan < limit; scan++) {
+                if (buffer[scan] == '\n') {
+                    return scan;
+                }
+            }
+            if (endOfInput) {
+                return lineStart < limit ? limit : -1;
+            }
+
+            // Move the partial line to the front and fill the rest of the buffer
+            int kept = limit - lineStart;
+            if (kept == buffer.length) {
+                throw new IOException("Line " + (lineNumber + 1) + " is too long");
+            }
+            System.arraycopy(buffer, lineStart, buffer, 0, kept);
+            scan -= lineStart;
+            lineStart = 0;
+            limit = kept;
+            wrapped.limit(buffer.length).position(limit);
+            int read = channel.read(wrapped);
+            if (read < 0) {
+                endOfInput = true;
+            } else {
+                limit += read;
+            }
+        }
+    }
+
+    private int skipSpaces(int at, int end) {
+        while (at < end && (buffer[at] == ' ' || buffer[at] == '\t')) {
+            at++;
+        }
+        return at;
+    }
+
+    private void parseGame(int at, int end) {
+        at = positionParser.parse(buffer, at, end);
+        start = positionParser.packed;
+        board.setPieces(positionParser.fox, positionParser.hounds);
+        boolean houndsToMove = positionParser.houndsToMove;
+        moveCount = 0;
+        winner = GameState.Winner.NONE;
+
+        while ((at = skipSpaces(at, end)) < end) {
+            int tokenEnd = at;
+            while (tokenEnd < end && buffer[tokenEnd] != ' ' && buffer[tokenEnd] != '\t') {
+                tokenEnd++;
+            }
+            if (tokenEnd - at == 1 && skipSpaces(tokenEnd, end) == end) {
+                winner = parseResult(buffer[at]);
+            } else if (tokenEnd - at == 4) {
+                if (moveCount == moves.length) {
+                    throw new IllegalArgumentException("Too many moves");
+                }
+                int move = parseMove(at, houndsToMove);
+                board.makeMove(move);
+                moves[moveCount++] = move;
+                houndsToMove = !houndsToMove;
+            } else {
+                throw new IllegalArgumentException("Expected a move or result, found \""
+                        + new String(buffer, at, tokenEnd - at, StandardCharsets.US_ASCII) + "\"");
+            }
+            at = tokenEnd;
+        }
+    }
+
+    private int parseMove(int at, boolean houndsToMove) {
+        int from = GameNotation.readSquare(buffer, at);
+        int to = GameNotation.readSquare(buffer, at + 2);
+        if (from < 0 || to < 0) {
+            throw new IllegalArgumentException("Move " + (moveCount + 1) + " is not two square names");
+        }
+        int foxSquare = board.getFoxSquare();
+        if ((Bitboards.bit(foxSquare) & Bitboards.TOP_ROW) != 0) {
+            throw new IllegalArgumentException("Move " + (moveCount + 1) + " is after the fox escaped");
+        }
+        long empty = ~board.getOccupiedMask();
+        if (!houndsToMove) {
+            if (from != foxSquare || (Bitboards.foxSteps(from) & empty & Bitboards.bit(to)) == 0) {
+                throw illegalMove(from, to, "fox");
+            }
+            return PackedMove.pack(PackedMove.FOX, from, to);
+        }
+        if ((board.getHoundMask() & Bitboards.bit(from)) == 0
+                || (Bitboards.houndSteps(from) & empty & Bitboards.bit(to)) == 0) {
+            throw illegalMove(from, to, "hound");
+        }
+        for (int i = 0; i < board.getHoundCount(); i++) {
+            if (board.getHoundSquare(i) == from) {
+                return PackedMove.pack(i, from, to);
+            }
+        }
+        throw illegalMove(from, to, "hound");
+    }
+
+    private IllegalArgumentException illegalMove(int from, int to, String side) {
+        return new IllegalArgumentException("Move " + (moveCount + 1) + " (" + GameNotation.squareName(from)
+                + GameNotation.squareName(to) + ") is not a legal " + side + " move");
+    }
+
+    private static GameState.Winner parseResult(byte c) {
+        switch (c) {
+            case 'F':
+                return GameState.Winner.FOX;
+            case 'H':
+                return GameState.Winner.HOUNDS;
+            case '*':
+                return GameState.Winner.NONE;
+            default:
+                throw new IllegalArgumentException("Unknown result '" + (char) c + "'");
+        }
+    }
+
+    /**
+     * Gets the start position of the last game read.
+     *
+     * @return Start position
+     */
+    public Position getStart() {
+        return Position.fromPacked(start);
+    }
+
+    /**
+     * Gets the packed start position of the last game read, without creating a Position.
+     *
+     * @return Packed start position
+     */
+    public int getPackedStart() {
+        return start;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    /**
+     * Gets a move of the last game read.
+     *
+     * @param index Move number, from 0
+     * @return Packed move
+     */
+    public int getMove(int index) {
+        if (index >= moveCount) {
+            throw new IndexOutOfBoundsException("Move " + index + " of " + moveCount);
+        }
+        return moves[index];
+    }
+
+    /**
+     * Gets the result of the last game read.
+     *
+     * @return Winner, or NONE if the game is unfinished or has no result
+     */
+    public GameState.Winner getWinner() {
+        return winner;
+    }
+
+    /**
+     * Gets the line the last game was read from.
+     *
+     * @return Line number, from 1
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Converts the last game read into a record.
+     *
+     * @param difficulty Difficulty to record (the notation does not have one)
+     * @return The game as a record
+     */
+    public GameRecord toRecord(AIController.Difficulty difficulty) {
+        byte[] plies = new byte[moveCount];
+        for (int i = 0; i < moveCount; i++) {
+            int move = moves[i];
+            plies[i] = GameRecord.encodePly(PackedMove.piece(move), PackedMove.from(move), PackedMove.to(move));
+        }
+        return new GameRecord(difficulty, getStart(), winner, plies);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,139 @@
+package com.foxandhounds.foxandhounds_v1.recording;
+
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes games in {@link GameNotation}, one line per game.
+ *
+ * Lines are formatted straight into one byte array and written to the channel
+ * when it fills up, so writing a game allocates nothing. Not thread-safe.
+ */
+public class GameNotationWriter implements Closeable, Flushable {
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final WritableByteChannel channel;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final ByteBuffer wrapped = ByteBuffer.wrap(buffer);
+    private int length;
+
+    // Replays records to turn their plies into squares
+    private final Board board = new Board();
+
+    /**
+     * Creates a writer over a channel.
+     *
+     * @param channel Destination of the text (closed with the writer)
+     */
+    public GameNotationWriter(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Creates (or replaces) a game file.
+     *
+     * @param path File to write
+     * @return The writer
+     * @throws IOException If the file cannot be opened
+     */
+    public static GameNotationWriter open(Path path) throws IOException {
+        return new GameNotationWriter(FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+    }
+
+    /**
+     * Writes a game.
+     *
+     * @param start Start position
+     * @param moves Packed moves (only the squares are written)
+     * @param count Number of moves
+     * @param winner Winner, or NONE if unfinished
+     * @throws IOException If writing fails
+     */
+    public void writeGame(Position start, int[] moves, int count, GameState.Winner winner) throws IOException {
+        if (count > GameRecord.MAX_PLIES) {
+            throw new IllegalArgumentException("Too many moves: " + count);
+        }
+        reserveLine();
+        length = GameNotation.writePosition(buffer, length, start.getFoxSquare(), start.getHoundMask(),
+                start.isHoundsToMove());
+        for (int i = 0; i < count; i++) {
+            length = writeMove(moves[i]);
+        }
+        endLine(winner);
+    }
+
+    /**
+     * Writes a recorded game (its difficulty is not part of the notation).
+     *
+     * @param record Game to write
+     * @throws IOException If writing fails
+     */
+    public void writeGame(GameRecord record) throws IOException {
+        Position start = record.getStart();
+        reserveLine();
+        length = GameNotation.writePosition(buffer, length, start.getFoxSquare(), start.getHoundMask(),
+                start.isHoundsToMove());
+        start.copyTo(board);
+        for (int i = 0; i < record.getPlyCount(); i++) {
+            int move = GameRecord.decodePly(record.getPly(i), board);
+            board.makeMove(move);
+            length = writeMove(move);
+        }
+        endLine(record.getWinner());
+    }
+
+    private void reserveLine() throws IOException {
+        if (buffer.length - length < GameNotation.MAX_LINE_LENGTH + 1) {
+            flush();
+        }
+    }
+
+    private int writeMove(int move) {
+        buffer[length] = ' ';
+        return GameNotation.writeSquare(buffer, GameNotation.writeSquare(buffer, length + 1, PackedMove.from(move)),
+                PackedMove.to(move));
+    }
+
+    private void endLine(GameState.Winner winner) {
+        buffer[length++] = ' ';
+        buffer[length++] = winner == GameState.Winner.FOX ? (byte) 'F'
+                : winner == GameState.Winner.HOUNDS ? (byte) 'H' : (byte) '*';
+        buffer[length++] = '\n';
+    }
+
+    /**
+     * Writes buffered lines to the channel.
+     *
+     * @throws IOException If writing fails
+     */
+    @Override
+    public void flush() throws IOException {
+        wrapped.limit(length).position(0);
+        while (wrapped.hasRemaining()) {
+            channel.write(wrapped);
+        }
+        length = 0;
+    }
+
+    /**
+     * Flushes buffered lines and closes the channel.
+     *
+     * @throws IOException If writing fails
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.foxandhounds.foxandhounds_v1.recording;
+
+import com.foxandhounds.foxandhounds_v1.controller.AIController;
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * One recorded game: the difficulty, the start position, the result and one
+ * byte per ply.
+ *
+ * A ply byte holds the moving piece in bits 2-4 (hound index 0-3, or
+ * {@link PackedMove#FOX}) and the direction in bits 0-1 (bit 1 set for a step
+ * down the board, bit 0 set for a step to the right). Hound indices are those of
+ * the board built from the start position, where hounds are in ascending square
+ * order, so any ply can be turned back into a move by replaying the game.
+ *
+ * Encoded form (see {@link #writeTo}): difficulty ordinal, packed start
+ * {@link Position} (4 bytes), winner ordinal, ply count, then the plies.
+ */
+public final class GameRecord {
+    // Bytes before the plies in the encoded form
+    static final int HEADER_SIZE = 7;
+
+    // Hounds only move forward, so a game has at most 4 * 7 hound moves and one more fox move than that
+    public static final int MAX_PLIES = 2 * Board.HOUND_COUNT * (Board.BOARD_SIZE - 1) + 1;
+
+    private final AIController.Difficulty difficulty;
+    private final Position start;
+    private final GameState.Winner winner;
+    private final byte[] plies;
+
+    /**
+     * Creates a record.
+     *
+     * @param difficulty AI difficulty the game was played at
+     * @param start Start position
+     * @param winner Winner, or NONE for a game that was abandoned
+     * @param plies Ply bytes (not copied)
+     */
+    public GameRecord(AIController.Difficulty difficulty, Position start, GameState.Winner winner, byte[] plies) {
+        if (plies.length > MAX_PLIES) {
+            throw new IllegalArgumentException("Too many plies: " + plies.length);
+        }
+        this.difficulty = difficulty;
+        this.start = start;
+        this.winner = winner;
+        this.plies = plies;
+    }
+
+    /**
+     * Encodes a move as a ply byte.
+     *
+     * @param piece Hound index, or {@link PackedMove#FOX}
+     * @param from Source square
+     * @param to Destination square (a diagonal neighbour of from)
+     * @return Ply byte
+     */
+    public static byte encodePly(int piece, int from, int to) {
+        int direction = (to > from ? 2 : 0) | (Bitboards.col(to) > Bitboards.col(from) ? 1 : 0);
+        return (byte) (piece << 2 | direction);
+    }
+
+    /**
+     * Decodes a ply byte into a packed move on the board it is played on.
+     *
+     * @param ply Ply byte
+     * @param board Board before the ply
+     * @return Packed move
+     */
+    public static int decodePly(byte ply, Board board) {
+        int piece = (ply >>> 2) & 7;
+        int from = piece == PackedMove.FOX ? board.getFoxSquare() : board.getHoundSquare(piece);
+        int to = from + ((ply & 2) != 0 ? 7 : -9) + (ply & 1) * 2;
+        return PackedMove.pack(piece, from, to);
+    }
+
+    /**
+     * Sets up a board with the position after the given number of plies.
+     *
+     * @param board Board to set up
+     * @param plyCount Number of plies to play from the start
+     */
+    public void replay(Board board, int plyCount) {
+        start.copyTo(board);
+        for (int i = 0; i < plyCount; i++) {
+            board.makeMove(decodePly(plies[i], board));
+        }
+    }
+
+    /**
+     * Gets the position after the given number of plies.
+     *
+     * @param plyCount Number of plies to play from the start
+     * @return Position, with the side to move
+     */
+    public Position getPosition(int plyCount) {
+        Board board = new Board();
+        replay(board, plyCount);
+        boolean houndsToMove = start.isHoundsToMove() ^ (plyCount & 1) == 1;
+        return Position.of(board, houndsToMove);
+    }
+
+    public AIController.Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    public Position getStart() {
+        return start;
+    }
+
+    public GameState.Winner getWinner() {
+        return winner;
+    }
+
+    public int getPlyCount() {
+        return plies.length;
+    }
+
+    public byte getPly(int index) {
+        return plies[index];
+    }
+
+    /**
+     * Gets the size of the encoded record.
+     *
+     * @return Size in bytes
+     */
+    public int getEncodedSize() {
+        return HEADER_SIZE + plies.length;
+    }
+
+    /**
+     * Writes the encoded record at the buffer's position.
+     *
+     * @param buffer Destination, with at least {@link #getEncodedSize()} bytes remaining
+     */
+    public void writeTo(ByteBuffer buffer) {
+        buffer.put((byte) difficulty.ordinal())
+                .putInt(start.toPacked())
+                .put((byte) winner.ordinal())
+                .put((byte) plies.length)
+                .put(plies);
+    }
+
+    /**
+     * Reads an encoded record.
+     *
+     * @param buffer Source
+     * @param offset Offset of the record in the buffer
+     * @return The record
+     */
+    public static GameRecord readFrom(ByteBuffer buffer, int offset) {
+        AIController.Difficulty difficulty = AIController.Difficulty.values()[buffer.get(offset)];
+        Position start = Position.fromPacked(buffer.getInt(offset + 1));
+        GameState.Winner winner = GameState.Winner.values()[buffer.get(offset + 5)];
+        byte[] plies = new byte[encodedPlyCount(buffer, offset)];
+        buffer.get(offset + HEADER_SIZE, plies);
+        return new GameRecord(difficulty, start, winner, plies);
+    }
+
+    /**
+     * Gets the ply count of an encoded record without decoding it
+     */
+    static int encodedPlyCount(ByteBuffer buffer, int offset) {
+        return buffer.get(offset + 6) & 0xFF;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof GameRecord)) {
+            return false;
+        }
+        GameRecord record = (GameRecord) other;
+        return difficulty == record.difficulty && start.equals(record.start)
+                && winner == record.winner && Arrays.equals(plies, record.plies);
+    }
+
+    @Override
+    public int hashCode() {
+        return (start.hashCode() * 31 + Arrays.hashCode(plies)) * 31 + winner.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "GameRecord[" + difficulty + ", " + plies.length + " plies, winner " + winner + "]";
+    }
+}
@@ -0,0 +1,90 @@
+package com.foxandhounds.foxandhounds_v1.recording;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads games from a file written by {@link GameRecordWriter}.
+ *
+ * The data and index files are memory-mapped, so reading game i is two lookups
+ * in mapped memory, and reading them in order streams the file sequentially.
+ * The reader sees the games that were complete when it was opened. A file must
+ * be under 2 GB (about 50 million games); start a new file before that.
+ */
+public class GameRecordReader {
+    private final ByteBuffer data;
+    private final ByteBuffer index;
+    private final int gameCount;
+
+    private GameRecordReader(ByteBuffer data, ByteBuffer index) {
+        this.data = data;
+        this.index = index;
+        this.gameCount = index.capacity() / GameRecordWriter.INDEX_ENTRY_SIZE;
+    }
+
+    /**
+     * Memory-maps a game file and its index.
+     *
+     * @param path Data file
+     * @return The reader
+     * @throws IOException If the files cannot be read or are not a game file
+     */
+    public static GameRecordReader open(Path path) throws IOException {
+        ByteBuffer data = map(path);
+        if (data.capacity() < GameRecordWriter.HEADER_SIZE || data.getInt(0) != GameRecordWriter.MAGIC
+                || data.getInt(4) != GameRecordWriter.VERSION) {
+            throw new IOException("Not a game recording (or wrong version): " + path);
+        }
+        Path indexPath = GameRecordWriter.indexPath(path);
+        ByteBuffer index = Files.exists(indexPath) ? map(indexPath) : ByteBuffer.allocate(0);
+
+        // Leave out offsets a writer is still adding, or whose record is not all there yet
+        int count = index.capacity() / GameRecordWriter.INDEX_ENTRY_SIZE;
+        while (count > 0) {
+            long offset = index.getLong((count - 1) * GameRecordWriter.INDEX_ENTRY_SIZE);
+            if (offset + GameRecord.HEADER_SIZE <= data.capacity() && offset + GameRecord.HEADER_SIZE
+                    + GameRecord.encodedPlyCount(data, (int) offset) <= data.capacity()) {
+                break;
+            }
+            count--;
+        }
+        return new GameRecordReader(data, index.slice(0, count * GameRecordWriter.INDEX_ENTRY_SIZE));
+    }
+
+    private static ByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Game recording too large to map: " + path);
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Gets the number of games in the file.
+     *
+     * @return Game count
+     */
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    /**
+     * Reads a game.
+     *
+     * @param game Game number, from 0 in the order the games were appended
+     * @return The game
+     * @throws IndexOutOfBoundsException If there is no such game
+     */
+    public GameRecord read(int game) {
+        if (game < 0 || game >= gameCount) {
+            throw new IndexOutOfBoundsException("Game " + game + " of " + gameCount);
+        }
+        int offset = (int) index.getLong(game * GameRecordWriter.INDEX_ENTRY_SIZE);
+        return GameRecord.readFrom(data, offset);
+    }
+}
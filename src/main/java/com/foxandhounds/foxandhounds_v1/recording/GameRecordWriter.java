@@ -0,0 +1,279 @@
+package com.foxandhounds.foxandhounds_v1.recording;
+
+import com.foxandhounds.foxandhounds_v1.logging.GameLog;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Category;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Level;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends {@link GameRecord}s to a game file.
+ *
+ * The data file holds a header (magic, format version) followed by the encoded
+ * records back to back. Next to it, the index file ({@code <data file>.idx})
+ * holds the 8-byte offset of every record, so {@link GameRecordReader} can jump
+ * to any game. Records and offsets are collected in direct buffers and written
+ * with one channel write per buffer, and the data is always written before the
+ * offsets pointing into it. Opening an existing file drops whatever an earlier
+ * crash left half written, then appends after the last complete game.
+ */
+public class GameRecordWriter implements Closeable {
+    // System property naming the game file; games are not recorded when it is not set
+    public static final String PATH_PROPERTY = "foxandhounds.record";
+
+    // Data file header: magic, format version
+    static final int MAGIC = 0x46484752; // "FHGR"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 8;
+    static final int INDEX_ENTRY_SIZE = 8;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // Writer for the default file (shared by all games)
+    private static GameRecordWriter defaultWriter;
+    private static boolean defaultOpened;
+
+    private final Path path;
+    private final FileChannel data;
+    private final FileChannel index;
+    private final ByteBuffer dataBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final ByteBuffer indexBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE / 8);
+
+    // Offset of the next record, counting buffered records
+    private long dataEnd;
+    private long gameCount;
+    private boolean closed;
+
+    private GameRecordWriter(Path path, FileChannel data, FileChannel index) {
+        this.path = path;
+        this.data = data;
+        this.index = index;
+    }
+
+    /**
+     * Opens a game file for appending, creating it if needed.
+     *
+     * @param path Data file (the index is written next to it)
+     * @return The writer
+     * @throws IOException If the files cannot be opened or are not game files
+     */
+    public static GameRecordWriter open(Path path) throws IOException {
+        FileChannel data = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        FileChannel index;
+        try {
+            index = FileChannel.open(indexPath(path), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            data.close();
+            throw e;
+        }
+        GameRecordWriter writer = new GameRecordWriter(path, data, index);
+        try {
+            writer.recover();
+        } catch (IOException e) {
+            writer.closeChannels();
+            throw e;
+        }
+        return writer;
+    }
+
+    /**
+     * Gets the writer for the file named by the {@value #PATH_PROPERTY} system
+     * property. The file is opened once, shared, and closed when the JVM exits.
+     *
+     * @return The writer, or null if the property is not set or the file cannot be opened
+     */
+    public static synchronized GameRecordWriter openDefault() {
+        if (!defaultOpened) {
+            defaultOpened = true;
+            String name = System.getProperty(PATH_PROPERTY);
+            if (name != null && !name.isEmpty()) {
+                Path path = Paths.get(name);
+                try {
+                    defaultWriter = open(path);
+                    GameRecordWriter writer = defaultWriter;
+                    Runtime.getRuntime().addShutdownHook(new Thread(writer::closeQuietly, "game-record-close"));
+                    if (GameLog.isEnabled(Category.GAME, Level.INFO)) {
+                        GameLog.log(Category.GAME, Level.INFO, "Recording games to " + path.toAbsolutePath()
+                                + " (" + writer.getGameCount() + " already recorded)");
+                    }
+                } catch (IOException e) {
+                    GameLog.log(Category.GAME, Level.WARN, "Could not open game recording file", e);
+                }
+            }
+        }
+        return defaultWriter;
+    }
+
+    /**
+     * Gets the index file of a data file.
+     *
+     * @param path Data file
+     * @return Index file
+     */
+    public static Path indexPath(Path path) {
+        return path.resolveSibling(path.getFileName() + ".idx");
+    }
+
+    /**
+     * Checks the header and cuts both files back to the last complete record.
+     */
+    private void recover() throws IOException {
+        long dataSize = data.size();
+        if (dataSize == 0) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).flip();
+            writeFully(data, header, 0);
+            index.truncate(0);
+            dataEnd = HEADER_SIZE;
+            gameCount = 0;
+        } else {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            readFully(data, header, 0);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException("Not a game recording (or wrong version): " + path);
+            }
+
+            // An offset is only written after its record, so only the last entries can be dangling
+            long count = index.size() / INDEX_ENTRY_SIZE;
+            long end = HEADER_SIZE;
+            ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+            ByteBuffer recordHeader = ByteBuffer.allocate(GameRecord.HEADER_SIZE);
+            while (count > 0) {
+                entry.clear();
+                readFully(index, entry, (count - 1) * INDEX_ENTRY_SIZE);
+                long offset = entry.getLong(0);
+                if (offset >= HEADER_SIZE && offset + GameRecord.HEADER_SIZE <= dataSize) {
+                    recordHeader.clear();
+                    readFully(data, recordHeader, offset);
+                    long recordEnd = offset + GameRecord.HEADER_SIZE + GameRecord.encodedPlyCount(recordHeader, 0);
+                    if (recordEnd <= dataSize) {
+                        end = recordEnd;
+                        break;
+                    }
+                }
+                count--;
+            }
+            if (count * INDEX_ENTRY_SIZE != index.size() || end != dataSize) {
+                GameLog.log(Category.GAME, Level.WARN, "Dropping incomplete game at the end of " + path);
+                index.truncate(count * INDEX_ENTRY_SIZE);
+                data.truncate(end);
+            }
+            dataEnd = end;
+            gameCount = count;
+        }
+        data.position(dataEnd);
+        index.position(gameCount * INDEX_ENTRY_SIZE);
+    }
+
+    /**
+     * Appends a game. It reaches the file when the buffer fills up, or on
+     * {@link #flush()} or {@link #close()}.
+     *
+     * @param record Game to append
+     * @throws IOException If writing fails
+     */
+    public synchronized void append(GameRecord record) throws IOException {
+        if (closed) {
+            throw new IOException("Game recording closed: " + path);
+        }
+        if (dataBuffer.remaining() < record.getEncodedSize() || !indexBuffer.hasRemaining()) {
+            flush();
+        }
+        record.writeTo(dataBuffer);
+        indexBuffer.putLong(dataEnd);
+        dataEnd += record.getEncodedSize();
+        gameCount++;
+    }
+
+    /**
+     * Writes buffered games to the files: records first, then their offsets.
+     *
+     * @throws IOException If writing fails
+     */
+    public synchronized void flush() throws IOException {
+        if (dataBuffer.position() > 0) {
+            dataBuffer.flip();
+            while (dataBuffer.hasRemaining()) {
+                data.write(dataBuffer);
+            }
+            dataBuffer.clear();
+        }
+        if (indexBuffer.position() > 0) {
+            indexBuffer.flip();
+            while (indexBuffer.hasRemaining()) {
+                index.write(indexBuffer);
+            }
+            indexBuffer.clear();
+        }
+    }
+
+    /**
+     * Gets the number of games in the file, counting buffered ones.
+     *
+     * @return Game count
+     */
+    public synchronized long getGameCount() {
+        return gameCount;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Flushes buffered games and closes the files.
+     *
+     * @throws IOException If writing fails
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            closed = true;
+            closeChannels();
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            GameLog.log(Category.GAME, Level.WARN, "Could not close game recording file", e);
+        }
+    }
+
+    private void closeChannels() throws IOException {
+        try {
+            data.close();
+        } finally {
+            index.close();
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+            position += read;
+        }
+        buffer.flip();
+    }
+}
@@ -0,0 +1,95 @@
+package com.foxandhounds.foxandhounds_v1.recording;
+
+import com.foxandhounds.foxandhounds_v1.controller.AIController;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Category;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog.Level;
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Records the game being played and appends it to a {@link GameRecordWriter}
+ * when it ends. Plies go into a fixed array, so recording a move costs a byte
+ * store. With no writer, every method does nothing.
+ */
+public class GameRecorder {
+    private final GameRecordWriter writer;
+
+    // Game being recorded (start is null when there is none)
+    private AIController.Difficulty difficulty;
+    private Position start;
+    private final byte[] plies = new byte[GameRecord.MAX_PLIES];
+    private int plyCount;
+
+    // The recorded game replayed from its start, which gives the record's piece indices
+    private final Board board = new Board();
+
+    /**
+     * Creates a recorder.
+     *
+     * @param writer Destination for finished games, or null to record nothing
+     */
+    public GameRecorder(GameRecordWriter writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Starts recording a new game. A game still being recorded is saved as
+     * abandoned if it has any moves.
+     *
+     * @param difficulty AI difficulty of the new game
+     * @param position Start position
+     */
+    public void start(AIController.Difficulty difficulty, Position position) {
+        if (writer == null) {
+            return;
+        }
+        if (start != null && plyCount > 0) {
+            finish(GameState.Winner.NONE);
+        }
+        this.difficulty = difficulty;
+        this.start = position;
+        this.plyCount = 0;
+        position.copyTo(board);
+    }
+
+    /**
+     * Records a move of the game being recorded. The moving piece is found by its
+     * square, so callers need not know the record's hound indices.
+     *
+     * @param from Source square
+     * @param to Destination square
+     * @throws IllegalArgumentException If no piece of the recorded game is on the source square
+     */
+    public void record(int from, int to) {
+        if (start == null || plyCount == plies.length) {
+            return;
+        }
+        int piece = from == board.getFoxSquare() ? PackedMove.FOX : board.getHoundIndex(from);
+        if (piece == -1) {
+            throw new IllegalArgumentException("No piece on square " + from + " of the recorded game");
+        }
+        int move = PackedMove.pack(piece, from, to);
+        board.makeMove(move);
+        plies[plyCount++] = GameRecord.encodePly(piece, from, to);
+    }
+
+    /**
+     * Ends the game being recorded and appends it to the writer.
+     *
+     * @param winner Winner, or NONE if the game was abandoned
+     */
+    public void finish(GameState.Winner winner) {
+        if (start == null) {
+            return;
+        }
+        GameRecord record = new GameRecord(difficulty, start, winner, Arrays.copyOf(plies, plyCount));
+        start = null;
+        try {
+            writer.append(record);
+        } catch (IOException e) {
+            GameLog.log(Category.GAME, Level.WARN, "Could not record game", e);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.foxandhounds.foxandhounds_v1.tools;
+
+import com.foxandhounds.foxandhounds_v1.controller.ai.*;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog;
+import com.foxandhounds.foxandhounds_v1.metrics.LatencyHistogram;
+import com.foxandhounds.foxandhounds_v1.model.*;
+import com.foxandhounds.foxandhounds_v1.recording.GameNotation;
+import com.foxandhounds.foxandhounds_v1.recording.GameNotationReader;
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Headless batch analysis: reads positions, finds the hound move for each with
+ * a hound strategy on all cores, and writes one result line per position in
+ * input order.
+ *
+ * Input is in {@link GameNotation}, one position per line; a line with moves is
+ * analyzed at the position after its moves. Output lines are tab-separated: the
+ * position, the chosen move (- if the hounds have none, or if it is the fox's
+ * turn) and the time taken in milliseconds. Every position is analyzed from a
+ * fresh game (set up outside the timed part), so results do not depend on the
+ * order or the thread count.
+ *
+ * Only a few positions per thread are in flight at a time, so memory stays the
+ * same however large the input is. --millis sets the time budget per move of
+ * the expert strategy (expert:millis[:depth] overrides it); the other
+ * strategies have no time budget and ignore it.
+ *
+ * Usage:
+ * <pre>
+ * BatchAnalyzer [--strategy hard] [--millis N] [--input positions.txt] [--output results.tsv] [--threads N]
+ * </pre>
+ * Input defaults to stdin and output to stdout.
+ */
+public class BatchAnalyzer {
+
+    private final Supplier<AIStrategy> strategy;
+    private final int threads;
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * Creates an analyzer.
+     *
+     * @param strategy Hound strategy factory (one instance per thread)
+     * @param threads Number of positions analyzed in parallel
+     */
+    public BatchAnalyzer(Supplier<AIStrategy> strategy, int threads) {
+        this.strategy = strategy;
+        this.threads = threads;
+    }
+
+    /**
+     * Result of one position
+     */
+    private static final class Result {
+        final Position position;
+        final Move move;
+        final long nanos;
+
+        Result(Position position, Move move, long nanos) {
+            this.position = position;
+            this.move = move;
+            this.nanos = nanos;
+        }
+    }
+
+    /**
+     * Per-thread analysis state: strategies keep state between moves and are not thread-safe
+     */
+    private final class Worker {
+        final AIStrategy houndStrategy = strategy.get();
+        final Board board = new Board();
+        final List<Hound> hounds = new ArrayList<>(Board.HOUND_COUNT);
+
+        Result analyze(Position position) {
+            if (!position.isHoundsToMove()) {
+                return new Result(position, null, 0);
+            }
+            position.copyTo(board);
+            hounds.clear();
+            for (int i = 0; i < board.getHoundCount(); i++) {
+                int square = board.getHoundSquare(i);
+                hounds.add(new Hound(Bitboards.row(square), Bitboards.col(square)));
+            }
+            Fox fox = new Fox(Bitboards.row(position.getFoxSquare()), Bitboards.col(position.getFoxSquare()));
+
+            houndStrategy.newGame();
+            long start = System.nanoTime();
+            Move move = houndStrategy.getBestMove(hounds, fox, board);
+            return new Result(position, move, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Analyzes every position of the input and writes the results.
+     *
+     * @param input Positions to analyze
+     * @param output Destination of the result lines
+     * @return Number of positions analyzed
+     * @throws IOException If reading or writing fails, or the input is not valid
+     * @throws InterruptedException If interrupted while waiting for results
+     */
+    public long run(GameNotationReader input, Writer output) throws IOException, InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        ThreadLocal<Worker> workers = ThreadLocal.withInitial(Worker::new);
+        Deque<Future<Result>> pending = new ArrayDeque<>();
+        int maxInFlight = threads * 4;
+        long count = 0;
+
+        try {
+            while (input.next()) {
+                Position position = input.getStart();
+                for (int i = 0; i < input.getMoveCount(); i++) {
+                    position = position.play(input.getMove(i));
+                }
+                Position analyzed = position;
+                pending.add(pool.submit(() -> workers.get().analyze(analyzed)));
+
+                // Results are written in input order, so wait for the oldest one when the window is full
+                if (pending.size() >= maxInFlight) {
+                    write(pending.poll().get(), output);
+                    count++;
+                }
+            }
+            while (!pending.isEmpty()) {
+                write(pending.poll().get(), output);
+                count++;
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Analysis failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        output.flush();
+        return count;
+    }
+
+    private void write(Result result, Writer output) throws IOException {
+        output.write(GameNotation.format(result.position));
+        output.write('\t');
+        output.write(result.move != null ? GameNotation.formatMove(PackedMove.fromMove(result.move)) : "-");
+        output.write('\t');
+        output.write(String.format(Locale.ROOT, "%.3f", result.nanos / 1e6));
+        output.write('\n');
+        if (result.position.isHoundsToMove()) {
+            latency.record(result.nanos);
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String spec = "hard";
+        long millis = AlphaBetaAIStrategy.DEFAULT_TIME_LIMIT_MILLIS;
+        String inputFile = null;
+        String outputFile = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--strategy":
+                    spec = value;
+                    break;
+                case "--millis":
+                    millis = Long.parseLong(value);
+                    break;
+                case "--input":
+                    inputFile = value;
+                    break;
+                case "--output":
+                    outputFile = value;
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        // Strategy diagnostics would drown the output; -Dfoxandhounds.log still overrides this
+        if (System.getProperty(GameLog.LEVEL_PROPERTY) == null) {
+            GameLog.setLevel(GameLog.Level.ERROR);
+        }
+
+        BatchAnalyzer analyzer = new BatchAnalyzer(Strategies.hounds(spec, millis), threads);
+        long start = System.nanoTime();
+        long count;
+        try (GameNotationReader input = inputFile != null ? GameNotationReader.open(Paths.get(inputFile))
+                : new GameNotationReader(Channels.newChannel(System.in));
+             Writer output = new BufferedWriter(outputFile != null
+                     ? Files.newBufferedWriter(Paths.get(outputFile), StandardCharsets.US_ASCII)
+                     : new OutputStreamWriter(System.out, StandardCharsets.US_ASCII), 1 << 16)) {
+            count = analyzer.run(input, output);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.err.printf("%s: %d positions in %.2f s (%.1f positions/s, %d threads), move time %s%n",
+                spec, count, seconds, count / seconds, threads, analyzer.latency.summary());
+    }
+}
@@ -0,0 +1,87 @@
+package com.foxandhounds.foxandhounds_v1.tools;
+
+import com.foxandhounds.foxandhounds_v1.controller.ai.*;
+import com.foxandhounds.foxandhounds_v1.metrics.LatencyHistogram;
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.util.*;
+
+/**
+ * Plays one complete game between a fox strategy and a hound strategy without
+ * any UI, with the same rules as GameManager: the fox moves first and wins on
+ * reaching the top row or when the hounds cannot move; the hounds win when a
+ * hound move leaves the fox with no move.
+ */
+public class HeadlessGame {
+
+    private final Board board = new Board();
+    private final List<Hound> hounds = new ArrayList<>(Board.HOUND_COUNT);
+    private Fox fox;
+
+    // Number of moves made (fox and hounds) in the last game
+    private int plies;
+
+    /**
+     * Plays a game from the starting position.
+     *
+     * @param foxStrategy Fox player
+     * @param houndStrategy Hound player
+     * @param houndLatency Histogram receiving the time of each hound move (may be null)
+     * @return Winner of the game
+     */
+    public GameState.Winner play(FoxStrategy foxStrategy, AIStrategy houndStrategy, LatencyHistogram houndLatency) {
+        reset();
+        foxStrategy.newGame();
+        houndStrategy.newGame();
+
+        while (true) {
+            Move foxMove = foxStrategy.getFoxMove(fox, hounds, board);
+            if (foxMove == null || !board.isValidMove(fox.getRow(), fox.getCol(), foxMove.getToRow(), foxMove.getToCol(), true)) {
+                return GameState.Winner.HOUNDS; // No (legal) fox move: treated as trapped
+            }
+            board.movePiece(fox.getRow(), fox.getCol(), foxMove.getToRow(), foxMove.getToCol());
+            fox.move(foxMove.getToRow(), foxMove.getToCol());
+            plies++;
+            if (board.hasFoxEscaped(fox.getRow())) {
+                return GameState.Winner.FOX;
+            }
+
+            long start = System.nanoTime();
+            Move houndMove = houndStrategy.getBestMove(hounds, fox, board);
+            if (houndLatency != null) {
+                houndLatency.record(System.nanoTime() - start);
+            }
+            if (houndMove == null) {
+                return GameState.Winner.FOX;
+            }
+            Hound hound = hounds.get(houndMove.getHoundIndex());
+            if (!board.isValidMove(hound.getRow(), hound.getCol(), houndMove.getToRow(), houndMove.getToCol(), false)) {
+                throw new IllegalStateException(houndStrategy.getClass().getSimpleName() + " made an illegal move: " + houndMove);
+            }
+            board.movePiece(hound.getRow(), hound.getCol(), houndMove.getToRow(), houndMove.getToCol());
+            hound.move(houndMove.getToRow(), houndMove.getToCol());
+            plies++;
+            if (board.isFoxBlocked(fox.getRow(), fox.getCol())) {
+                return GameState.Winner.HOUNDS;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of moves (fox and hound) made in the last game.
+     *
+     * @return Ply count
+     */
+    public int getPlies() {
+        return plies;
+    }
+
+    private void reset() {
+        board.initializeBoard();
+        hounds.clear();
+        for (int col = 1; col < Board.BOARD_SIZE; col += 2) {
+            hounds.add(new Hound(0, col));
+        }
+        fox = new Fox(Board.BOARD_SIZE - 1, 0);
+        plies = 0;
+    }
+}
@@ -0,0 +1,114 @@
+package com.foxandhounds.foxandhounds_v1.tools;
+
+/**
+ * Sequential probability ratio test for an A/B comparison of two strategies.
+ *
+ * Both strategies play the same games (same fox, same seed). Pairs where both win
+ * or both lose say nothing about which is better, so only discordant pairs are
+ * counted, and the test is a Bernoulli SPRT on the probability p that A is the
+ * winner of a discordant pair: H0 is p = 0.5 (no difference), H1 is p = p1.
+ * The test stops as soon as the log-likelihood ratio leaves the band set by the
+ * error rates alpha (false "A is better") and beta (missed improvement).
+ */
+public class Sprt {
+    /**
+     * Outcome of the test so far
+     */
+    public enum Decision {
+        CONTINUE,  // Not significant yet
+        ACCEPT_H1, // A is better than B
+        ACCEPT_H0  // No evidence that A is better than B
+    }
+
+    private static final double P0 = 0.5;
+
+    private final double p1;
+    private final double lowerBound;
+    private final double upperBound;
+
+    // Discordant pairs won by A and by B
+    private long winsA;
+    private long winsB;
+
+    /**
+     * Creates a test.
+     *
+     * @param p1 Probability that A wins a discordant pair under H1 (above 0.5)
+     * @param alpha False positive rate
+     * @param beta False negative rate
+     */
+    public Sprt(double p1, double alpha, double beta) {
+        if (p1 <= P0 || p1 >= 1.0) {
+            throw new IllegalArgumentException("p1 must be between 0.5 and 1");
+        }
+        if (alpha <= 0 || alpha >= 1 || beta <= 0 || beta >= 1) {
+            throw new IllegalArgumentException("alpha and beta must be between 0 and 1");
+        }
+        this.p1 = p1;
+        this.lowerBound = Math.log(beta / (1 - alpha));
+        this.upperBound = Math.log((1 - beta) / alpha);
+    }
+
+    /**
+     * Records the result of one pair of games.
+     *
+     * @param aWon true if strategy A won its game
+     * @param bWon true if strategy B won its game
+     */
+    public void addPair(boolean aWon, boolean bWon) {
+        if (aWon && !bWon) {
+            winsA++;
+        } else if (bWon && !aWon) {
+            winsB++;
+        }
+    }
+
+    /**
+     * Gets the log-likelihood ratio of H1 against H0.
+     *
+     * @return LLR so far
+     */
+    public double getLlr() {
+        return winsA * Math.log(p1 / P0) + winsB * Math.log((1 - p1) / (1 - P0));
+    }
+
+    /**
+     * Gets the current decision.
+     *
+     * @return CONTINUE until the LLR crosses one of the bounds
+     */
+    public Decision getDecision() {
+        double llr = getLlr();
+        if (llr >= upperBound) {
+            return Decision.ACCEPT_H1;
+        }
+        if (llr <= lowerBound) {
+            return Decision.ACCEPT_H0;
+        }
+        return Decision.CONTINUE;
+    }
+
+    /**
+     * Gets the number of discordant pairs won by strategy A.
+     *
+     * @return Pairs A won and B lost
+     */
+    public long getWinsA() {
+        return winsA;
+    }
+
+    /**
+     * Gets the number of discordant pairs won by strategy B.
+     *
+     * @return Pairs B won and A lost
+     */
+    public long getWinsB() {
+        return winsB;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SPRT p0=%.2f p1=%.2f: LLR %.3f in (%.3f, %.3f), discordant pairs A=%d B=%d -> %s",
+                P0, p1, getLlr(), lowerBound, upperBound, winsA, winsB, getDecision());
+    }
+}
@@ -0,0 +1,121 @@
+package com.foxandhounds.foxandhounds_v1.tools;
+
+import com.foxandhounds.foxandhounds_v1.controller.ai.*;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Creates strategies from short names given on the command line.
+ *
+ * Hound strategies: easy, medium, hard, perfect, expert[:millis[:depth]], and
+ * book:&lt;strategy&gt; to play the opening from the book before that strategy.
+ * Fox strategies: random, greedy, search[:millis[:depth]].
+ */
+public final class Strategies {
+
+    // Endgame database shared by all perfect-play strategies (read-only)
+    private static EndgameDatabase database;
+
+    // Opening book shared by all book strategies (read-only)
+    private static OpeningBook book;
+
+    private Strategies() {
+    }
+
+    /**
+     * Gets a factory for a hound strategy. Strategies are not thread-safe, so
+     * each thread should create its own instance.
+     *
+     * @param spec Strategy name, optionally with parameters after colons
+     * @return Factory creating new instances of the strategy
+     */
+    public static Supplier<AIStrategy> hounds(String spec) {
+        return hounds(spec, AlphaBetaAIStrategy.DEFAULT_TIME_LIMIT_MILLIS);
+    }
+
+    /**
+     * Gets a factory for a hound strategy, with a time budget for the strategies
+     * that have one (expert) when the spec does not give its own. The other
+     * strategies do not search against the clock and ignore it.
+     *
+     * @param spec Strategy name, optionally with parameters after colons
+     * @param defaultMillis Time budget per move
+     * @return Factory creating new instances of the strategy
+     */
+    public static Supplier<AIStrategy> hounds(String spec, long defaultMillis) {
+        String[] parts = spec.toLowerCase().split(":");
+        switch (parts[0]) {
+            case "book": {
+                Supplier<AIStrategy> strategy = hounds(spec.substring(parts[0].length() + 1), defaultMillis);
+                OpeningBook opening = book();
+                return () -> new OpeningBookAIStrategy(opening, strategy.get());
+            }
+            case "easy":
+                return EasyAIStrategy::new;
+            case "medium":
+                return MediumAIStrategy::new;
+            case "hard":
+                return HardAIStrategy::new;
+            case "perfect": {
+                EndgameDatabase solved = database();
+                return () -> new PerfectPlayAIStrategy(solved, new HardAIStrategy());
+            }
+            case "expert": {
+                long millis = parts.length > 1 ? Long.parseLong(parts[1]) : defaultMillis;
+                int depth = parts.length > 2 ? Integer.parseInt(parts[2]) : AlphaBetaAIStrategy.DEFAULT_MAX_DEPTH;
+                return () -> new AlphaBetaAIStrategy(depth, millis);
+            }
+            default:
+                throw new IllegalArgumentException("Unknown hound strategy: " + spec);
+        }
+    }
+
+    /**
+     * Gets a factory for a fox strategy.
+     *
+     * @param spec Strategy name, optionally with parameters after colons
+     * @return Factory creating a fox strategy from a random seed
+     */
+    public static LongFunction<FoxStrategy> fox(String spec) {
+        String[] parts = spec.toLowerCase().split(":");
+        switch (parts[0]) {
+            case "random":
+                return RandomFoxStrategy::new;
+            case "greedy":
+                return GreedyFoxStrategy::new;
+            case "search": {
+                long millis = parts.length > 1 ? Long.parseLong(parts[1]) : AlphaBetaAIStrategy.DEFAULT_TIME_LIMIT_MILLIS;
+                int depth = parts.length > 2 ? Integer.parseInt(parts[2]) : AlphaBetaAIStrategy.DEFAULT_MAX_DEPTH;
+                return seed -> new SearchFoxStrategy(depth, millis);
+            }
+            default:
+                throw new IllegalArgumentException("Unknown fox strategy: " + spec);
+        }
+    }
+
+    /**
+     * The installed opening book, or one built in memory if there is none
+     */
+    private static synchronized OpeningBook book() {
+        if (book == null) {
+            book = OpeningBook.openDefault();
+            if (book == null) {
+                book = OpeningBookBuilder.buildInMemory(database(), OpeningBookBuilder.DEFAULT_PLIES);
+            }
+        }
+        return book;
+    }
+
+    /**
+     * The installed endgame database, or one solved in memory if there is none
+     */
+    private static synchronized EndgameDatabase database() {
+        if (database == null) {
+            database = EndgameDatabase.openDefault();
+            if (database == null) {
+                database = EndgameSolver.solveInMemory();
+            }
+        }
+        return database;
+    }
+}
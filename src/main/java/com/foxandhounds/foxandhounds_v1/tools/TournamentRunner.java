@@ -0,0 +1,224 @@
+package com.foxandhounds.foxandhounds_v1.tools;
+
+import com.foxandhounds.foxandhounds_v1.controller.ai.*;
+import com.foxandhounds.foxandhounds_v1.logging.GameLog;
+import com.foxandhounds.foxandhounds_v1.metrics.LatencyHistogram;
+import com.foxandhounds.foxandhounds_v1.model.GameState;
+import java.util.concurrent.*;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Headless self-play tournament: plays many games between a fox strategy and one
+ * or two hound strategies on all cores and reports win rates, games per second
+ * and hound move latency percentiles.
+ *
+ * With a baseline strategy (B), every round plays the same fox (same seed) against
+ * both A and B, and a {@link Sprt} on the paired results stops the run as soon as
+ * the difference is significant.
+ *
+ * Usage:
+ * <pre>
+ * TournamentRunner --hounds hard [--baseline medium] [--fox random] [--games 1000]
+ *                  [--threads N] [--seed 1] [--p1 0.6] [--alpha 0.05] [--beta 0.05]
+ * </pre>
+ */
+public class TournamentRunner {
+
+    private final Supplier<AIStrategy> houndsA;
+    private final Supplier<AIStrategy> houndsB;
+    private final LongFunction<FoxStrategy> fox;
+    private final int rounds;
+    private final int threads;
+    private final long seed;
+    private final Sprt sprt;
+
+    // Results per hound strategy (index 0 = A, 1 = B)
+    private final LatencyHistogram[] latency = {new LatencyHistogram(), new LatencyHistogram()};
+    private final long[] houndWins = new long[2];
+    private final long[] games = new long[2];
+    private final long[] plies = new long[2];
+
+    /**
+     * Creates a tournament.
+     *
+     * @param houndsA Hound strategy under test
+     * @param houndsB Baseline hound strategy, or null to only play A
+     * @param fox Fox strategy factory (called with a per-round seed)
+     * @param rounds Maximum number of rounds (one game per hound strategy each)
+     * @param threads Number of games played in parallel
+     * @param seed Base seed; round i uses seed + i
+     * @param sprt Early stopping test for A against B, or null to play all rounds
+     */
+    public TournamentRunner(Supplier<AIStrategy> houndsA, Supplier<AIStrategy> houndsB, LongFunction<FoxStrategy> fox,
+                            int rounds, int threads, long seed, Sprt sprt) {
+        if (sprt != null && houndsB == null) {
+            throw new IllegalArgumentException("SPRT needs a baseline strategy");
+        }
+        this.houndsA = houndsA;
+        this.houndsB = houndsB;
+        this.fox = fox;
+        this.rounds = rounds;
+        this.threads = threads;
+        this.seed = seed;
+        this.sprt = sprt;
+    }
+
+    /**
+     * Result of one round: whether each hound strategy won
+     */
+    private static final class RoundResult {
+        final boolean[] houndsWon = new boolean[2];
+        final int[] plies = new int[2];
+    }
+
+    /**
+     * Per-thread players: strategies keep state between moves and are not thread-safe
+     */
+    private final class Player {
+        final HeadlessGame game = new HeadlessGame();
+        final AIStrategy a = houndsA.get();
+        final AIStrategy b = houndsB != null ? houndsB.get() : null;
+
+        RoundResult play(long roundSeed) {
+            RoundResult result = new RoundResult();
+            result.houndsWon[0] = game.play(fox.apply(roundSeed), a, latency[0]) == GameState.Winner.HOUNDS;
+            result.plies[0] = game.getPlies();
+            if (b != null) {
+                result.houndsWon[1] = game.play(fox.apply(roundSeed), b, latency[1]) == GameState.Winner.HOUNDS;
+                result.plies[1] = game.getPlies();
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Plays the tournament and prints the report.
+     *
+     * @return Number of rounds played
+     * @throws InterruptedException If interrupted while waiting for games
+     */
+    public int run() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        ThreadLocal<Player> players = ThreadLocal.withInitial(Player::new);
+        CompletionService<RoundResult> completion = new ExecutorCompletionService<>(pool);
+        int maxInFlight = threads * 2;
+        int submitted = 0;
+        int completed = 0;
+        boolean decided = false;
+        long start = System.nanoTime();
+
+        try {
+            while (completed < submitted || (!decided && submitted < rounds)) {
+                // Keep a bounded number of rounds queued so stopping early wastes little work
+                while (!decided && submitted < rounds && submitted - completed < maxInFlight) {
+                    long roundSeed = seed + submitted;
+                    completion.submit(() -> players.get().play(roundSeed));
+                    submitted++;
+                }
+
+                RoundResult result = completion.take().get();
+                completed++;
+                record(result);
+
+                if (sprt != null && !decided && sprt.getDecision() != Sprt.Decision.CONTINUE) {
+                    decided = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Game failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        report(completed, System.nanoTime() - start);
+        return completed;
+    }
+
+    private void record(RoundResult result) {
+        int sides = houndsB != null ? 2 : 1;
+        for (int i = 0; i < sides; i++) {
+            games[i]++;
+            plies[i] += result.plies[i];
+            if (result.houndsWon[i]) {
+                houndWins[i]++;
+            }
+        }
+        if (sprt != null) {
+            sprt.addPair(result.houndsWon[0], result.houndsWon[1]);
+        }
+    }
+
+    private void report(int completed, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        long totalGames = games[0] + games[1];
+        System.out.printf("%d rounds, %d games in %.2f s (%.1f games/s, %d threads)%n",
+                completed, totalGames, seconds, totalGames / seconds, threads);
+        String[] names = {"A", "B"};
+        for (int i = 0; i < (houndsB != null ? 2 : 1); i++) {
+            System.out.printf("%s: hounds won %d/%d (%.1f%%), %.1f plies/game, move latency %s%n",
+                    names[i], houndWins[i], games[i], 100.0 * houndWins[i] / games[i],
+                    (double) plies[i] / games[i], latency[i].summary());
+        }
+        if (sprt != null) {
+            System.out.println(sprt);
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String hounds = "hard";
+        String baseline = null;
+        String foxSpec = "random";
+        int rounds = 1000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = 1;
+        double p1 = 0.6;
+        double alpha = 0.05;
+        double beta = 0.05;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--hounds":
+                    hounds = value;
+                    break;
+                case "--baseline":
+                    baseline = value;
+                    break;
+                case "--fox":
+                    foxSpec = value;
+                    break;
+                case "--games":
+                    rounds = Integer.parseInt(value);
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(value);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "--p1":
+                    p1 = Double.parseDouble(value);
+                    break;
+                case "--alpha":
+                    alpha = Double.parseDouble(value);
+                    break;
+                case "--beta":
+                    beta = Double.parseDouble(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        // Strategy diagnostics would drown the report; -Dfoxandhounds.log still overrides this
+        if (System.getProperty(GameLog.LEVEL_PROPERTY) == null) {
+            GameLog.setLevel(GameLog.Level.ERROR);
+        }
+
+        Sprt sprt = baseline != null ? new Sprt(p1, alpha, beta) : null;
+        System.out.println("Fox: " + foxSpec + ", A: " + hounds + (baseline != null ? ", B: " + baseline : ""));
+        new TournamentRunner(Strategies.hounds(hounds), baseline != null ? Strategies.hounds(baseline) : null,
+                Strategies.fox(foxSpec), rounds, threads, seed, sprt).run();
+    }
+}
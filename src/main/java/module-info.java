@@ -7,11 +7,18 @@ module com.foxandhounds.foxandhounds_v1 {
     requires net.synedra.validatorfx;
     requires org.kordamp.ikonli.javafx;
     requires com.almasb.fxgl.all;
+    requires java.management;
+    requires jdk.jfr;
 
     opens com.foxandhounds.foxandhounds_v1 to javafx.fxml;
     opens com.foxandhounds.foxandhounds_v1.controller to javafx.fxml;
 
     exports com.foxandhounds.foxandhounds_v1;
     exports com.foxandhounds.foxandhounds_v1.controller;
+    exports com.foxandhounds.foxandhounds_v1.engine;
     exports com.foxandhounds.foxandhounds_v1.model;
+    exports com.foxandhounds.foxandhounds_v1.logging;
+    exports com.foxandhounds.foxandhounds_v1.metrics;
+    exports com.foxandhounds.foxandhounds_v1.recording;
+    exports com.foxandhounds.foxandhounds_v1.tools;
 }
\ No newline at end of file
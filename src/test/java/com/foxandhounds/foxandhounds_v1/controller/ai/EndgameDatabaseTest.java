@@ -0,0 +1,61 @@
+package com.foxandhounds.foxandhounds_v1.controller.ai;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.foxandhounds.foxandhounds_v1.model.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Index encoding of the {@link EndgameDatabase}
+ */
+class EndgameDatabaseTest {
+
+    @Test
+    void darkSquaresAreNumberedInBoardOrder() {
+        int previous = -1;
+        for (int dark = 0; dark < EndgameDatabase.DARK_SQUARES; dark++) {
+            int square = EndgameDatabase.darkToSquare(dark);
+            assertTrue((Bitboards.DARK_SQUARES & Bitboards.bit(square)) != 0, "square " + square + " is not dark");
+            assertTrue(square > previous, "dark squares out of order at " + dark);
+            // The solver and lookups turn squares back into dark indices with square >>> 1
+            assertEquals(dark, square >>> 1);
+            previous = square;
+        }
+    }
+
+    @Test
+    void houndSetRankIsOneToOneOverAllHoundSets() {
+        boolean[] seen = new boolean[EndgameDatabase.HOUND_SETS];
+        int count = 0;
+        int n = EndgameDatabase.DARK_SQUARES;
+        for (int a = 0; a < n; a++) {
+            for (int b = a + 1; b < n; b++) {
+                for (int c = b + 1; c < n; c++) {
+                    for (int d = c + 1; d < n; d++) {
+                        long mask = Bitboards.bit(EndgameDatabase.darkToSquare(a))
+                                | Bitboards.bit(EndgameDatabase.darkToSquare(b))
+                                | Bitboards.bit(EndgameDatabase.darkToSquare(c))
+                                | Bitboards.bit(EndgameDatabase.darkToSquare(d));
+                        int rank = EndgameDatabase.houndSetRank(mask);
+                        assertTrue(rank >= 0 && rank < EndgameDatabase.HOUND_SETS, "rank out of range: " + rank);
+                        assertFalse(seen[rank], "rank " + rank + " given twice");
+                        seen[rank] = true;
+                        count++;
+                    }
+                }
+            }
+        }
+        assertEquals(EndgameDatabase.HOUND_SETS, count);
+    }
+
+    @Test
+    void resultBytesEncodeWinnerAndDistance() {
+        byte houndWin = EndgameDatabase.result(true, 5);
+        assertTrue(EndgameDatabase.isHoundWin(houndWin));
+        assertEquals(5, EndgameDatabase.pliesToEnd(houndWin));
+
+        byte foxWin = EndgameDatabase.result(false, 0);
+        assertFalse(EndgameDatabase.isHoundWin(foxWin));
+        assertEquals(0, EndgameDatabase.pliesToEnd(foxWin));
+    }
+}
@@ -0,0 +1,147 @@
+package com.foxandhounds.foxandhounds_v1.controller.ai;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Results of the retrograde {@link EndgameSolver}
+ */
+class EndgameSolverTest {
+
+    private static EndgameDatabase database;
+
+    // Minimax results already computed, keyed by position
+    private final Map<Position, Integer> solved = new HashMap<>();
+
+    @BeforeAll
+    static void solve() {
+        database = EndgameSolver.solveInMemory();
+    }
+
+    private static long hounds(int... squares) {
+        long mask = 0L;
+        for (int square : squares) {
+            mask |= Bitboards.bit(square);
+        }
+        return mask;
+    }
+
+    @Test
+    void houndsWinTheStartingPosition() {
+        int result = database.lookup(Position.START);
+        assertTrue(EndgameDatabase.isHoundWin(result), "result " + result);
+    }
+
+    @Test
+    void trappedFoxHasLost() {
+        // Fox in the corner at (7,0), its only step (6,1) taken by a hound
+        assertEquals(EndgameDatabase.result(true, 0), database.lookup(56, hounds(1, 3, 5, 49), false));
+    }
+
+    @Test
+    void houndsTrapTheFoxInOnePly() {
+        // The hound on (5,2) steps to (6,1)
+        assertEquals(EndgameDatabase.result(true, 1), database.lookup(56, hounds(1, 3, 5, 42), true));
+    }
+
+    @Test
+    void foxOnTheTopRowHasEscaped() {
+        assertEquals(EndgameDatabase.result(false, 0), database.lookup(1, hounds(3, 5, 7, 42), true));
+        assertEquals(EndgameDatabase.result(false, 0), database.lookup(1, hounds(3, 5, 7, 42), false));
+    }
+
+    @Test
+    void foxEscapesInOnePly() {
+        // From (1,0) the fox steps to the empty (0,1)
+        assertEquals(EndgameDatabase.result(false, 1), database.lookup(8, hounds(3, 5, 7, 55), false));
+    }
+
+    @Test
+    void houndsThatCannotMoveHaveLost() {
+        assertEquals(EndgameDatabase.result(false, 0), database.lookup(26, hounds(56, 58, 60, 62), true));
+    }
+
+    @Test
+    void matchesMinimaxOnSampledPositions() {
+        Random random = new Random(42);
+        int checked = 0;
+        while (checked < 500) {
+            // Hounds from row 2 down, so the games left are short enough to search
+            long houndMask = 0L;
+            while (Long.bitCount(houndMask) < Board.HOUND_COUNT) {
+                houndMask |= Bitboards.bit(EndgameDatabase.darkToSquare(8 + random.nextInt(24)));
+            }
+            int foxSquare = EndgameDatabase.darkToSquare(random.nextInt(EndgameDatabase.DARK_SQUARES));
+            if ((houndMask & Bitboards.bit(foxSquare)) != 0) {
+                continue;
+            }
+            boolean houndsToMove = random.nextBoolean();
+            assertEquals(minimax(foxSquare, houndMask, houndsToMove), database.lookup(foxSquare, houndMask, houndsToMove),
+                    Position.of(foxSquare, houndMask, houndsToMove).toString());
+            checked++;
+        }
+    }
+
+    /**
+     * Plain minimax searched forward to the end of the game (memoized, but with no
+     * use of the solver's retrograde order): the side to move picks its fastest
+     * win, or failing that its slowest loss. Results are encoded like the database.
+     */
+    private int minimax(int foxSquare, long houndMask, boolean houndsToMove) {
+        if (Bitboards.row(foxSquare) == 0) {
+            return EndgameDatabase.result(false, 0);
+        }
+        Position position = Position.of(foxSquare, houndMask, houndsToMove);
+        Integer known = solved.get(position);
+        if (known != null) {
+            return known;
+        }
+
+        int fastestWin = Integer.MAX_VALUE;
+        int slowestLoss = -1;
+        long empty = ~(houndMask | Bitboards.bit(foxSquare));
+        if (houndsToMove) {
+            for (int from = 0; from < Bitboards.SQUARE_COUNT; from++) {
+                if ((houndMask & Bitboards.bit(from)) == 0) {
+                    continue;
+                }
+                for (int to = 0; to < Bitboards.SQUARE_COUNT; to++) {
+                    if ((Bitboards.houndSteps(from) & empty & Bitboards.bit(to)) != 0) {
+                        int child = minimax(foxSquare, houndMask ^ Bitboards.bit(from) ^ Bitboards.bit(to), false);
+                        int plies = EndgameDatabase.pliesToEnd(child) + 1;
+                        if (EndgameDatabase.isHoundWin(child)) {
+                            fastestWin = Math.min(fastestWin, plies);
+                        } else {
+                            slowestLoss = Math.max(slowestLoss, plies);
+                        }
+                    }
+                }
+            }
+        } else {
+            for (int to = 0; to < Bitboards.SQUARE_COUNT; to++) {
+                if ((Bitboards.foxSteps(foxSquare) & empty & Bitboards.bit(to)) != 0) {
+                    int child = minimax(to, houndMask, true);
+                    int plies = EndgameDatabase.pliesToEnd(child) + 1;
+                    if (!EndgameDatabase.isHoundWin(child)) {
+                        fastestWin = Math.min(fastestWin, plies);
+                    } else {
+                        slowestLoss = Math.max(slowestLoss, plies);
+                    }
+                }
+            }
+        }
+
+        // With no move at all, the side to move has lost on the spot
+        int result = fastestWin != Integer.MAX_VALUE
+                ? EndgameDatabase.result(houndsToMove, fastestWin)
+                : EndgameDatabase.result(!houndsToMove, Math.max(slowestLoss, 0));
+        solved.put(position, result);
+        return result;
+    }
+}
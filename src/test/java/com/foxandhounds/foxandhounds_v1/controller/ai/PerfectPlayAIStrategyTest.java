@@ -0,0 +1,116 @@
+package com.foxandhounds.foxandhounds_v1.controller.ai;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Move choice of the {@link PerfectPlayAIStrategy}
+ */
+class PerfectPlayAIStrategyTest {
+
+    private static EndgameDatabase database;
+
+    @BeforeAll
+    static void solve() {
+        database = EndgameSolver.solveInMemory();
+    }
+
+    private static List<Hound> houndsOf(Board board) {
+        List<Hound> hounds = new ArrayList<>();
+        for (int i = 0; i < board.getHoundCount(); i++) {
+            int square = board.getHoundSquare(i);
+            hounds.add(new Hound(Bitboards.row(square), Bitboards.col(square)));
+        }
+        return hounds;
+    }
+
+    private static Fox foxOf(Board board) {
+        return new Fox(Bitboards.row(board.getFoxSquare()), Bitboards.col(board.getFoxSquare()));
+    }
+
+    @Test
+    void trapsTheFoxWhenItCan() {
+        Board board = new Board();
+        board.setPieces(56, Bitboards.bit(1) | Bitboards.bit(3) | Bitboards.bit(5) | Bitboards.bit(42));
+        PerfectPlayAIStrategy strategy = new PerfectPlayAIStrategy(database, new HardAIStrategy());
+
+        // The hound on (5,2) steps to (6,1), the fox's only step
+        Move move = strategy.getBestMove(houndsOf(board), foxOf(board), board);
+        assertEquals(42, Bitboards.square(move.getFromRow(), move.getFromCol()));
+        assertEquals(49, Bitboards.square(move.getToRow(), move.getToCol()));
+    }
+
+    @Test
+    void keepsWonPositionsWonAtTheSameDistance() {
+        PerfectPlayAIStrategy strategy = new PerfectPlayAIStrategy(database, new HardAIStrategy());
+        Board board = new Board();
+        Random random = new Random(7);
+        int checked = 0;
+        while (checked < 1000) {
+            long houndMask = 0L;
+            while (Long.bitCount(houndMask) < Board.HOUND_COUNT) {
+                houndMask |= Bitboards.bit(EndgameDatabase.darkToSquare(random.nextInt(EndgameDatabase.DARK_SQUARES)));
+            }
+            int foxSquare = EndgameDatabase.darkToSquare(random.nextInt(EndgameDatabase.DARK_SQUARES));
+            int result = (houndMask & Bitboards.bit(foxSquare)) == 0 ? database.lookup(foxSquare, houndMask, true) : 0;
+            if (!EndgameDatabase.isHoundWin(result)) {
+                continue;
+            }
+
+            board.setPieces(foxSquare, houndMask);
+            int move = strategy.findBestMove(board);
+            long next = houndMask ^ Bitboards.bit(PackedMove.from(move)) ^ Bitboards.bit(PackedMove.to(move));
+            if ((Bitboards.foxSteps(foxSquare) & ~next) == 0) {
+                assertEquals(1, EndgameDatabase.pliesToEnd(result), "trapped the fox in " + Position.of(board, true));
+            } else {
+                int child = database.lookup(foxSquare, next, false);
+                assertTrue(EndgameDatabase.isHoundWin(child), "gave away the win in " + Position.of(board, true));
+                assertEquals(EndgameDatabase.pliesToEnd(result) - 1, EndgameDatabase.pliesToEnd(child),
+                        "slower win in " + Position.of(board, true));
+            }
+            checked++;
+        }
+    }
+
+    @Test
+    void beatsARandomFoxFromTheStart() {
+        PerfectPlayAIStrategy strategy = new PerfectPlayAIStrategy(database, new HardAIStrategy());
+        Random random = new Random(3);
+        int[] foxMoves = new int[PackedMove.MAX_FOX_MOVES];
+
+        for (int game = 0; game < 50; game++) {
+            Board board = new Board();
+            Position.START.copyTo(board);
+            while (true) {
+                int count = board.generateFoxMoves(foxMoves, 0);
+                if (count == 0) {
+                    break; // Trapped: the hounds won
+                }
+                board.makeMove(foxMoves[random.nextInt(count)]);
+                assertNotEquals(0, Bitboards.row(board.getFoxSquare()), "fox escaped in game " + game);
+
+                Move move = strategy.getBestMove(houndsOf(board), foxOf(board), board);
+                assertNotNull(move, "hounds stuck in game " + game);
+                int from = Bitboards.square(move.getFromRow(), move.getFromCol());
+                board.makeMove(PackedMove.pack(board.getHoundIndex(from), from, Bitboards.square(move.getToRow(), move.getToCol())));
+            }
+        }
+    }
+
+    @Test
+    void usesTheFallbackOutsideTheDatabase() {
+        Move fallbackMove = new Move(0, 0, 1, 1, 0);
+        PerfectPlayAIStrategy strategy = new PerfectPlayAIStrategy(database, (hounds, fox, board) -> fallbackMove);
+
+        // Three hounds are not covered
+        Board board = new Board();
+        board.setPieces(56, Bitboards.bit(1) | Bitboards.bit(3) | Bitboards.bit(5));
+        assertSame(fallbackMove, strategy.getBestMove(houndsOf(board), foxOf(board), board));
+    }
+}
@@ -0,0 +1,119 @@
+package com.foxandhounds.foxandhounds_v1.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Make/unmake and the incrementally kept state of the {@link Board}
+ */
+class BoardTest {
+
+    private static final long START_HOUNDS = Bitboards.bit(1) | Bitboards.bit(3) | Bitboards.bit(5) | Bitboards.bit(7);
+
+    private final Random random = new Random(11);
+    private final int[] moves = new int[PackedMove.MAX_HOUND_MOVES];
+
+    /**
+     * Everything makeMove changes: masks, fox square, hound squares by index and the Zobrist key
+     */
+    private static long[] snapshot(Board board) {
+        long[] state = new long[4 + board.getHoundCount()];
+        state[0] = board.getFoxMask();
+        state[1] = board.getHoundMask();
+        state[2] = board.getFoxSquare();
+        state[3] = board.getZobristKey();
+        for (int i = 0; i < board.getHoundCount(); i++) {
+            state[4 + i] = board.getHoundSquare(i);
+        }
+        return state;
+    }
+
+    private long randomHounds() {
+        long houndMask = 0L;
+        while (Long.bitCount(houndMask) < Board.HOUND_COUNT) {
+            int square = random.nextInt(Bitboards.SQUARE_COUNT);
+            if ((Bitboards.DARK_SQUARES & Bitboards.bit(square)) != 0) {
+                houndMask |= Bitboards.bit(square);
+            }
+        }
+        return houndMask;
+    }
+
+    private int randomFoxSquare(long houndMask) {
+        while (true) {
+            int square = random.nextInt(Bitboards.SQUARE_COUNT);
+            if ((Bitboards.DARK_SQUARES & ~houndMask & Bitboards.bit(square)) != 0) {
+                return square;
+            }
+        }
+    }
+
+    @Test
+    void unmakeRestoresEveryEarlierState() {
+        Board board = new Board();
+        Board fresh = new Board();
+        for (int game = 0; game < 500; game++) {
+            long houndMask = randomHounds();
+            board.setPieces(randomFoxSquare(houndMask), houndMask);
+            Deque<long[]> states = new ArrayDeque<>();
+            boolean houndsToMove = random.nextBoolean();
+
+            for (int ply = 0; ply < 30; ply++) {
+                int count = houndsToMove ? board.generateHoundMoves(moves, 0) : board.generateFoxMoves(moves, 0);
+                if (count == 0) {
+                    break;
+                }
+                states.push(snapshot(board));
+                board.makeMove(moves[random.nextInt(count)]);
+                houndsToMove = !houndsToMove;
+
+                // The incremental key matches one computed from scratch
+                fresh.setPieces(board.getFoxSquare(), board.getHoundMask());
+                assertEquals(fresh.getZobristKey(), board.getZobristKey());
+                assertEquals(states.size(), board.getUndoDepth());
+            }
+
+            while (!states.isEmpty()) {
+                board.unmakeMove();
+                assertArrayEquals(states.pop(), snapshot(board));
+            }
+            assertEquals(0, board.getUndoDepth());
+        }
+    }
+
+    @Test
+    void unmakeReturnsTheMoveTakenBack() {
+        Board board = new Board();
+        board.setPieces(56, START_HOUNDS);
+        int count = board.generateHoundMoves(moves, 0);
+        int move = moves[count - 1];
+        board.makeMove(move);
+        assertEquals(move, board.unmakeMove());
+    }
+
+    @Test
+    void setPiecesClearsTheUndoStack() {
+        Board board = new Board();
+        board.setPieces(56, START_HOUNDS);
+        board.generateFoxMoves(moves, 0);
+        board.makeMove(moves[0]);
+        board.generateHoundMoves(moves, 0);
+        board.makeMove(moves[0]);
+        assertEquals(2, board.getUndoDepth());
+
+        board.setPieces(56, START_HOUNDS);
+        assertEquals(0, board.getUndoDepth());
+        assertThrows(IllegalStateException.class, board::unmakeMove);
+
+        // Moves made after the reset take back to the new position
+        long[] reset = snapshot(board);
+        board.generateFoxMoves(moves, 0);
+        board.makeMove(moves[0]);
+        board.unmakeMove();
+        assertArrayEquals(reset, snapshot(board));
+    }
+}
@@ -0,0 +1,266 @@
+package com.foxandhounds.foxandhounds_v1.recording;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.foxandhounds.foxandhounds_v1.controller.AIController;
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Position text and game files in {@link GameNotation}
+ */
+class GameNotationTest {
+
+    // Size of the reader's input buffer
+    private static final int READ_BUFFER_SIZE = 1 << 20;
+
+    @TempDir
+    Path dir;
+
+    private Path file;
+    private final Random random = new Random(17);
+
+    @BeforeEach
+    void setUp() {
+        file = dir.resolve("games.txt");
+    }
+
+    /**
+     * A game written to or read from a file
+     */
+    private static final class Game {
+        Position start;
+        int[] moves = new int[GameRecord.MAX_PLIES];
+        int count;
+        GameState.Winner winner = GameState.Winner.NONE;
+    }
+
+    private Position randomPosition() {
+        long houndMask = 0L;
+        while (Long.bitCount(houndMask) < Board.HOUND_COUNT) {
+            houndMask |= Bitboards.bit(randomDarkSquare());
+        }
+        int foxSquare;
+        do {
+            foxSquare = randomDarkSquare();
+        } while ((houndMask & Bitboards.bit(foxSquare)) != 0);
+        return Position.of(foxSquare, houndMask, random.nextBoolean());
+    }
+
+    private int randomDarkSquare() {
+        while (true) {
+            int square = random.nextInt(Bitboards.SQUARE_COUNT);
+            if ((Bitboards.DARK_SQUARES & Bitboards.bit(square)) != 0) {
+                return square;
+            }
+        }
+    }
+
+    /**
+     * Random legal moves from the given start until either side wins or the game is abandoned
+     */
+    private Game randomGame(Position start) {
+        Game game = new Game();
+        game.start = start;
+        Board board = new Board();
+        start.copyTo(board);
+        int[] moves = new int[PackedMove.MAX_HOUND_MOVES];
+        boolean houndsToMove = start.isHoundsToMove();
+        int length = random.nextInt(GameRecord.MAX_PLIES);
+
+        while (game.count < length && Bitboards.row(board.getFoxSquare()) != 0) {
+            int count = houndsToMove ? board.generateHoundMoves(moves, 0) : board.generateFoxMoves(moves, 0);
+            if (count == 0) {
+                game.winner = houndsToMove ? GameState.Winner.FOX : GameState.Winner.HOUNDS;
+                break;
+            }
+            int move = moves[random.nextInt(count)];
+            board.makeMove(move);
+            game.moves[game.count++] = move;
+            houndsToMove = !houndsToMove;
+        }
+        if (Bitboards.row(board.getFoxSquare()) == 0) {
+            game.winner = GameState.Winner.FOX;
+        }
+        return game;
+    }
+
+    private static void assertGameRead(Game expected, GameNotationReader reader) {
+        assertEquals(expected.start, reader.getStart());
+        assertEquals(expected.count, reader.getMoveCount());
+        for (int i = 0; i < expected.count; i++) {
+            assertEquals(expected.moves[i], reader.getMove(i), "move " + i + " of line " + reader.getLineNumber());
+        }
+        assertEquals(expected.winner, reader.getWinner());
+    }
+
+    private void writeText(String text) throws IOException {
+        Files.write(file, text.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Reads the file and returns the message of the error on its first game
+     */
+    private String readError() throws IOException {
+        try (GameNotationReader reader = GameNotationReader.open(file)) {
+            return assertThrows(IOException.class, reader::next).getMessage();
+        }
+    }
+
+    @Test
+    void formatsTheStartPosition() {
+        assertEquals("1H1H1H1H/8/8/8/8/8/8/F7 f", GameNotation.format(Position.START));
+        assertEquals(Position.START, GameNotation.parsePosition("1H1H1H1H/8/8/8/8/8/8/F7 f"));
+        assertEquals("a1b2", GameNotation.formatMove(PackedMove.pack(PackedMove.FOX, 56, 49)));
+    }
+
+    @Test
+    void positionsRoundTrip() {
+        for (int i = 0; i < 2000; i++) {
+            Position position = randomPosition();
+            String text = GameNotation.format(position);
+            assertEquals(position, GameNotation.parsePosition(text), text);
+        }
+    }
+
+    @Test
+    void gamesReadBackAsWritten() throws IOException {
+        Game[] games = new Game[300];
+        try (GameNotationWriter writer = GameNotationWriter.open(file)) {
+            for (int i = 0; i < games.length; i++) {
+                games[i] = randomGame(i % 2 == 0 ? Position.START : randomPosition());
+                writer.writeGame(games[i].start, games[i].moves, games[i].count, games[i].winner);
+            }
+        }
+
+        try (GameNotationReader reader = GameNotationReader.open(file)) {
+            for (Game game : games) {
+                assertTrue(reader.next());
+                assertGameRead(game, reader);
+            }
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    void recordsReadBackEqual() throws IOException {
+        GameRecord[] records = new GameRecord[50];
+        try (GameNotationWriter writer = GameNotationWriter.open(file)) {
+            for (int i = 0; i < records.length; i++) {
+                Game game = randomGame(Position.START);
+                byte[] plies = new byte[game.count];
+                for (int j = 0; j < game.count; j++) {
+                    int move = game.moves[j];
+                    plies[j] = GameRecord.encodePly(PackedMove.piece(move), PackedMove.from(move), PackedMove.to(move));
+                }
+                records[i] = new GameRecord(AIController.Difficulty.HARD, game.start, game.winner, plies);
+                writer.writeGame(records[i]);
+            }
+        }
+
+        try (GameNotationReader reader = GameNotationReader.open(file)) {
+            for (GameRecord record : records) {
+                assertTrue(reader.next());
+                assertEquals(record, reader.toRecord(AIController.Difficulty.HARD));
+            }
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    void skipsCommentsAndBlankLines() throws IOException {
+        writeText("# games\n\n   \r\n1H1H1H1H/8/8/8/8/8/8/F7 f a1b2 b8a7 *\r\n# end\n");
+        try (GameNotationReader reader = GameNotationReader.open(file)) {
+            assertTrue(reader.next());
+            assertEquals(4, reader.getLineNumber());
+            assertEquals(Position.START, reader.getStart());
+            assertEquals(2, reader.getMoveCount());
+            assertEquals("b8a7", GameNotation.formatMove(reader.getMove(1)));
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    void rejectsIllegalMoves() throws IOException {
+        writeText("1H1H1H1H/8/8/8/8/8/8/F7 f a1a3 *\n");
+        assertEquals("Line 1: Move 1 (a1a3) is not a legal fox move", readError());
+
+        // Hounds only move forward
+        writeText("1H1H1H1H/8/8/8/8/8/8/F7 f a1b2 b8a7 b2c3 a7b8 H\n");
+        assertEquals("Line 1: Move 4 (a7b8) is not a legal hound move", readError());
+
+        // The hounds' turn, but the move starts on the fox
+        writeText("1H1H1H1H/8/8/8/8/8/8/F7 h a1b2 *\n");
+        assertEquals("Line 1: Move 1 (a1b2) is not a legal hound move", readError());
+    }
+
+    @Test
+    void rejectsRowsWithTheWrongNumberOfSquares() throws IOException {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> GameNotation.parsePosition("1H1H1H1H/7/8/8/8/8/8/F7 f"));
+        assertEquals("Row 7 does not have 8 squares", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class,
+                () -> GameNotation.parsePosition("1H1H1H1H1/8/8/8/8/8/8/F7 f"));
+        assertEquals("Row 8 has more than 8 squares", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class,
+                () -> GameNotation.parsePosition("1H1H1H1H/8/8/8/8/8/8/F6 f"));
+        assertEquals("Position does not have 8 rows of 8 squares", e.getMessage());
+
+        writeText("# comment\n1H1H1H1H/8/8/8/8/8/45/F7 f *\n");
+        assertEquals("Line 2: Row 2 has more than 8 squares", readError());
+    }
+
+    @Test
+    void rejectsPiecesOnLightSquares() throws IOException {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> GameNotation.parsePosition("H1H1H1H1/8/8/8/8/8/8/F7 f"));
+        assertEquals("Piece on light square a8", e.getMessage());
+
+        writeText("1H1H1H1H/8/8/8/8/8/8/1F6 f *\n");
+        assertEquals("Line 1: Piece on light square b1", readError());
+    }
+
+    @Test
+    void rejectsPositionsWithoutTheSideToMove() throws IOException {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> GameNotation.parsePosition("1H1H1H1H/8/8/8/8/8/8/F7"));
+        assertEquals("Position must end with the side to move (f or h)", e.getMessage());
+
+        writeText("1H1H1H1H/8/8/8/8/8/8/F7 a1b2 *\n");
+        assertEquals("Line 1: Position must end with the side to move (f or h)", readError());
+    }
+
+    @Test
+    void readsALineAcrossTheBufferBoundary() throws IOException {
+        Game game = randomGame(Position.START);
+        try (GameNotationWriter writer = GameNotationWriter.open(file)) {
+            writer.writeGame(game.start, game.moves, game.count, game.winner);
+        }
+        byte[] line = Files.readAllBytes(file);
+
+        // A comment that leaves only half of the game line in the first buffer full
+        byte[] text = new byte[READ_BUFFER_SIZE - line.length / 2 + line.length];
+        Arrays.fill(text, 0, READ_BUFFER_SIZE - line.length / 2, (byte) ' ');
+        text[0] = '#';
+        text[READ_BUFFER_SIZE - line.length / 2 - 1] = '\n';
+        System.arraycopy(line, 0, text, READ_BUFFER_SIZE - line.length / 2, line.length);
+        Files.write(file, text);
+
+        try (GameNotationReader reader = GameNotationReader.open(file)) {
+            assertTrue(reader.next());
+            assertEquals(2, reader.getLineNumber());
+            assertGameRead(game, reader);
+            assertFalse(reader.next());
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.foxandhounds.foxandhounds_v1.recording;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.foxandhounds.foxandhounds_v1.controller.AIController;
+import com.foxandhounds.foxandhounds_v1.model.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Writing, reading and crash recovery of game files
+ */
+class GameRecordWriterTest {
+
+    @TempDir
+    Path dir;
+
+    private Path file;
+    private final Random random = new Random(5);
+
+    @BeforeEach
+    void setUp() {
+        file = dir.resolve("games.bin");
+    }
+
+    /**
+     * A game of random legal moves from the start, possibly abandoned early
+     */
+    private GameRecord randomGame() {
+        Board board = new Board();
+        Position.START.copyTo(board);
+        int[] moves = new int[PackedMove.MAX_HOUND_MOVES];
+        byte[] plies = new byte[GameRecord.MAX_PLIES];
+        int plyCount = 0;
+        int length = random.nextInt(GameRecord.MAX_PLIES);
+        boolean houndsToMove = false;
+        GameState.Winner winner = GameState.Winner.NONE;
+
+        while (plyCount < length) {
+            int count = houndsToMove ? board.generateHoundMoves(moves, 0) : board.generateFoxMoves(moves, 0);
+            if (count == 0) {
+                winner = houndsToMove ? GameState.Winner.FOX : GameState.Winner.HOUNDS;
+                break;
+            }
+            int move = moves[random.nextInt(count)];
+            board.makeMove(move);
+            plies[plyCount++] = GameRecord.encodePly(PackedMove.piece(move), PackedMove.from(move), PackedMove.to(move));
+            if (Bitboards.row(board.getFoxSquare()) == 0) {
+                winner = GameState.Winner.FOX;
+                break;
+            }
+            houndsToMove = !houndsToMove;
+        }
+        AIController.Difficulty difficulty = AIController.Difficulty.values()[random.nextInt(AIController.Difficulty.values().length)];
+        return new GameRecord(difficulty, Position.START, winner, Arrays.copyOf(plies, plyCount));
+    }
+
+    private List<GameRecord> append(int count) throws IOException {
+        List<GameRecord> games = new ArrayList<>();
+        try (GameRecordWriter writer = GameRecordWriter.open(file)) {
+            for (int i = 0; i < count; i++) {
+                GameRecord game = randomGame();
+                writer.append(game);
+                games.add(game);
+            }
+        }
+        return games;
+    }
+
+    private List<GameRecord> readAll() throws IOException {
+        GameRecordReader reader = GameRecordReader.open(file);
+        List<GameRecord> games = new ArrayList<>();
+        for (int i = 0; i < reader.getGameCount(); i++) {
+            games.add(reader.read(i));
+        }
+        return games;
+    }
+
+    private static long encodedSize(List<GameRecord> games) {
+        long size = GameRecordWriter.HEADER_SIZE;
+        for (GameRecord game : games) {
+            size += game.getEncodedSize();
+        }
+        return size;
+    }
+
+    private static void truncate(Path path, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+
+    @Test
+    void recordsReadBackEqual() throws IOException {
+        GameRecord game = randomGame();
+        ByteBuffer buffer = ByteBuffer.allocate(game.getEncodedSize());
+        game.writeTo(buffer);
+        assertEquals(game, GameRecord.readFrom(buffer, 0));
+
+        List<GameRecord> games = append(200);
+        assertEquals(games, readAll());
+        assertEquals(encodedSize(games), Files.size(file));
+    }
+
+    @Test
+    void reopeningAppendsAfterTheLastGame() throws IOException {
+        List<GameRecord> games = append(5);
+        games.addAll(append(5));
+        assertEquals(games, readAll());
+    }
+
+    @Test
+    void dataCutMidRecordDropsTheGame() throws IOException {
+        List<GameRecord> games = append(10);
+        truncate(file, Files.size(file) - 1);
+        List<GameRecord> complete = new ArrayList<>(games.subList(0, 9));
+
+        // The reader alone already leaves the cut game out
+        assertEquals(complete, readAll());
+
+        try (GameRecordWriter writer = GameRecordWriter.open(file)) {
+            assertEquals(9, writer.getGameCount());
+        }
+        assertEquals(encodedSize(complete), Files.size(file));
+        assertEquals(9L * GameRecordWriter.INDEX_ENTRY_SIZE, Files.size(GameRecordWriter.indexPath(file)));
+
+        complete.addAll(append(3));
+        assertEquals(complete, readAll());
+        assertEquals(encodedSize(complete), Files.size(file));
+    }
+
+    @Test
+    void indexCutMidEntryDropsTheGame() throws IOException {
+        List<GameRecord> games = append(10);
+        Path index = GameRecordWriter.indexPath(file);
+        truncate(index, Files.size(index) - 3);
+        List<GameRecord> complete = new ArrayList<>(games.subList(0, 9));
+
+        // The last record is whole, but without its offset it is dropped from the data too
+        try (GameRecordWriter writer = GameRecordWriter.open(file)) {
+            assertEquals(9, writer.getGameCount());
+        }
+        assertEquals(encodedSize(complete), Files.size(file));
+        assertEquals(complete, readAll());
+
+        complete.addAll(append(3));
+        assertEquals(complete, readAll());
+    }
+
+    @Test
+    void bothFilesCutMidRecordKeepTheCompleteGames() throws IOException {
+        List<GameRecord> games = append(10);
+        List<GameRecord> complete = new ArrayList<>(games.subList(0, 6));
+
+        // Cut the data in the middle of game 7 and the index in the middle of its offset
+        truncate(file, encodedSize(complete) + games.get(6).getEncodedSize() / 2);
+        truncate(GameRecordWriter.indexPath(file), 6L * GameRecordWriter.INDEX_ENTRY_SIZE + 4);
+
+        complete.addAll(append(2));
+        assertEquals(complete, readAll());
+        assertEquals(encodedSize(complete), Files.size(file));
+    }
+
+    @Test
+    void offsetPastTheDataIsDropped() throws IOException {
+        List<GameRecord> games = append(4);
+        try (FileChannel index = FileChannel.open(GameRecordWriter.indexPath(file), StandardOpenOption.APPEND)) {
+            index.write(ByteBuffer.allocate(GameRecordWriter.INDEX_ENTRY_SIZE).putLong(0, Files.size(file)));
+        }
+        assertEquals(games, readAll());
+
+        games.addAll(append(1));
+        assertEquals(games, readAll());
+    }
+
+    @Test
+    void rejectsFilesThatAreNotGameRecordings() throws IOException {
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+        assertThrows(IOException.class, () -> GameRecordWriter.open(file));
+        assertThrows(IOException.class, () -> GameRecordReader.open(file));
+    }
+}